@@ -33,14 +33,14 @@ public class AdminStatisticsBatchConfig {
     @Bean
     public Step dailyStatisticsStep(JobRepository jobRepository,
                                     PlatformTransactionManager transactionManager,
-                                    ItemReader<DailyStatisticsDTO> reader,
+                                    ItemReader<DailyStatisticsDTO> adminStatisticsReader,
                                     ItemProcessor<DailyStatisticsDTO, DailyStatistics> processor,
-                                    ItemWriter<DailyStatistics> writer) {
+                                    ItemWriter<DailyStatistics> adminStatisticsWriter) {
         return new StepBuilder("dailyStatisticsStep", jobRepository)
                 .<DailyStatisticsDTO, DailyStatistics>chunk(10, transactionManager)
-                .reader(reader)
+                .reader(adminStatisticsReader)
                 .processor(processor)
-                .writer(writer)
+                .writer(adminStatisticsWriter)
                 .build();
     }
 
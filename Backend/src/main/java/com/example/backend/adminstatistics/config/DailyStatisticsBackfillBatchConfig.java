@@ -0,0 +1,212 @@
+package com.example.backend.adminstatistics.config;
+
+import com.example.backend.adminstatistics.dto.DailyStatisticsDTO;
+import com.example.backend.adminstatistics.entity.DailyStatistics;
+import com.example.backend.adminstatistics.processor.AdminStatisticsProcessor;
+import com.example.backend.adminstatistics.reader.DailyStatisticsAggregator;
+import com.example.backend.adminstatistics.reader.DailyStatisticsRangeReader;
+import com.example.backend.adminstatistics.repository.StatisticsRollupJdbcRepository;
+import com.example.backend.adminstatistics.writer.AdminStatisticsWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * 일별 통계 백필 배치
+ * - job 파라미터 from, to (yyyy-MM-dd, to 생략 시 어제) 기간을 월 단위로 나눠 (partition) concurrency 개까지 병렬 처리한다.
+ * - 파티션마다 한 달을 테이블별 범위 조건으로 한 번씩 읽고 (DailyStatisticsRangeReader), chunk-size 일씩 batch upsert 한다.
+ * - 누적값 시작값은 partitioner 가 job 시작 때 한 번 만든다. from 이전 이력을 한 번 집계하고 테이블별 월 합계
+ *   (GROUP BY YEAR, MONTH) 를 차례로 더해 달마다 전달 말일까지의 누적값을 파티션 컨텍스트 (opening.*) 로 넘긴다.
+ *   (파티션마다 이전 이력 전체를 다시 집계하지 않고, 날짜별 범위 조회는 파티션에서만 병렬로 한다)
+ * - 주/월 합계는 파티션끼리 경계 주를 동시에 건드리지 않도록 마지막 step 에서 기간 전체를 한 번에 갱신한다.
+ * - 식별 파라미터는 from, to, run.id 다. 같은 run.id 로 다시 실행하면 JobRepository 에 남은 실행을 이어서
+ *   끝난 파티션은 건너뛰고 실패한 파티션은 마지막으로 쓴 날짜 다음부터 재시작하고 (저장된 파티션 컨텍스트를 그대로 쓴다),
+ *   새 run.id 면 끝난 기간도 처음부터 다시 계산한다. (POST /api/v1/admin/statistics/backfill -> AdminStatisticsScheduler.runDailyStatisticsBackfill)
+ */
+@Slf4j
+@Configuration
+public class DailyStatisticsBackfillBatchConfig {
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final DailyStatisticsAggregator dailyStatisticsAggregator;
+    private final AdminStatisticsProcessor adminStatisticsProcessor;
+    private final AdminStatisticsWriter adminStatisticsWriter;
+    private final StatisticsRollupJdbcRepository statisticsRollupJdbcRepository;
+    private final int chunkSize;
+    private final int concurrency;
+
+    public DailyStatisticsBackfillBatchConfig(
+            JobRepository jobRepository,
+            PlatformTransactionManager platformTransactionManager,
+            DailyStatisticsAggregator dailyStatisticsAggregator,
+            AdminStatisticsProcessor adminStatisticsProcessor,
+            AdminStatisticsWriter adminStatisticsWriter,
+            StatisticsRollupJdbcRepository statisticsRollupJdbcRepository,
+            @Value("${admin.statistics.backfill.chunk-size:31}") int chunkSize,
+            @Value("${admin.statistics.backfill.concurrency:4}") int concurrency
+    ) {
+        this.jobRepository = jobRepository;
+        this.platformTransactionManager = platformTransactionManager;
+        this.dailyStatisticsAggregator = dailyStatisticsAggregator;
+        this.adminStatisticsProcessor = adminStatisticsProcessor;
+        this.adminStatisticsWriter = adminStatisticsWriter;
+        this.statisticsRollupJdbcRepository = statisticsRollupJdbcRepository;
+        this.chunkSize = chunkSize;
+        this.concurrency = concurrency;
+    }
+
+    // 기간 일별 통계 재계산 작업
+    @Bean
+    public Job dailyStatisticsBackfillJob() {
+        return new JobBuilder("dailyStatisticsBackfillJob", jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(dailyStatisticsBackfillStep())
+                .next(statisticsRollupStep())
+                .build();
+    }
+
+    // 월별 파티션을 병렬 실행
+    @Bean
+    public Step dailyStatisticsBackfillStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("daily-statistics-backfill-");
+        taskExecutor.setConcurrencyLimit(concurrency);
+
+        return new StepBuilder("dailyStatisticsBackfillStep", jobRepository)
+                .partitioner("dailyStatisticsBackfillWorkerStep", monthPartitioner(null, null))
+                .step(dailyStatisticsBackfillWorkerStep())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @Bean
+    public Step dailyStatisticsBackfillWorkerStep() {
+        return new StepBuilder("dailyStatisticsBackfillWorkerStep", jobRepository)
+                .<DailyStatisticsDTO, DailyStatistics>chunk(chunkSize, platformTransactionManager)
+                .reader(dailyStatisticsRangeReader(null))
+                .processor(adminStatisticsProcessor)
+                .writer(adminStatisticsWriter::upsert) // daily_statistics 만 batch upsert (주/월 합계는 statisticsRollupStep)
+                .build();
+    }
+
+    // 백필 기간 전체의 주/월 합계 갱신
+    @Bean
+    public Step statisticsRollupStep() {
+        return new StepBuilder("statisticsRollupStep", jobRepository)
+                .tasklet(statisticsRollupTasklet(null, null), platformTransactionManager)
+                .build();
+    }
+
+    // from ~ to 를 달력 월 단위로 나누고 달마다 시작 누적값을 넣는다 (gridSize 는 쓰지 않는다)
+    @Bean
+    @StepScope
+    public Partitioner monthPartitioner(
+            @Value("#{jobParameters['from']}") String from,
+            @Value("#{jobParameters['to']}") String to
+    ) {
+        LocalDate start = LocalDate.parse(from);
+        LocalDate end = endDate(to);
+        return gridSize -> {
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            if (start.isAfter(end)) return partitions;
+
+            // from 이전 이력 1번 + 테이블별 월 합계 1번으로 모든 달의 시작값을 만든다 (날짜별 집계는 파티션이 한다)
+            Map<LocalDate, DailyStatisticsDTO> openings = dailyStatisticsAggregator.monthlyOpenings(start, end);
+
+            for (LocalDate month = start.withDayOfMonth(1); !month.isAfter(end); month = month.plusMonths(1)) {
+                LocalDate partitionFrom = month.isBefore(start) ? start : month;
+                LocalDate monthEnd = month.plusMonths(1).minusDays(1);
+                LocalDate partitionTo = monthEnd.isAfter(end) ? end : monthEnd;
+
+                ExecutionContext context = new ExecutionContext();
+                context.putString("from", partitionFrom.toString());
+                context.putString("to", partitionTo.toString());
+                putOpening(context, openings.get(partitionFrom));
+                partitions.put("partition-" + month.toString().substring(0, 7), context);
+            }
+            log.info("Daily statistics backfill partitioned. from={}, to={}, months={}", start, end, partitions.size());
+            return partitions;
+        };
+    }
+
+    @Bean
+    @StepScope
+    public DailyStatisticsRangeReader dailyStatisticsRangeReader(@Value("#{stepExecutionContext}") Map<String, Object> context) {
+        LocalDate from = LocalDate.parse((String) context.get("from"));
+        LocalDate to = LocalDate.parse((String) context.get("to"));
+        return new DailyStatisticsRangeReader(dailyStatisticsAggregator, from, to, opening(context, from.minusDays(1)));
+    }
+
+    @Bean
+    @StepScope
+    public Tasklet statisticsRollupTasklet(
+            @Value("#{jobParameters['from']}") String from,
+            @Value("#{jobParameters['to']}") String to
+    ) {
+        return (contribution, chunkContext) -> {
+            LocalDate start = LocalDate.parse(from);
+            LocalDate end = endDate(to);
+            if (!start.isAfter(end)) statisticsRollupJdbcRepository.refresh(start, end);
+            return RepeatStatus.FINISHED;
+        };
+    }
+
+    // 파티션 시작 누적값 (전달 말일까지) 저장
+    private static void putOpening(ExecutionContext context, DailyStatisticsDTO opening) {
+        context.putLong("opening.totalUsers", opening.getTotalUsers());
+        context.putLong("opening.totalSurveys", opening.getTotalSurveys());
+        context.putLong("opening.totalResponses", opening.getTotalResponses());
+        context.putLong("opening.totalPointsIssued", opening.getTotalPointsIssued());
+        context.putLong("opening.totalPointsUsed", opening.getTotalPointsUsed());
+        context.putLong("opening.currentCirculatingPoints", opening.getCurrentCirculatingPoints());
+        context.putLong("opening.totalWithdrawalAmount", opening.getTotalWithdrawalAmount());
+        context.putLong("opening.totalRevenue", opening.getTotalRevenue());
+        context.putLong("opening.totalPaymentCount", opening.getTotalPaymentCount());
+    }
+
+    private static DailyStatisticsDTO opening(Map<String, Object> context, LocalDate date) {
+        return DailyStatisticsDTO.builder()
+                .statDate(date)
+                .totalUsers(openingValue(context, "opening.totalUsers"))
+                .totalSurveys(openingValue(context, "opening.totalSurveys"))
+                .totalResponses(openingValue(context, "opening.totalResponses"))
+                .totalPointsIssued(openingValue(context, "opening.totalPointsIssued"))
+                .totalPointsUsed(openingValue(context, "opening.totalPointsUsed"))
+                .currentCirculatingPoints(openingValue(context, "opening.currentCirculatingPoints"))
+                .totalWithdrawalAmount(openingValue(context, "opening.totalWithdrawalAmount"))
+                .totalRevenue(openingValue(context, "opening.totalRevenue"))
+                .totalPaymentCount(openingValue(context, "opening.totalPaymentCount"))
+                .build();
+    }
+
+    private static Long openingValue(Map<String, Object> context, String key) {
+        Object value = context.get(key);
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    // to 생략 또는 오늘 이후면 어제까지 (오늘은 아직 끝나지 않았다)
+    private static LocalDate endDate(String to) {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        if (to == null) return yesterday;
+        LocalDate end = LocalDate.parse(to);
+        return end.isAfter(yesterday) ? yesterday : end;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.backend.adminstatistics.dto.DailyStatisticsDTO;
 import com.example.backend.adminstatistics.dto.GraphResponseDto;
 import com.example.backend.adminstatistics.dto.PointLogDto;
 import com.example.backend.adminstatistics.exception.AdminStatisticsSuccessType;
+import com.example.backend.adminstatistics.scheduler.AdminStatisticsScheduler;
 import com.example.backend.adminstatistics.service.AdminStatisticsService;
 import com.example.backend.global.common.ApiResponse;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +21,7 @@ import java.time.LocalDate;
 public class AdminStatisticsController {
 
     private final AdminStatisticsService adminStatisticsService;
+    private final AdminStatisticsScheduler adminStatisticsScheduler;
 
     // 기존: 특정 날짜 통계 조회
     @GetMapping("/date/{statDate}")
@@ -53,4 +55,29 @@ public class AdminStatisticsController {
         GraphResponseDto result = adminStatisticsService.getPointGraph(interval);
         return ResponseEntity.ok(ApiResponse.success(AdminStatisticsSuccessType.SUCCESS_GET_STATISTICS, result));
     }
+
+    // 기간 그래프 (maxPoints 를 넘지 않는 가장 촘촘한 단위로 자동 선택)
+    @GetMapping("/points/graph/range")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<GraphResponseDto>> getPointGraphByRange(
+            @RequestParam String from, // yyyy-MM-dd
+            @RequestParam String to,
+            @RequestParam(required = false) String interval, // 최소 단위: daily, weekly, monthly
+            @RequestParam(defaultValue = "60") int maxPoints
+    ) {
+        GraphResponseDto result = adminStatisticsService.getPointGraph(LocalDate.parse(from), LocalDate.parse(to), interval, maxPoints);
+        return ResponseEntity.ok(ApiResponse.success(AdminStatisticsSuccessType.SUCCESS_GET_STATISTICS, result));
+    }
+
+    // 기간 일별 통계 재계산 (백필 배치를 시작하고 job 실행 id 를 바로 돌려준다)
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Long>> runDailyStatisticsBackfill(
+            @RequestParam String from, // yyyy-MM-dd
+            @RequestParam(required = false) String to // 생략 시 어제
+    ) throws Exception {
+        LocalDate end = to == null ? LocalDate.now().minusDays(1) : LocalDate.parse(to);
+        Long jobExecutionId = adminStatisticsScheduler.runDailyStatisticsBackfill(LocalDate.parse(from), end);
+        return ResponseEntity.ok(ApiResponse.success(AdminStatisticsSuccessType.SUCCESS_START_STATISTICS_BACKFILL, jobExecutionId));
+    }
 }
@@ -0,0 +1,40 @@
+package com.example.backend.adminstatistics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+/* 월별 통계 (daily_statistics 합계, 1일 시작) */
+@Entity
+@Table(name = "monthly_statistics",
+        uniqueConstraints = @UniqueConstraint(columnNames = "month_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "month_start", nullable = false, unique = true)
+    private LocalDate monthStart;
+
+    @Column(name = "new_users")
+    private Long newUsers;
+
+    @Column(name = "active_users")
+    private Long activeUsers;
+
+    @Column(name = "points_issued")
+    private Long pointsIssued;
+
+    @Column(name = "points_used")
+    private Long pointsUsed;
+
+    @Column(name = "revenue")
+    private Long revenue;
+
+}
@@ -0,0 +1,40 @@
+package com.example.backend.adminstatistics.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+
+/* 주별 통계 (daily_statistics 합계, 월요일 시작) */
+@Entity
+@Table(name = "weekly_statistics",
+        uniqueConstraints = @UniqueConstraint(columnNames = "week_start"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WeeklyStatistics {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "week_start", nullable = false, unique = true)
+    private LocalDate weekStart;
+
+    @Column(name = "new_users")
+    private Long newUsers;
+
+    @Column(name = "active_users")
+    private Long activeUsers;
+
+    @Column(name = "points_issued")
+    private Long pointsIssued;
+
+    @Column(name = "points_used")
+    private Long pointsUsed;
+
+    @Column(name = "revenue")
+    private Long revenue;
+
+}
@@ -14,6 +14,7 @@ public enum AdminStatisticsErrorType implements ErrorType {
     ERROR_STATISTICS_INVALID_DATE(HttpStatus.BAD_REQUEST, "유효하지 않은 날짜입니다."),
     ERROR_UNAUTHORIZED_ACCESS(HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
     ERROR_STATISTICS_INVALID_INTERVAL(HttpStatus.BAD_REQUEST, "유효하지 않은 기간 구분입니다."),
+    ERROR_STATISTICS_BACKFILL_RUNNING(HttpStatus.CONFLICT, "같은 기간의 통계 재계산이 이미 실행 중입니다."),
     ;
 
     private final HttpStatus httpStatus;
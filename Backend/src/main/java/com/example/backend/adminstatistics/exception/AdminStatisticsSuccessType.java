@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 public enum AdminStatisticsSuccessType implements SuccessType {
 
     SUCCESS_GET_STATISTICS(HttpStatus.OK, "통계 정보 조회에 성공했습니다."),
+    SUCCESS_START_STATISTICS_BACKFILL(HttpStatus.ACCEPTED, "통계 재계산을 시작했습니다."),
 
     ;
 
@@ -0,0 +1,364 @@
+package com.example.backend.adminstatistics.reader;
+
+import com.example.backend.adminstatistics.dto.DailyStatisticsDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/*
+ * 일별 통계 증분 집계
+ * - 테이블마다 [from, to + 1일) 구간만 범위 조건 (created_at >= ? AND created_at < ?) 으로 한 번씩 읽어 날짜별로 묶는다.
+ *   (DATE(created_at) = ? 조건은 인덱스를 못 타고, total_* 를 매일 전체 이력에서 다시 세면 비용이 이력에 비례해 늘어난다)
+ *   백필 파티션 시작값 (monthlyOpenings) 은 같은 조회를 월별로 묶어 만든다.
+ * - total_* 는 from 전날 daily_statistics 행의 누적값 + 날짜별 증가분으로 만든다.
+ *   전날 행이 없으면 (첫 실행, 중간 공백) from 이전 구간을 한 번 집계해 시작값으로 쓴다.
+ *   백필처럼 전날 행도 함께 다시 만드는 중이면 호출하는 쪽이 시작 누적값 (opening) 을 넘긴다.
+ * - 매월 1일은 전날 행 대신 이전 구간 전체를 다시 집계해 시작한다. (취소된 결제처럼 증분으로 따라가지 못하는 변경이
+ *   누적값에 쌓여도 한 달 안에 바로잡힌다)
+ * - 사용자 수는 가입 (삭제 여부와 무관) - 탈퇴 (is_deleted 이고 updated_at 이 그날) 로 증감한다.
+ *   new_users 는 그날 가입해 아직 탈퇴하지 않은 사용자 수다.
+ * - 결제 건수는 승인 시각 (approval_at) 기준이다. (생성 후 다음 날 승인된 결제가 빠지지 않도록)
+ * - current_circulating_points 는 과거 날짜는 누적값 + (지급 - 사용) 으로 만들고,
+ *   마지막 날짜가 어제 이후면 현재 SUM(users.point) 로 맞춘다. 다음 날 집계는 이 값에서 이어간다.
+ * - 진행 중 설문 수, 대기/실패 환급 건수도 현재 상태 값이라 과거 날짜로 되돌릴 수 없다.
+ *   마지막 날짜가 어제 이후일 때만 채우고, 과거 날짜는 null 로 둬서 writer 가 기존 값을 유지한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class DailyStatisticsAggregator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // from ~ to 날짜별 통계 (날짜 오름차순)
+    public List<DailyStatisticsDTO> aggregate(LocalDate from, LocalDate to) {
+        return aggregate(from, to, (Totals) null);
+    }
+
+    // from ~ to 날짜별 통계 (opening: from 전날까지의 누적값, total_* 만 쓴다)
+    public List<DailyStatisticsDTO> aggregate(LocalDate from, LocalDate to, DailyStatisticsDTO opening) {
+        return aggregate(from, to, Totals.from(opening));
+    }
+
+    /*
+     * from ~ to 를 달력 월로 나눈 구간마다 시작 누적값 (키는 구간 시작일, 값은 그 전날까지의 total_*)
+     * - from 이전 이력 1번 + 테이블마다 월 단위 합계 (GROUP BY YEAR, MONTH) 1번을 차례로 더한다.
+     * - 날짜별 집계는 하지 않는다. (백필 파티션이 자기 달만 나눠서 한다)
+     */
+    public Map<LocalDate, DailyStatisticsDTO> monthlyOpenings(LocalDate from, LocalDate to) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        Map<LocalDate, Delta> months = new TreeMap<>();
+        for (LocalDate month = from.withDayOfMonth(1); !month.isAfter(to); month = month.plusMonths(1)) {
+            months.put(month, new Delta());
+        }
+        scanDeltas(Bucket.MONTH, start, end, months);
+
+        Totals totals = history(start);
+        Map<LocalDate, DailyStatisticsDTO> openings = new LinkedHashMap<>();
+        months.forEach((month, delta) -> {
+            LocalDate partitionFrom = month.isBefore(from) ? from : month;
+            openings.put(partitionFrom, totals.toDto(partitionFrom.minusDays(1)));
+            totals.add(delta);
+        });
+        return openings;
+    }
+
+    private List<DailyStatisticsDTO> aggregate(LocalDate from, LocalDate to, Totals opening) {
+        Timestamp start = Timestamp.valueOf(from.atStartOfDay());
+        Timestamp end = Timestamp.valueOf(to.plusDays(1).atStartOfDay());
+
+        Map<LocalDate, Delta> deltas = new TreeMap<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            deltas.put(date, new Delta());
+        }
+        scanDeltas(Bucket.DAY, start, end, deltas);
+
+        Totals totals = opening != null ? opening : baseline(from, start);
+        Gauges gauges = to.isBefore(LocalDate.now().minusDays(1)) ? null : gauges();
+
+        List<DailyStatisticsDTO> result = new ArrayList<>(deltas.size());
+        deltas.forEach((date, delta) -> {
+            totals.add(delta);
+            boolean last = date.equals(to);
+            result.add(DailyStatisticsDTO.builder()
+                    .statDate(date)
+                    .totalUsers(totals.users)
+                    .newUsers(delta.newUsers)
+                    .activeUsers(delta.activeUsers)
+                    .totalSurveys(totals.surveys)
+                    .activeSurveys(last && gauges != null ? gauges.activeSurveys : null)
+                    .totalResponses(totals.responses)
+                    .dailyResponses(delta.responses)
+                    .totalPointsIssued(totals.pointsIssued)
+                    .dailyPointsIssued(delta.pointsIssued)
+                    .totalPointsUsed(totals.pointsUsed)
+                    .dailyPointsUsed(delta.pointsUsed)
+                    .currentCirculatingPoints(last && gauges != null ? gauges.circulatingPoints : totals.circulatingPoints)
+                    .totalWithdrawalAmount(totals.withdrawalAmount)
+                    .dailyWithdrawalAmount(delta.withdrawalAmount)
+                    .dailyWithdrawalCount(delta.withdrawalCount)
+                    .pendingWithdrawalCount(last && gauges != null ? gauges.pendingWithdrawals : null)
+                    .failedWithdrawalCount(last && gauges != null ? gauges.failedWithdrawals : null)
+                    .totalRevenue(totals.revenue)
+                    .dailyRevenue(delta.revenue)
+                    .totalPaymentCount(totals.payments)
+                    .dailyPaymentCount(delta.payments)
+                    .build());
+        });
+        return result;
+    }
+
+    // from 전날까지의 누적값 (전날 통계 행, 없거나 매월 1일이면 from 이전 구간 집계)
+    private Totals baseline(LocalDate from, Timestamp start) {
+        if (from.getDayOfMonth() == 1) return history(start);
+
+        List<Totals> previous = jdbcTemplate.query("""
+                SELECT total_users, total_surveys, total_responses, total_points_issued, total_points_used,
+                       current_circulating_points, total_withdrawal_amount, total_revenue, total_payment_count
+                FROM daily_statistics WHERE stat_date = ?
+                """, (rs, rowNum) -> {
+            Totals totals = new Totals();
+            totals.users = rs.getLong(1);
+            totals.surveys = rs.getLong(2);
+            totals.responses = rs.getLong(3);
+            totals.pointsIssued = rs.getLong(4);
+            totals.pointsUsed = rs.getLong(5);
+            totals.circulatingPoints = rs.getLong(6);
+            totals.withdrawalAmount = rs.getLong(7);
+            totals.revenue = rs.getLong(8);
+            totals.payments = rs.getLong(9);
+            return totals;
+        }, from.minusDays(1));
+        if (!previous.isEmpty()) return previous.get(0);
+
+        return history(start);
+    }
+
+    // start 이전 전체 이력 집계
+    private Totals history(Timestamp start) {
+        return jdbcTemplate.queryForObject("""
+                SELECT
+                    (SELECT COUNT(*) FROM users WHERE created_at < ? AND (is_deleted = false OR updated_at >= ?)),
+                    (SELECT COUNT(*) FROM surveys WHERE created_at < ?),
+                    (SELECT COUNT(*) FROM user_surveys WHERE created_at < ?),
+                    (SELECT COALESCE(SUM(CASE WHEN type = 'GET' THEN amount ELSE 0 END), 0) FROM point_record WHERE created_at < ?),
+                    (SELECT COALESCE(SUM(CASE WHEN type = 'USE' THEN amount ELSE 0 END), 0) FROM point_record WHERE created_at < ?),
+                    (SELECT COALESCE(SUM(platform_fee), 0) FROM point_record WHERE created_at < ?),
+                    (SELECT COALESCE(SUM(amount), 0) FROM withdrawal_requests WHERE completed_at < ? AND status = 'COMPLETED'),
+                    (SELECT COUNT(*) FROM payments WHERE status = 'CONFIRMED' AND approval_at < ?)
+                """, (rs, rowNum) -> {
+            Totals totals = new Totals();
+            totals.users = rs.getLong(1);
+            totals.surveys = rs.getLong(2);
+            totals.responses = rs.getLong(3);
+            totals.pointsIssued = rs.getLong(4);
+            totals.pointsUsed = rs.getLong(5);
+            totals.circulatingPoints = totals.pointsIssued - totals.pointsUsed;
+            totals.revenue = rs.getLong(6);
+            totals.withdrawalAmount = rs.getLong(7);
+            totals.payments = rs.getLong(8);
+            return totals;
+        }, start, start, start, start, start, start, start, start, start);
+    }
+
+    // 현재 상태 값 (작은 집계 1번)
+    private Gauges gauges() {
+        return jdbcTemplate.queryForObject("""
+                SELECT
+                    (SELECT COUNT(*) FROM surveys WHERE state = 'IN_PROCESS'),
+                    (SELECT COUNT(*) FROM withdrawal_requests WHERE status = 'PENDING'),
+                    (SELECT COUNT(*) FROM withdrawal_requests WHERE status = 'FAILED'),
+                    (SELECT COALESCE(SUM(point), 0) FROM users WHERE is_deleted = false)
+                """, (rs, rowNum) -> new Gauges(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)));
+    }
+
+    // 테이블마다 [start, end) 를 bucket (날짜 / 월) 별로 한 번씩 읽어 증가분을 채운다
+    private void scanDeltas(Bucket bucket, Timestamp start, Timestamp end, Map<LocalDate, Delta> deltas) {
+        int k = bucket.width;
+
+        scan(bucket, "created_at", """
+                SELECT %s, COUNT(*), COALESCE(SUM(CASE WHEN is_deleted = false THEN 1 ELSE 0 END), 0) FROM users
+                WHERE created_at >= ? AND created_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> {
+            delta.signUps = rs.getLong(k + 1);
+            delta.newUsers = rs.getLong(k + 2);
+        });
+
+        scan(bucket, "updated_at", """
+                SELECT %s, COUNT(*) FROM users
+                WHERE is_deleted = true AND updated_at >= ? AND updated_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> delta.deletedUsers = rs.getLong(k + 1));
+
+        scan(bucket, "created_at", """
+                SELECT %s, COUNT(*) FROM surveys
+                WHERE created_at >= ? AND created_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> delta.newSurveys = rs.getLong(k + 1));
+
+        scan(bucket, "created_at", """
+                SELECT %s, COUNT(*) FROM user_surveys
+                WHERE created_at >= ? AND created_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> delta.responses = rs.getLong(k + 1));
+
+        scan(bucket, "created_at", """
+                SELECT %s,
+                       COALESCE(SUM(CASE WHEN type = 'GET' THEN amount ELSE 0 END), 0),
+                       COALESCE(SUM(CASE WHEN type = 'USE' THEN amount ELSE 0 END), 0),
+                       COALESCE(SUM(platform_fee), 0),
+                       COUNT(DISTINCT user_id)
+                FROM point_record
+                WHERE created_at >= ? AND created_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> {
+            delta.pointsIssued = rs.getLong(k + 1);
+            delta.pointsUsed = rs.getLong(k + 2);
+            delta.revenue = rs.getLong(k + 3);
+            delta.activeUsers = rs.getLong(k + 4);
+        });
+
+        scan(bucket, "completed_at", """
+                SELECT %s, COALESCE(SUM(amount), 0), COUNT(*) FROM withdrawal_requests
+                WHERE completed_at >= ? AND completed_at < ? AND status = 'COMPLETED'
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> {
+            delta.withdrawalAmount = rs.getLong(k + 1);
+            delta.withdrawalCount = rs.getLong(k + 2);
+        });
+
+        scan(bucket, "approval_at", """
+                SELECT %s, COUNT(*) FROM payments
+                WHERE status = 'CONFIRMED' AND approval_at >= ? AND approval_at < ?
+                GROUP BY %s
+                """, start, end, deltas, (rs, delta) -> delta.payments = rs.getLong(k + 1));
+    }
+
+    private void scan(Bucket bucket, String column, String sql, Timestamp start, Timestamp end,
+                      Map<LocalDate, Delta> deltas, DeltaMapper mapper) {
+        String key = bucket.expression(column);
+        jdbcTemplate.query(sql.formatted(key, key), (RowCallbackHandler) rs -> {
+            Delta delta = deltas.get(bucket.key(rs));
+            if (delta != null) mapper.map(rs, delta);
+        }, start, end);
+    }
+
+    // 집계 단위 (키 컬럼 수 width)
+    private enum Bucket {
+        DAY(1), MONTH(2);
+
+        private final int width;
+
+        Bucket(int width) {
+            this.width = width;
+        }
+
+        private String expression(String column) {
+            return this == DAY
+                    ? "DATE(" + column + ")"
+                    : "YEAR(" + column + "), MONTH(" + column + ")";
+        }
+
+        private LocalDate key(ResultSet rs) throws SQLException {
+            return this == DAY
+                    ? rs.getDate(1).toLocalDate()
+                    : LocalDate.of(rs.getInt(1), rs.getInt(2), 1);
+        }
+    }
+
+    @FunctionalInterface
+    private interface DeltaMapper {
+        void map(ResultSet rs, Delta delta) throws SQLException;
+    }
+
+    // 하루 증가분
+    private static final class Delta {
+        private long signUps;
+        private long deletedUsers;
+        private long newUsers;
+        private long activeUsers;
+        private long newSurveys;
+        private long responses;
+        private long pointsIssued;
+        private long pointsUsed;
+        private long revenue;
+        private long withdrawalAmount;
+        private long withdrawalCount;
+        private long payments;
+    }
+
+    // 누적값
+    private static final class Totals {
+        private long users;
+        private long surveys;
+        private long responses;
+        private long pointsIssued;
+        private long pointsUsed;
+        private long circulatingPoints;
+        private long withdrawalAmount;
+        private long revenue;
+        private long payments;
+
+        private static Totals from(DailyStatisticsDTO day) {
+            if (day == null) return null;
+            Totals totals = new Totals();
+            totals.users = nz(day.getTotalUsers());
+            totals.surveys = nz(day.getTotalSurveys());
+            totals.responses = nz(day.getTotalResponses());
+            totals.pointsIssued = nz(day.getTotalPointsIssued());
+            totals.pointsUsed = nz(day.getTotalPointsUsed());
+            totals.circulatingPoints = nz(day.getCurrentCirculatingPoints());
+            totals.withdrawalAmount = nz(day.getTotalWithdrawalAmount());
+            totals.revenue = nz(day.getTotalRevenue());
+            totals.payments = nz(day.getTotalPaymentCount());
+            return totals;
+        }
+
+        private DailyStatisticsDTO toDto(LocalDate date) {
+            return DailyStatisticsDTO.builder()
+                    .statDate(date)
+                    .totalUsers(users)
+                    .totalSurveys(surveys)
+                    .totalResponses(responses)
+                    .totalPointsIssued(pointsIssued)
+                    .totalPointsUsed(pointsUsed)
+                    .currentCirculatingPoints(circulatingPoints)
+                    .totalWithdrawalAmount(withdrawalAmount)
+                    .totalRevenue(revenue)
+                    .totalPaymentCount(payments)
+                    .build();
+        }
+
+        private static long nz(Long value) {
+            return value == null ? 0L : value;
+        }
+
+        private void add(Delta delta) {
+            users += delta.signUps - delta.deletedUsers;
+            surveys += delta.newSurveys;
+            responses += delta.responses;
+            pointsIssued += delta.pointsIssued;
+            pointsUsed += delta.pointsUsed;
+            circulatingPoints += delta.pointsIssued - delta.pointsUsed;
+            withdrawalAmount += delta.withdrawalAmount;
+            revenue += delta.revenue;
+            payments += delta.payments;
+        }
+    }
+
+    private record Gauges(long activeSurveys, long pendingWithdrawals, long failedWithdrawals, long circulatingPoints) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.backend.adminstatistics.reader;
+
+import com.example.backend.adminstatistics.dto.DailyStatisticsDTO;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+
+/*
+ * 기간 일별 통계 reader (백필 파티션용)
+ * - open 시 from ~ to 를 테이블마다 범위 조건으로 한 번씩 읽어 날짜별 통계를 만든다.
+ * - 읽은 건수를 step 실행 컨텍스트에 저장해, 재시작하면 다시 집계한 뒤 이미 쓴 날짜를 건너뛴다.
+ * - 앞 구간 행을 다른 파티션이 동시에 다시 쓰므로 daily_statistics 전날 행 대신 partitioner 가 넘긴
+ *   시작 누적값 (opening) 으로 시작한다. (파티션마다 이전 이력 전체를 다시 집계하지 않는다)
+ */
+public class DailyStatisticsRangeReader extends AbstractItemCountingItemStreamItemReader<DailyStatisticsDTO> {
+
+    private final DailyStatisticsAggregator dailyStatisticsAggregator;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final DailyStatisticsDTO opening;
+
+    private Iterator<DailyStatisticsDTO> statistics;
+
+    public DailyStatisticsRangeReader(DailyStatisticsAggregator dailyStatisticsAggregator, LocalDate from, LocalDate to, DailyStatisticsDTO opening) {
+        this.dailyStatisticsAggregator = dailyStatisticsAggregator;
+        this.from = from;
+        this.to = to;
+        this.opening = opening;
+        setName("dailyStatisticsRangeReader");
+    }
+
+    @Override
+    protected void doOpen() {
+        statistics = dailyStatisticsAggregator.aggregate(from, to, opening).iterator();
+    }
+
+    @Override
+    protected DailyStatisticsDTO doRead() {
+        return statistics.hasNext() ? statistics.next() : null;
+    }
+
+    @Override
+    protected void doClose() {
+        statistics = null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.adminstatistics.repository;
+
+import com.example.backend.adminstatistics.entity.MonthlyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface MonthlyStatisticsRepository extends JpaRepository<MonthlyStatistics, Long> {
+
+    List<MonthlyStatistics> findByMonthStartBetweenOrderByMonthStartAsc(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,84 @@
+package com.example.backend.adminstatistics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/*
+ * 주별/월별 통계 갱신 (일별 통계 writer 에서 호출)
+ * - 바뀐 날짜가 속한 주/월 전체를 daily_statistics 에서 다시 합산해 upsert 한다.
+ *   (그래프 요청마다 일별 행을 읽어 Java 에서 묶던 것을 미리 만들어 둔다)
+ * - 주는 월요일, 월은 1일 날짜를 키로 쓴다.
+ * - 합계 테이블 도입 전 일별 통계는 기동 시 seedMissing 으로 한 번 채운다 (빠진 주/월이 없으면 아무것도 하지 않는다).
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRollupJdbcRepository {
+
+    private static final String WEEKLY_SQL = """
+            INSERT INTO weekly_statistics (week_start, new_users, active_users, points_issued, points_used, revenue)
+            SELECT DATE_SUB(stat_date, INTERVAL WEEKDAY(stat_date) DAY) AS period_start,
+                   SUM(new_users), SUM(active_users), SUM(daily_points_issued), SUM(daily_points_used), SUM(daily_revenue)
+            FROM daily_statistics
+            WHERE stat_date >= ? AND stat_date < ?
+            GROUP BY period_start
+            ON DUPLICATE KEY UPDATE
+                new_users = VALUES(new_users),
+                active_users = VALUES(active_users),
+                points_issued = VALUES(points_issued),
+                points_used = VALUES(points_used),
+                revenue = VALUES(revenue)
+            """;
+
+    private static final String MONTHLY_SQL = """
+            INSERT INTO monthly_statistics (month_start, new_users, active_users, points_issued, points_used, revenue)
+            SELECT DATE_SUB(stat_date, INTERVAL DAYOFMONTH(stat_date) - 1 DAY) AS period_start,
+                   SUM(new_users), SUM(active_users), SUM(daily_points_issued), SUM(daily_points_used), SUM(daily_revenue)
+            FROM daily_statistics
+            WHERE stat_date >= ? AND stat_date < ?
+            GROUP BY period_start
+            ON DUPLICATE KEY UPDATE
+                new_users = VALUES(new_users),
+                active_users = VALUES(active_users),
+                points_issued = VALUES(points_issued),
+                points_used = VALUES(points_used),
+                revenue = VALUES(revenue)
+            """;
+
+    // 주/월 합계 행이 없는 일별 통계의 날짜 범위
+    private static final String MISSING_RANGE_SQL = """
+            SELECT MIN(d.stat_date), MAX(d.stat_date)
+            FROM daily_statistics d
+            LEFT JOIN weekly_statistics w ON w.week_start = DATE_SUB(d.stat_date, INTERVAL WEEKDAY(d.stat_date) DAY)
+            LEFT JOIN monthly_statistics m ON m.month_start = DATE_SUB(d.stat_date, INTERVAL DAYOFMONTH(d.stat_date) - 1 DAY)
+            WHERE w.week_start IS NULL OR m.month_start IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 합계 행이 빠진 기간만 다시 합산 (채운 기간이 없으면 false)
+    public boolean seedMissing() {
+        LocalDate[] range = jdbcTemplate.queryForObject(MISSING_RANGE_SQL, (rs, rowNum) -> new LocalDate[]{
+                rs.getObject(1, LocalDate.class), rs.getObject(2, LocalDate.class)
+        });
+        if (range == null || range[0] == null) return false;
+
+        refresh(range[0], range[1]);
+        return true;
+    }
+
+    // from ~ to 가 걸친 주/월 다시 합산
+    public void refresh(LocalDate from, LocalDate to) {
+        LocalDate weekStart = from.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        LocalDate weekEnd = to.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).plusWeeks(1);
+        jdbcTemplate.update(WEEKLY_SQL, weekStart, weekEnd);
+
+        LocalDate monthStart = from.withDayOfMonth(1);
+        LocalDate monthEnd = to.withDayOfMonth(1).plusMonths(1);
+        jdbcTemplate.update(MONTHLY_SQL, monthStart, monthEnd);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.backend.adminstatistics.repository;
+
+import com.example.backend.adminstatistics.entity.WeeklyStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface WeeklyStatisticsRepository extends JpaRepository<WeeklyStatistics, Long> {
+
+    List<WeeklyStatistics> findByWeekStartBetweenOrderByWeekStartAsc(LocalDate start, LocalDate end);
+}
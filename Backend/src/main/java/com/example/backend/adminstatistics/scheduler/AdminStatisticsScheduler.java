@@ -1,23 +1,78 @@
 package com.example.backend.adminstatistics.scheduler;
 
+import com.example.backend.adminstatistics.exception.AdminStatisticsErrorType;
+import com.example.backend.adminstatistics.repository.StatisticsRollupJdbcRepository;
+import com.example.backend.global.exception.CustomException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+
+@Slf4j
 @Component
 @EnableScheduling
 public class AdminStatisticsScheduler {
 
+    private static final String RUN_ID = "run.id"; // RunIdIncrementer 와 같은 키
+    private static final int BACKFILL_LOOKBACK = 100;
+
     @Autowired
     private JobLauncher jobLauncher;
 
     @Autowired
     private Job dailyStatisticsJob;
 
+    @Autowired
+    private Job dailyStatisticsBackfillJob;
+
+    @Autowired
+    private JobExplorer jobExplorer;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private StatisticsRollupJdbcRepository statisticsRollupJdbcRepository;
+
+    private TaskExecutorJobLauncher backfillJobLauncher;
+
+    // 백필은 기간에 따라 오래 걸리므로 요청 스레드를 잡지 않게 별도 스레드에서 실행한다 (실행 id 만 바로 돌려준다)
+    @PostConstruct
+    void initBackfillJobLauncher() throws Exception {
+        backfillJobLauncher = new TaskExecutorJobLauncher();
+        backfillJobLauncher.setJobRepository(jobRepository);
+        backfillJobLauncher.setTaskExecutor(new SimpleAsyncTaskExecutor("daily-statistics-backfill-launcher-"));
+        backfillJobLauncher.afterPropertiesSet();
+    }
+
+    // 기동 시 주/월 합계가 없는 과거 일별 통계를 한 번 합산 (합계 테이블 도입 전 기간이 그래프에서 0 으로 보이지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedStatisticsRollups() {
+        try {
+            if (statisticsRollupJdbcRepository.seedMissing()) log.info("Seeded weekly/monthly statistics rollups from daily statistics.");
+        } catch (Exception e) {
+            log.error("Statistics rollup seed failed.", e);
+        }
+    }
+
     @Scheduled(cron = "0 0 3 * * *")  // 매일 새벽 3시 실행
     public void runDailyStatisticsJob() throws Exception {
         jobLauncher.run(dailyStatisticsJob,
@@ -25,4 +80,39 @@ public class AdminStatisticsScheduler {
                         .addLong("time", System.currentTimeMillis())
                         .toJobParameters());
     }
+
+    // 기간 백필 (월별 파티션 병렬 처리, 관리자 API 에서 실행)
+    // 같은 기간의 마지막 실행이 끝나지 않았으면 그 run.id 로 이어서 재시작하고, 완료됐거나 처음이면 새 run.id 로 다시 계산한다
+    public Long runDailyStatisticsBackfill(LocalDate from, LocalDate to) throws Exception {
+        if (from == null || to == null || from.isAfter(to) || !to.isBefore(LocalDate.now())) {
+            throw new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_INVALID_DATE);
+        }
+
+        try {
+            return backfillJobLauncher.run(dailyStatisticsBackfillJob,
+                    new JobParametersBuilder()
+                            .addString("from", from.toString())
+                            .addString("to", to.toString())
+                            .addLong(RUN_ID, backfillRunId(from.toString(), to.toString()))
+                            .toJobParameters()).getId();
+        } catch (JobExecutionAlreadyRunningException e) {
+            throw new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_BACKFILL_RUNNING);
+        }
+    }
+
+    private long backfillRunId(String from, String to) {
+        for (JobInstance instance : jobExplorer.findJobInstancesByJobName(dailyStatisticsBackfillJob.getName(), 0, BACKFILL_LOOKBACK)) {
+            JobExecution last = jobExplorer.getLastJobExecution(instance);
+            if (last == null) continue;
+
+            JobParameters parameters = last.getJobParameters();
+            if (!from.equals(parameters.getString("from")) || !to.equals(parameters.getString("to"))) continue;
+
+            Long runId = parameters.getLong(RUN_ID);
+            boolean restartable = last.getStatus() != BatchStatus.COMPLETED && last.getStatus() != BatchStatus.ABANDONED;
+            if (restartable && runId != null) return runId;
+            break; // 가장 최근 실행이 끝났으면 새로 실행
+        }
+        return System.currentTimeMillis();
+    }
 }
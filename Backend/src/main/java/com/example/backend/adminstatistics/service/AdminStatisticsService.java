@@ -2,20 +2,16 @@ package com.example.backend.adminstatistics.service;
 
 import com.example.backend.adminstatistics.dto.*;
 import com.example.backend.adminstatistics.entity.DailyStatistics;
+import com.example.backend.adminstatistics.entity.MonthlyStatistics;
+import com.example.backend.adminstatistics.entity.WeeklyStatistics;
 import com.example.backend.adminstatistics.exception.AdminStatisticsErrorType;
 import com.example.backend.adminstatistics.repository.DailyStatisticsRepository;
+import com.example.backend.adminstatistics.repository.MonthlyStatisticsRepository;
+import com.example.backend.adminstatistics.repository.WeeklyStatisticsRepository;
 import com.example.backend.global.exception.CustomException;
-import com.example.backend.payment.enumType.TransactionStatus;
-import com.example.backend.payment.repository.PaymentRepository;
-import com.example.backend.payment.repository.WithdrawalRequestRepository;
 import com.example.backend.point.entity.PointRecord;
-import com.example.backend.point.enumType.PointType;
 import com.example.backend.point.enumType.ReferenceType;
 import com.example.backend.point.repository.PointRecordRepository;
-import com.example.backend.survey.enumType.SurveyState;
-import com.example.backend.survey.repository.SurveyRepository;
-import com.example.backend.survey.repository.UserSurveyRepository;
-import com.example.backend.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,10 +20,15 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Service
@@ -36,12 +37,10 @@ import java.util.stream.Collectors;
 public class AdminStatisticsService {
 
     private final DailyStatisticsRepository dailyStatisticsRepository;
-    private final UserRepository userRepository;
-    private final SurveyRepository surveyRepository;
+    private final WeeklyStatisticsRepository weeklyStatisticsRepository;
+    private final MonthlyStatisticsRepository monthlyStatisticsRepository;
     private final PointRecordRepository pointRecordRepository;
-    private final PaymentRepository paymentRepository;
-    private final WithdrawalRequestRepository withdrawalRequestRepository;
-    private final UserSurveyRepository userSurveyRepository;
+    private final LiveStatisticsAggregator liveStatisticsAggregator;
 
     // ==================== 기존 일별 통계 ====================
 
@@ -51,7 +50,7 @@ public class AdminStatisticsService {
         }
 
         if (statDate.isEqual(LocalDate.now())) {
-            return getRealTimeStatistics();
+            return liveStatisticsAggregator.today();
         } else {
             DailyStatistics stats = dailyStatisticsRepository.findByStatDate(statDate)
                     .orElseThrow(() -> new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_NOT_FOUND));
@@ -59,71 +58,6 @@ public class AdminStatisticsService {
         }
     }
 
-    private DailyStatisticsDTO getRealTimeStatistics() {
-        LocalDate today = LocalDate.now();
-
-        Long totalUsers = userRepository.count();
-        Long newUsers = userRepository.countByCreatedAtDate(today);
-        Long activeUsers = pointRecordRepository.countActiveUsersToday();
-        Long totalSurveys = surveyRepository.count();
-        Long activeSurveys = surveyRepository.countByState(SurveyState.IN_PROCESS);
-        Long totalResponses = userSurveyRepository.count();
-        Long dailyResponses = userSurveyRepository.countTodaySurveyResponses();
-
-        Long totalPointsIssued = pointRecordRepository.sumAmountByTypeAndDateRange(PointType.GET, null, null);
-        Long dailyPointsIssued = pointRecordRepository.sumAmountByTypeAndDateRange(
-                PointType.GET, today.atStartOfDay(), today.atTime(23, 59, 59)
-        );
-
-        Long totalPointsUsed = pointRecordRepository.sumAmountByTypeAndDateRange(PointType.USE, null, null);
-        Long dailyPointsUsed = pointRecordRepository.sumAmountByTypeAndDateRange(
-                PointType.USE, today.atStartOfDay(), today.atTime(23, 59, 59)
-        );
-
-        Long currentCirculatingPoints = pointRecordRepository.getCurrentPoints();
-        Long totalWithdrawalAmount = withdrawalRequestRepository.sumAmountByDateRange(null, null);
-        Long dailyWithdrawalAmount = withdrawalRequestRepository.sumAmountByDateRange(
-                today.atStartOfDay(), today.atTime(23, 59, 59)
-        );
-
-        Long dailyWithdrawalCount = withdrawalRequestRepository.countTodayWithdrawal();
-        Long pendingWithdrawalCount = withdrawalRequestRepository.countByStatus(TransactionStatus.PENDING);
-        Long failedWithdrawalCount = withdrawalRequestRepository.countByStatus(TransactionStatus.FAILED);
-
-        Long totalRevenue = pointRecordRepository.sumAllPlatformFees();
-        Long dailyRevenue = pointRecordRepository.sumPlatformFeeByTypeAndDateRange(
-                ReferenceType.ADMIN, today.atStartOfDay(), today.atTime(23, 59, 59)
-        );
-
-        Long totalPaymentCount = paymentRepository.count();
-        Long dailyPaymentCount = paymentRepository.countTodayPayment();
-
-        return DailyStatisticsDTO.builder()
-                .statDate(today)
-                .totalUsers(totalUsers)
-                .newUsers(newUsers)
-                .activeUsers(activeUsers)
-                .totalSurveys(totalSurveys)
-                .activeSurveys(activeSurveys)
-                .totalResponses(totalResponses)
-                .dailyResponses(dailyResponses)
-                .totalPointsIssued(totalPointsIssued)
-                .dailyPointsIssued(dailyPointsIssued)
-                .totalPointsUsed(totalPointsUsed)
-                .dailyPointsUsed(dailyPointsUsed)
-                .currentCirculatingPoints(currentCirculatingPoints)
-                .totalWithdrawalAmount(totalWithdrawalAmount)
-                .dailyWithdrawalAmount(dailyWithdrawalAmount)
-                .dailyWithdrawalCount(dailyWithdrawalCount)
-                .pendingWithdrawalCount(pendingWithdrawalCount)
-                .failedWithdrawalCount(failedWithdrawalCount)
-                .totalRevenue(totalRevenue)
-                .dailyRevenue(dailyRevenue)
-                .totalPaymentCount(totalPaymentCount)
-                .dailyPaymentCount(dailyPaymentCount)
-                .build();
-    }
-
     private DailyStatisticsDTO convertToDto(DailyStatistics entity) {
         return DailyStatisticsDTO.builder()
                 .statDate(entity.getStatDate())
@@ -174,34 +108,58 @@ public class AdminStatisticsService {
     public GraphResponseDto getPointGraph(String interval) {
         LocalDate today = LocalDate.now();
         LocalDate endDate = today.minusDays(1); // 어제까지
-        LocalDate startDate;
 
         switch (interval.toLowerCase()) {
             case "daily":
                 // 최근 7일: 어제 포함 7일
-                startDate = endDate.minusDays(6);
-                return buildDailyGraph(startDate, endDate);
+                return buildGraph(GraphUnit.DAILY, endDate.minusDays(6), endDate);
 
             case "weekly":
                 // 최근 4주: endDate 기준 4주
-                startDate = endDate.minusWeeks(3);
-                return buildWeeklyGraph(startDate, endDate);
+                return buildGraph(GraphUnit.WEEKLY, endDate.minusWeeks(3), endDate);
 
             case "monthly":
                 // 최근 6개월: endDate 기준 6개월
-                startDate = endDate.minusMonths(5);
-                return buildMonthlyGraph(startDate, endDate);
+                return buildGraph(GraphUnit.MONTHLY, endDate.minusMonths(5), endDate);
 
             default:
                 throw new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_INVALID_INTERVAL);
         }
     }
 
+    /*
+     * 기간 그래프 (from ~ to)
+     * - interval (기본 daily) 부터 시작해 점 개수가 maxPoints 를 넘으면 더 큰 단위 (주 -> 월) 합계 테이블로 바꾼다.
+     *   몇 년 구간도 일별 행 대신 월별 행만 읽어 응답 크기/조회량이 보여 줄 점 개수에 비례한다.
+     * - 구간 경계에 걸친 주/월은 그 주/월 전체 합계다.
+     */
+    public GraphResponseDto getPointGraph(LocalDate from, LocalDate to, String interval, int maxPoints) {
+        if (from == null || to == null || from.isAfter(to) || maxPoints <= 0) {
+            throw new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_INVALID_DATE);
+        }
+
+        GraphUnit unit = interval == null ? GraphUnit.DAILY : GraphUnit.of(interval);
+        while (unit != GraphUnit.MONTHLY && unit.count(from, to) > maxPoints) {
+            unit = GraphUnit.values()[unit.ordinal() + 1];
+        }
+        return buildGraph(unit, from, to);
+    }
 
-    private GraphResponseDto buildDailyGraph(LocalDate start, LocalDate end) {
-        List<DailyStatistics> stats = dailyStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(start, end);
-        Map<LocalDate, DailyStatistics> statMap = stats.stream()
-                .collect(Collectors.toMap(DailyStatistics::getStatDate, s -> s));
+    // 단위별 합계 행을 읽어 비어 있는 구간은 0 으로 채운다
+    private GraphResponseDto buildGraph(GraphUnit unit, LocalDate start, LocalDate end) {
+        LocalDate first = unit.start(start);
+        LocalDate last = unit.start(end);
+        Map<LocalDate, GraphPoint> points = switch (unit) {
+            case DAILY -> dailyStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(first, last).stream()
+                    .collect(Collectors.toMap(DailyStatistics::getStatDate, s -> GraphPoint.of(
+                            s.getNewUsers(), s.getActiveUsers(), s.getDailyPointsIssued(), s.getDailyPointsUsed(), s.getDailyRevenue())));
+            case WEEKLY -> weeklyStatisticsRepository.findByWeekStartBetweenOrderByWeekStartAsc(first, last).stream()
+                    .collect(Collectors.toMap(WeeklyStatistics::getWeekStart, s -> GraphPoint.of(
+                            s.getNewUsers(), s.getActiveUsers(), s.getPointsIssued(), s.getPointsUsed(), s.getRevenue())));
+            case MONTHLY -> monthlyStatisticsRepository.findByMonthStartBetweenOrderByMonthStartAsc(first, last).stream()
+                    .collect(Collectors.toMap(MonthlyStatistics::getMonthStart, s -> GraphPoint.of(
+                            s.getNewUsers(), s.getActiveUsers(), s.getPointsIssued(), s.getPointsUsed(), s.getRevenue())));
+        };
 
         List<String> labels = new ArrayList<>();
         List<Long> newUsersSeries = new ArrayList<>();
@@ -210,30 +168,19 @@ public class AdminStatisticsService {
         List<Long> pointsUsedSeries = new ArrayList<>();
         List<Long> revenueSeries = new ArrayList<>();
 
-        LocalDate cursor = start;
-        while (!cursor.isAfter(end)) {
-            labels.add(cursor.toString());
-
-            DailyStatistics stat = statMap.get(cursor);
-            if (stat != null) {
-                newUsersSeries.add(stat.getNewUsers());
-                activeUsersSeries.add(stat.getActiveUsers());
-                pointsIssuedSeries.add(stat.getDailyPointsIssued());
-                pointsUsedSeries.add(stat.getDailyPointsUsed());
-                revenueSeries.add(stat.getDailyRevenue());
-            } else {
-                newUsersSeries.add(0L);
-                activeUsersSeries.add(0L);
-                pointsIssuedSeries.add(0L);
-                pointsUsedSeries.add(0L);
-                revenueSeries.add(0L);
-            }
+        for (LocalDate cursor = first; !cursor.isAfter(last); cursor = unit.next(cursor)) {
+            labels.add(unit.label(cursor));
 
-            cursor = cursor.plusDays(1);
+            GraphPoint point = points.getOrDefault(cursor, GraphPoint.EMPTY);
+            newUsersSeries.add(point.newUsers());
+            activeUsersSeries.add(point.activeUsers());
+            pointsIssuedSeries.add(point.pointsIssued());
+            pointsUsedSeries.add(point.pointsUsed());
+            revenueSeries.add(point.revenue());
         }
 
         return GraphResponseDto.builder()
-                .interval("daily")
+                .interval(unit.interval)
                 .labels(labels)
                 .newUsersSeries(newUsersSeries)
                 .activeUsersSeries(activeUsersSeries)
@@ -243,78 +190,60 @@ public class AdminStatisticsService {
                 .build();
     }
 
-    private GraphResponseDto buildWeeklyGraph(LocalDate start, LocalDate end) {
-        List<DailyStatistics> stats = dailyStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(start, end);
+    // 그래프 단위 (구간 시작일, 라벨)
+    private enum GraphUnit {
+        DAILY("daily", ChronoUnit.DAYS, date -> date, LocalDate::toString),
+        WEEKLY("weekly", ChronoUnit.WEEKS, date -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)),
+                date -> date.get(WeekFields.ISO.weekBasedYear()) + "-W" + String.format("%02d", date.get(WeekFields.ISO.weekOfWeekBasedYear()))),
+        MONTHLY("monthly", ChronoUnit.MONTHS, date -> date.withDayOfMonth(1),
+                date -> date.format(DateTimeFormatter.ofPattern("yyyy-MM")));
+
+        private final String interval;
+        private final ChronoUnit step;
+        private final UnaryOperator<LocalDate> start;
+        private final Function<LocalDate, String> label;
+
+        GraphUnit(String interval, ChronoUnit step, UnaryOperator<LocalDate> start, Function<LocalDate, String> label) {
+            this.interval = interval;
+            this.step = step;
+            this.start = start;
+            this.label = label;
+        }
 
-        // 주 단위로 그룹핑
-        Map<String, List<DailyStatistics>> weeklyMap = stats.stream()
-                .collect(Collectors.groupingBy(s -> {
-                    int weekOfYear = s.getStatDate().get(WeekFields.ISO.weekOfWeekBasedYear());
-                    int year = s.getStatDate().getYear();
-                    return year + "-W" + String.format("%02d", weekOfYear);
-                }));
+        private static GraphUnit of(String interval) {
+            for (GraphUnit unit : values()) {
+                if (unit.interval.equalsIgnoreCase(interval)) return unit;
+            }
+            throw new CustomException(AdminStatisticsErrorType.ERROR_STATISTICS_INVALID_INTERVAL);
+        }
 
-        List<String> labels = new ArrayList<>(weeklyMap.keySet());
-        Collections.sort(labels);
+        private LocalDate start(LocalDate date) {
+            return start.apply(date);
+        }
 
-        List<Long> newUsersSeries = new ArrayList<>();
-        List<Long> activeUsersSeries = new ArrayList<>();
-        List<Long> pointsIssuedSeries = new ArrayList<>();
-        List<Long> pointsUsedSeries = new ArrayList<>();
-        List<Long> revenueSeries = new ArrayList<>();
+        private LocalDate next(LocalDate date) {
+            return date.plus(1, step);
+        }
 
-        for (String week : labels) {
-            List<DailyStatistics> weekStats = weeklyMap.get(week);
-            newUsersSeries.add(weekStats.stream().mapToLong(DailyStatistics::getNewUsers).sum());
-            activeUsersSeries.add(weekStats.stream().mapToLong(DailyStatistics::getActiveUsers).sum());
-            pointsIssuedSeries.add(weekStats.stream().mapToLong(DailyStatistics::getDailyPointsIssued).sum());
-            pointsUsedSeries.add(weekStats.stream().mapToLong(DailyStatistics::getDailyPointsUsed).sum());
-            revenueSeries.add(weekStats.stream().mapToLong(DailyStatistics::getDailyRevenue).sum());
+        private String label(LocalDate date) {
+            return label.apply(date);
         }
 
-        return GraphResponseDto.builder()
-                .interval("weekly")
-                .labels(labels)
-                .newUsersSeries(newUsersSeries)
-                .activeUsersSeries(activeUsersSeries)
-                .pointsIssuedSeries(pointsIssuedSeries)
-                .pointsUsedSeries(pointsUsedSeries)
-                .revenueSeries(revenueSeries)
-                .build();
+        // from ~ to 를 덮는 점 개수
+        private long count(LocalDate from, LocalDate to) {
+            return step.between(start(from), start(to)) + 1;
+        }
     }
 
-    private GraphResponseDto buildMonthlyGraph(LocalDate start, LocalDate end) {
-        List<DailyStatistics> stats = dailyStatisticsRepository.findByStatDateBetweenOrderByStatDateAsc(start, end);
-
-        Map<String, List<DailyStatistics>> monthlyMap = stats.stream()
-                .collect(Collectors.groupingBy(s -> s.getStatDate().format(DateTimeFormatter.ofPattern("yyyy-MM"))));
-
-        List<String> labels = new ArrayList<>(monthlyMap.keySet());
-        Collections.sort(labels);
-
-        List<Long> newUsersSeries = new ArrayList<>();
-        List<Long> activeUsersSeries = new ArrayList<>();
-        List<Long> pointsIssuedSeries = new ArrayList<>();
-        List<Long> pointsUsedSeries = new ArrayList<>();
-        List<Long> revenueSeries = new ArrayList<>();
+    private record GraphPoint(long newUsers, long activeUsers, long pointsIssued, long pointsUsed, long revenue) {
+        private static final GraphPoint EMPTY = new GraphPoint(0L, 0L, 0L, 0L, 0L);
 
-        for (String month : labels) {
-            List<DailyStatistics> monthStats = monthlyMap.get(month);
-            newUsersSeries.add(monthStats.stream().mapToLong(DailyStatistics::getNewUsers).sum());
-            activeUsersSeries.add(monthStats.stream().mapToLong(DailyStatistics::getActiveUsers).sum());
-            pointsIssuedSeries.add(monthStats.stream().mapToLong(DailyStatistics::getDailyPointsIssued).sum());
-            pointsUsedSeries.add(monthStats.stream().mapToLong(DailyStatistics::getDailyPointsUsed).sum());
-            revenueSeries.add(monthStats.stream().mapToLong(DailyStatistics::getDailyRevenue).sum());
+        private static GraphPoint of(Long newUsers, Long activeUsers, Long pointsIssued, Long pointsUsed, Long revenue) {
+            return new GraphPoint(nz(newUsers), nz(activeUsers), nz(pointsIssued), nz(pointsUsed), nz(revenue));
         }
 
-        return GraphResponseDto.builder()
-                .interval("monthly")
-                .labels(labels)
-                .newUsersSeries(newUsersSeries)
-                .activeUsersSeries(activeUsersSeries)
-                .pointsIssuedSeries(pointsIssuedSeries)
-                .pointsUsedSeries(pointsUsedSeries)
-                .revenueSeries(revenueSeries)
-                .build();
+        private static long nz(Long value) {
+            return value == null ? 0L : value;
+        }
     }
 }
@@ -0,0 +1,265 @@
+package com.example.backend.adminstatistics.service;
+
+import com.example.backend.adminstatistics.dto.DailyStatisticsDTO;
+import com.example.backend.adminstatistics.reader.DailyStatisticsAggregator;
+import com.example.backend.payment.enumType.TransactionStatus;
+import com.example.backend.payment.event.PaymentStatusChangedEvent;
+import com.example.backend.payment.event.WithdrawalStatusChangedEvent;
+import com.example.backend.point.enumType.PointType;
+import com.example.backend.point.event.PointRecordedEvent;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.event.SurveyParticipatedEvent;
+import com.example.backend.user.event.UserSignedUpEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.*;
+
+/*
+ * 관리자 실시간 (오늘) 통계
+ * - 가입/설문 생성·마감/참여/포인트 지급·사용/결제 승인/환급 상태 변경 이벤트를 커밋 후 받아
+ *   Redis 날짜 해시 (admin:live:day:{날짜}) 에 HINCRBY 로 더한다. 노드가 여러 대라 노드별 AtomicLong 대신 Redis 에 모은다.
+ * - 날짜는 KST 기준이라 자정이 지나면 새 해시로 넘어간다. (지난 해시는 DAY_TTL 뒤 만료)
+ * - 오늘 해시를 처음 읽을 때 DB 에서 오늘 증가분과 진행 중 설문/대기·실패 환급 건수를 한 번 집계해 맞춘다. (seeded)
+ *   배포 전이나 Redis 초기화 전에 생긴 값도 맞추고, 하루 1번 상태 값 어긋남을 바로잡는다.
+ *   DB 를 읽기 전 해시 값을 기억해 두고, 필드마다 DB 값 + (seed 시점 해시 값 - 읽기 전 해시 값) 으로 쓴다.
+ *   DB 를 읽는 동안 커밋돼 해시에 더해진 증가분이 덮어써져 사라지지 않는다.
+ * - 활성 사용자는 HyperLogLog (admin:live:active:{날짜}) 로 센다.
+ * - total_* 는 어제까지의 누적값 (DailyStatisticsAggregator, 하루 1번 계산해 보관) + 오늘 증가분이다.
+ * - Redis 를 못 쓰면 DailyStatisticsAggregator 로 오늘 구간만 DB 에서 집계한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveStatisticsAggregator {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String DAY_KEY_PREFIX = "admin:live:day:";
+    private static final String ACTIVE_KEY_PREFIX = "admin:live:active:";
+    private static final Duration DAY_TTL = Duration.ofDays(2);
+
+    private static final String NEW_USERS = "newUsers";
+    private static final String NEW_SURVEYS = "newSurveys";
+    private static final String RESPONSES = "responses";
+    private static final String POINTS_ISSUED = "pointsIssued";
+    private static final String POINTS_USED = "pointsUsed";
+    private static final String REVENUE = "revenue";
+    private static final String WITHDRAWAL_AMOUNT = "withdrawalAmount";
+    private static final String WITHDRAWAL_COUNT = "withdrawalCount";
+    private static final String PAYMENTS = "payments";
+    private static final String ACTIVE_SURVEYS = "activeSurveys";
+    private static final String PENDING_WITHDRAWALS = "pendingWithdrawals";
+    private static final String FAILED_WITHDRAWALS = "failedWithdrawals";
+    private static final String SEEDED = "seeded";
+
+    // ARGV: 필드, 증가분 쌍 ... + 만료 시간 (ms)
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV - 1, 2 do
+                redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('pexpire', KEYS[1], ARGV[#ARGV])
+            return 1
+            """, Long.class);
+
+    // 아직 seeded 가 아닐 때만 DB 값 + 읽는 동안의 증가분으로 맞춘다 (ARGV: 필드, DB 값, 읽기 전 해시 값 ... + 만료 시간, 성공 시 1)
+    private static final DefaultRedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('hexists', KEYS[1], 'seeded') == 1 then
+                return 0
+            end
+            for i = 1, #ARGV - 1, 3 do
+                local current = tonumber(redis.call('hget', KEYS[1], ARGV[i]) or '0')
+                redis.call('hset', KEYS[1], ARGV[i], tonumber(ARGV[i + 1]) + current - tonumber(ARGV[i + 2]))
+            end
+            redis.call('hset', KEYS[1], 'seeded', '1')
+            redis.call('pexpire', KEYS[1], ARGV[#ARGV])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DailyStatisticsAggregator dailyStatisticsAggregator;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile DailyStatisticsDTO previous; // 어제 통계 (누적값 기준)
+
+    // 오늘 통계 (MySQL 은 하루 1번 seed/누적값 계산 때만 읽는다)
+    public DailyStatisticsDTO today() {
+        LocalDate today = LocalDate.now(KST);
+        try {
+            Map<String, Long> counters = counters(today);
+            Long activeUsers = redisTemplate.opsForHyperLogLog().size(ACTIVE_KEY_PREFIX + today);
+            return build(today, previous(today), counters, activeUsers == null ? 0L : activeUsers);
+        } catch (Exception e) {
+            log.warn("Live statistics unavailable, aggregating today from DB. date={}", today, e);
+            return dailyStatisticsAggregator.aggregate(today, today).get(0);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onUserSignedUp(UserSignedUpEvent event) {
+        increment(NEW_USERS, 1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getType() == SurveyChangeType.CREATED) {
+            increment(NEW_SURVEYS, 1L, ACTIVE_SURVEYS, 1L);
+        } else if (event.getType() == SurveyChangeType.CLOSED) {
+            increment(ACTIVE_SURVEYS, -1L);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyParticipated(SurveyParticipatedEvent event) {
+        increment(RESPONSES, 1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointRecorded(PointRecordedEvent event) {
+        long amount = event.getAmount() == null ? 0L : event.getAmount();
+        long fee = event.getPlatformFee() == null ? 0L : event.getPlatformFee();
+        increment(event.getType() == PointType.USE ? POINTS_USED : POINTS_ISSUED, amount, REVENUE, fee);
+
+        try {
+            String key = ACTIVE_KEY_PREFIX + LocalDate.now(KST);
+            redisTemplate.opsForHyperLogLog().add(key, String.valueOf(event.getUserId()));
+            redisTemplate.expire(key, DAY_TTL);
+        } catch (Exception e) {
+            log.warn("Live active user update failed. userId={}", event.getUserId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPaymentStatusChanged(PaymentStatusChangedEvent event) {
+        if (event.getStatus() == TransactionStatus.CONFIRMED) increment(PAYMENTS, 1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWithdrawalStatusChanged(WithdrawalStatusChangedEvent event) {
+        switch (event.getStatus()) {
+            case PENDING -> increment(PENDING_WITHDRAWALS, 1L);
+            case PROCESSING -> increment(PENDING_WITHDRAWALS, -1L);
+            case COMPLETED -> increment(WITHDRAWAL_AMOUNT, event.getAmount() == null ? 0L : event.getAmount(), WITHDRAWAL_COUNT, 1L);
+            case FAILED -> increment(FAILED_WITHDRAWALS, 1L);
+            default -> {
+            }
+        }
+    }
+
+    // 오늘 해시 증가 (필드, 증가분 쌍)
+    private void increment(Object... fieldDeltas) {
+        String key = DAY_KEY_PREFIX + LocalDate.now(KST);
+        List<String> args = new ArrayList<>(fieldDeltas.length + 1);
+        for (Object value : fieldDeltas) args.add(String.valueOf(value));
+        args.add(String.valueOf(DAY_TTL.toMillis()));
+        try {
+            redisTemplate.execute(INCREMENT_SCRIPT, List.of(key), args.toArray());
+        } catch (Exception e) {
+            log.warn("Live statistics increment failed. key={}, fields={}", key, args, e);
+        }
+    }
+
+    // 오늘 카운터 (처음 읽으면 DB 값으로 seed)
+    private Map<String, Long> counters(LocalDate today) {
+        String key = DAY_KEY_PREFIX + today;
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
+        if (!entries.containsKey(SEEDED)) {
+            seed(today, key, entries);
+            entries = redisTemplate.opsForHash().entries(key);
+        }
+
+        Map<String, Long> counters = new HashMap<>();
+        entries.forEach((field, value) -> counters.put((String) field, Long.parseLong((String) value)));
+        return counters;
+    }
+
+    // before: DB 를 읽기 전 해시 값
+    private void seed(LocalDate today, String key, Map<Object, Object> before) {
+        DailyStatisticsDTO previousDay = previous(today);
+        DailyStatisticsDTO current = dailyStatisticsAggregator.aggregate(today, today).get(0);
+        List<String> args = new ArrayList<>();
+        addSeed(args, before, NEW_USERS, current.getNewUsers());
+        addSeed(args, before, NEW_SURVEYS, current.getTotalSurveys() - previousDay.getTotalSurveys());
+        addSeed(args, before, RESPONSES, current.getDailyResponses());
+        addSeed(args, before, POINTS_ISSUED, current.getDailyPointsIssued());
+        addSeed(args, before, POINTS_USED, current.getDailyPointsUsed());
+        addSeed(args, before, REVENUE, current.getDailyRevenue());
+        addSeed(args, before, WITHDRAWAL_AMOUNT, current.getDailyWithdrawalAmount());
+        addSeed(args, before, WITHDRAWAL_COUNT, current.getDailyWithdrawalCount());
+        addSeed(args, before, PAYMENTS, current.getDailyPaymentCount());
+        addSeed(args, before, ACTIVE_SURVEYS, current.getActiveSurveys());
+        addSeed(args, before, PENDING_WITHDRAWALS, current.getPendingWithdrawalCount());
+        addSeed(args, before, FAILED_WITHDRAWALS, current.getFailedWithdrawalCount());
+        args.add(String.valueOf(DAY_TTL.toMillis()));
+        Long seeded = redisTemplate.execute(SEED_SCRIPT, List.of(key), args.toArray());
+        if (seeded == null || seeded != 1L) return;
+
+        List<String> userIds = jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM point_record WHERE created_at >= ? AND created_at < ?",
+                String.class,
+                Timestamp.valueOf(today.atStartOfDay()), Timestamp.valueOf(today.plusDays(1).atStartOfDay())
+        );
+        if (!userIds.isEmpty()) {
+            String activeKey = ACTIVE_KEY_PREFIX + today;
+            redisTemplate.opsForHyperLogLog().add(activeKey, userIds.toArray(String[]::new));
+            redisTemplate.expire(activeKey, DAY_TTL);
+        }
+        log.info("Live statistics seeded. date={}", today);
+    }
+
+    // seed 인자 (필드, DB 값, 읽기 전 해시 값)
+    private static void addSeed(List<String> args, Map<Object, Object> before, String field, Long value) {
+        Object seen = before.get(field);
+        Collections.addAll(args, field, String.valueOf(value == null ? 0L : value), seen == null ? "0" : (String) seen);
+    }
+
+    // 어제 통계 (날짜가 바뀔 때만 다시 계산)
+    private DailyStatisticsDTO previous(LocalDate today) {
+        DailyStatisticsDTO cached = previous;
+        LocalDate yesterday = today.minusDays(1);
+        if (cached != null && cached.getStatDate().equals(yesterday)) return cached;
+
+        DailyStatisticsDTO loaded = dailyStatisticsAggregator.aggregate(yesterday, yesterday).get(0);
+        previous = loaded;
+        return loaded;
+    }
+
+    private static DailyStatisticsDTO build(LocalDate today, DailyStatisticsDTO previous, Map<String, Long> counters, long activeUsers) {
+        long pointsIssued = counters.getOrDefault(POINTS_ISSUED, 0L);
+        long pointsUsed = counters.getOrDefault(POINTS_USED, 0L);
+        return DailyStatisticsDTO.builder()
+                .statDate(today)
+                .totalUsers(previous.getTotalUsers() + counters.getOrDefault(NEW_USERS, 0L))
+                .newUsers(counters.getOrDefault(NEW_USERS, 0L))
+                .activeUsers(activeUsers)
+                .totalSurveys(previous.getTotalSurveys() + counters.getOrDefault(NEW_SURVEYS, 0L))
+                .activeSurveys(counters.getOrDefault(ACTIVE_SURVEYS, 0L))
+                .totalResponses(previous.getTotalResponses() + counters.getOrDefault(RESPONSES, 0L))
+                .dailyResponses(counters.getOrDefault(RESPONSES, 0L))
+                .totalPointsIssued(previous.getTotalPointsIssued() + pointsIssued)
+                .dailyPointsIssued(pointsIssued)
+                .totalPointsUsed(previous.getTotalPointsUsed() + pointsUsed)
+                .dailyPointsUsed(pointsUsed)
+                .currentCirculatingPoints(previous.getCurrentCirculatingPoints() + pointsIssued - pointsUsed)
+                .totalWithdrawalAmount(previous.getTotalWithdrawalAmount() + counters.getOrDefault(WITHDRAWAL_AMOUNT, 0L))
+                .dailyWithdrawalAmount(counters.getOrDefault(WITHDRAWAL_AMOUNT, 0L))
+                .dailyWithdrawalCount(counters.getOrDefault(WITHDRAWAL_COUNT, 0L))
+                .pendingWithdrawalCount(counters.getOrDefault(PENDING_WITHDRAWALS, 0L))
+                .failedWithdrawalCount(counters.getOrDefault(FAILED_WITHDRAWALS, 0L))
+                .totalRevenue(previous.getTotalRevenue() + counters.getOrDefault(REVENUE, 0L))
+                .dailyRevenue(counters.getOrDefault(REVENUE, 0L))
+                .totalPaymentCount(previous.getTotalPaymentCount() + counters.getOrDefault(PAYMENTS, 0L))
+                .dailyPaymentCount(counters.getOrDefault(PAYMENTS, 0L))
+                .build();
+    }
+}
@@ -1,20 +1,42 @@
 package com.example.backend.adminstatistics.writer;
 
 import com.example.backend.adminstatistics.entity.DailyStatistics;
+import com.example.backend.adminstatistics.repository.StatisticsRollupJdbcRepository;
 import org.springframework.batch.item.Chunk;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class AdminStatisticsWriter implements ItemWriter<DailyStatistics> {
 
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private StatisticsRollupJdbcRepository statisticsRollupJdbcRepository;
+
     @Override
     public void write(Chunk<? extends DailyStatistics> chunk) throws Exception {
+        upsert(chunk);
+
+        // 같은 chunk 트랜잭션 안에서 바뀐 날짜가 속한 주/월 합계 갱신
+        LocalDate from = null;
+        LocalDate to = null;
+        for (DailyStatistics stats : chunk) {
+            if (from == null || stats.getStatDate().isBefore(from)) from = stats.getStatDate();
+            if (to == null || stats.getStatDate().isAfter(to)) to = stats.getStatDate();
+        }
+        if (from != null) statisticsRollupJdbcRepository.refresh(from, to);
+    }
+
+    // daily_statistics upsert 만 (백필 파티션은 주/월 합계를 마지막 step 에서 한 번에 갱신)
+    public void upsert(Chunk<? extends DailyStatistics> chunk) {
         String sql = """
     INSERT INTO daily_statistics 
     (stat_date, total_users, new_users, active_users, total_surveys, active_surveys, total_responses,
@@ -28,7 +50,7 @@ public class AdminStatisticsWriter implements ItemWriter<DailyStatistics> {
         new_users = VALUES(new_users),
         active_users = VALUES(active_users),
         total_surveys = VALUES(total_surveys),
-        active_surveys = VALUES(active_surveys),
+        active_surveys = COALESCE(VALUES(active_surveys), active_surveys),
         total_responses = VALUES(total_responses),
         daily_responses = VALUES(daily_responses),
         total_points_issued = VALUES(total_points_issued),
@@ -39,8 +61,8 @@ public class AdminStatisticsWriter implements ItemWriter<DailyStatistics> {
         total_withdrawal_amount = VALUES(total_withdrawal_amount),
         daily_withdrawal_amount = VALUES(daily_withdrawal_amount),
         daily_withdrawal_count = VALUES(daily_withdrawal_count),
-        pending_withdrawal_count = VALUES(pending_withdrawal_count),
-        failed_withdrawal_count = VALUES(failed_withdrawal_count),
+        pending_withdrawal_count = COALESCE(VALUES(pending_withdrawal_count), pending_withdrawal_count),
+        failed_withdrawal_count = COALESCE(VALUES(failed_withdrawal_count), failed_withdrawal_count),
         total_revenue = VALUES(total_revenue),
         daily_revenue = VALUES(daily_revenue),
         total_payment_count = VALUES(total_payment_count),
@@ -48,8 +70,10 @@ public class AdminStatisticsWriter implements ItemWriter<DailyStatistics> {
     """;
 
 
+        // 현재 상태 값 (진행 중 설문, 대기/실패 환급) 이 null 이면 (백필한 과거 날짜) 기존 값 유지
+        List<Object[]> rows = new ArrayList<>(chunk.size());
         for (DailyStatistics stats : chunk) {
-            jdbcTemplate.update(sql,
+            rows.add(new Object[]{
                     stats.getStatDate(),
                     stats.getTotalUsers(),
                     stats.getNewUsers(),
@@ -72,7 +96,8 @@ public class AdminStatisticsWriter implements ItemWriter<DailyStatistics> {
                     stats.getDailyRevenue(),
                     stats.getTotalPaymentCount(),
                     stats.getDailyPaymentCount()
-            );
+            });
         }
+        jdbcTemplate.batchUpdate(sql, rows);
     }
 }
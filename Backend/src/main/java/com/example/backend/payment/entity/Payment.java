@@ -11,7 +11,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name="payments")
+@Table(
+        name = "payments",
+        indexes = {
+                @Index(name = "idx_status_approval_at", columnList = "status, approval_at") // 일별 통계 승인 건수 범위 조회
+        }
+)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
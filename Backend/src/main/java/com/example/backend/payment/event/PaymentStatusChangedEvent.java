@@ -0,0 +1,13 @@
+package com.example.backend.payment.event;
+
+import com.example.backend.payment.enumType.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 결제 상태 변경 (관리자 실시간 통계용) */
+@Getter
+@AllArgsConstructor
+public class PaymentStatusChangedEvent {
+    private final Long paymentId;
+    private final TransactionStatus status;
+}
@@ -0,0 +1,14 @@
+package com.example.backend.payment.event;
+
+import com.example.backend.payment.enumType.TransactionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 환급 상태 변경 (관리자 실시간 통계용) */
+@Getter
+@AllArgsConstructor
+public class WithdrawalStatusChangedEvent {
+    private final Long withdrawalId;
+    private final TransactionStatus status;
+    private final Long amount;
+}
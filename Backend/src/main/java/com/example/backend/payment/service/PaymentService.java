@@ -10,6 +10,8 @@ import com.example.backend.payment.entity.PaymentEvent;
 import com.example.backend.payment.entity.WithdrawalRequest;
 import com.example.backend.payment.entity.WithdrawalTransaction;
 import com.example.backend.payment.enumType.TransactionStatus;
+import com.example.backend.payment.event.PaymentStatusChangedEvent;
+import com.example.backend.payment.event.WithdrawalStatusChangedEvent;
 import com.example.backend.payment.repository.PaymentEventRepository;
 import com.example.backend.payment.repository.PaymentRepository;
 import com.example.backend.payment.repository.WithdrawalRequestRepository;
@@ -22,6 +24,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.antlr.v4.runtime.Token;
 import org.json.simple.JSONObject;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -47,6 +50,7 @@ public class PaymentService {
     private final PointService pointService;
     private final TokenService tokenService;
     private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ===================== 결제 관련 =====================
 
@@ -235,7 +239,7 @@ public class PaymentService {
 
         WithdrawalRequest saved = withdrawalRepository.save(withdrawal);
 
-        recordWithdrawalEvent(saved.getWithdrawalId(), TransactionStatus.PENDING,
+        recordWithdrawalEvent(saved, TransactionStatus.PENDING,
                 "환급 요청 생성됨", null);
 
         log.info("환급 요청: withdrawalId={}, userId={}, 요청금액={}, 수수료={}",
@@ -266,7 +270,7 @@ public class PaymentService {
                     .build();
             withdrawalTransactionRepository.save(processingTran);
 
-            recordWithdrawalEvent(withdrawal.getWithdrawalId(), TransactionStatus.PROCESSING,
+            recordWithdrawalEvent(withdrawal, TransactionStatus.PROCESSING,
                     "환급 처리 시작됨", null);
 
             log.info("환급 처리 시작: withdrawalId={}, 요청금액={}", withdrawal.getWithdrawalId(), withdrawal.getAmount());
@@ -298,7 +302,7 @@ public class PaymentService {
                     .build();
             withdrawalTransactionRepository.save(completedTran);
 
-            recordWithdrawalEvent(withdrawal.getWithdrawalId(), TransactionStatus.COMPLETED,
+            recordWithdrawalEvent(withdrawal, TransactionStatus.COMPLETED,
                     "환급 완료", null);
 
             pointService.usePoints(withdrawal);
@@ -327,7 +331,7 @@ public class PaymentService {
                         .build();
                 withdrawalTransactionRepository.save(failedTran);
 
-                recordWithdrawalEvent(withdrawal.getWithdrawalId(), TransactionStatus.FAILED,
+                recordWithdrawalEvent(withdrawal, TransactionStatus.FAILED,
                         "환급 실패", e.getMessage());
 
             } catch (Exception ex) {
@@ -366,12 +370,14 @@ public class PaymentService {
                 .errorMessage(errorMessage)
                 .build();
         paymentEventRepository.save(event);
+        eventPublisher.publishEvent(new PaymentStatusChangedEvent(payment.getPaymentId(), status));
         log.info("결제 이벤트 기록: paymentId={}, status={}, description={}", payment.getPaymentId(), status, description);
     }
 
-    private void recordWithdrawalEvent(Long withdrawalId, TransactionStatus status,
+    private void recordWithdrawalEvent(WithdrawalRequest withdrawal, TransactionStatus status,
                                        String description, String errorMessage) {
+        eventPublisher.publishEvent(new WithdrawalStatusChangedEvent(withdrawal.getWithdrawalId(), status, withdrawal.getAmount()));
         log.info("환급 이벤트 기록: withdrawalId={}, status={}, description={}",
-                withdrawalId, status, description);
+                withdrawal.getWithdrawalId(), status, description);
     }
 }
@@ -0,0 +1,15 @@
+package com.example.backend.point.event;
+
+import com.example.backend.point.enumType.PointType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 포인트 지급/사용 기록 (관리자 실시간 통계용) */
+@Getter
+@AllArgsConstructor
+public class PointRecordedEvent {
+    private final Long userId;
+    private final PointType type;
+    private final Long amount;
+    private final Long platformFee;
+}
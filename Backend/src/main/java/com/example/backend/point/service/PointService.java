@@ -5,6 +5,7 @@ import com.example.backend.point.dto.response.SurveyRefundPreviewResponse;
 import com.example.backend.point.entity.PointRecord;
 import com.example.backend.point.enumType.PointType;
 import com.example.backend.point.enumType.ReferenceType;
+import com.example.backend.point.event.PointRecordedEvent;
 import com.example.backend.point.exception.PointErrorType;
 import com.example.backend.point.repository.PointRecordRepository;
 import com.example.backend.survey.enumType.SurveyState;
@@ -15,6 +16,7 @@ import com.example.backend.payment.entity.Payment;
 import com.example.backend.payment.entity.WithdrawalRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class PointService {
 
     private final UserRepository userRepository;
     private final PointRecordRepository pointRecordRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final Long PAYMENT_FEE = 300L;
     private static final Long WITHDRAWAL_FEE = 300L;
@@ -92,6 +95,13 @@ public class PointService {
         }
     }
 
+    // 포인트 기록 저장 + 커밋 후 관리자 실시간 통계에 반영
+    private void saveRecord(PointRecord record) {
+        pointRecordRepository.save(record);
+        eventPublisher.publishEvent(new PointRecordedEvent(
+                record.getUser().getId(), record.getType(), record.getAmount(), record.getPlatformFee()));
+    }
+
     @Transactional
     public void chargePoints(Payment payment) {
         UserEntity user = userRepository.findById(payment.getUserId())
@@ -117,7 +127,7 @@ public class PointService {
                 .platformFee(PAYMENT_FEE)
                 .build();
 
-        pointRecordRepository.save(record);
+        saveRecord(record);
 
         log.info("포인트 충전: userId={}, amount={}, before={}, after={}, paymentId={}",
                 user.getId(), amount, beforePoint, user.getPoint(), payment.getPaymentId());
@@ -145,7 +155,7 @@ public class PointService {
                 .platformFee(null)
                 .build();
 
-        pointRecordRepository.save(record);
+        saveRecord(record);
 
         log.info("설문 참여 보상: userId={}, amount={}, before={}, after={}, surveyId={}",
                 user.getId(), amount, beforePoint, user.getPoint(), survey.getSurveyId());
@@ -239,20 +249,9 @@ public class PointService {
             throw new CustomException(PointErrorType.ERROR_INVALID_SURVEY_STATE);
         }
 
-        // 8-1. generateContent로 기본 메시지 생성
-        String baseContent = generateContent(
-                PointType.GET,
-                ReferenceType.REFUND,
-                survey,
-                null,
-                null,
-                refundType
-        );
-
-        // 8-2. content에 수수료, 참여 인원, 총 환불액 정보 추가
-        String content = String.format(
-                "%s (수수료: %,dP, 참여 인원: %d명, 총 환불액: %,dP)",
-                baseContent,
+        // 8-1. 기본 메시지 + 수수료, 참여 인원, 총 환불액 정보
+        String content = refundContent(
+                generateContent(PointType.GET, ReferenceType.REFUND, survey, null, null, refundType),
                 platformFee,
                 participantCount,
                 refundAmount
@@ -270,7 +269,7 @@ public class PointService {
                 .platformFee(null)
                 .build();
 
-        pointRecordRepository.save(refundRecord);
+        saveRecord(refundRecord);
 
         log.info("설문 등록자 환불: userId={}, refundAmount={}, before={}, after={}, surveyId={}, refundType={}, platformFee={}, participantCount={}",
                 user.getId(), refundAmount, beforePoint, user.getPoint(), surveyId, refundType, platformFee, participantCount);
@@ -279,6 +278,22 @@ public class PointService {
 
 
 
+    // 설문 환불 내역 문구 (마감 배치의 JDBC 환불 기록과 같은 형식)
+    public static String refundContent(String baseContent, long platformFee, int participantCount, long refundAmount) {
+        return String.format(
+                "%s (수수료: %,dP, 참여 인원: %d명, 총 환불액: %,dP)",
+                baseContent,
+                platformFee,
+                participantCount,
+                refundAmount
+        );
+    }
+
+    // 마감(참여 미달) 환불 기본 메시지
+    public static String insufficientRefundBaseContent(String surveyTitle) {
+        return "설문 환불 - " + surveyTitle + " 미달 환불";
+    }
+
     @Transactional
     public void usePoints(WithdrawalRequest withdrawal) {
         UserEntity user = userRepository.findById(withdrawal.getUserId())
@@ -305,7 +320,7 @@ public class PointService {
                 .platformFee(WITHDRAWAL_FEE)
                 .build();
 
-        pointRecordRepository.save(record);
+        saveRecord(record);
 
         log.info("환급 신청: userId={}, amount={}, before={}, after={}, withdrawalId={}",
                 user.getId(), amount, beforePoint, user.getPoint(), withdrawal.getWithdrawalId());
@@ -341,7 +356,7 @@ public class PointService {
                 .platformFee(platformFee)
                 .build();
 
-        pointRecordRepository.save(record);
+        saveRecord(record);
 
         log.info("설문 등록 포인트 차감: userId={}, totalFee={}, platformFee={}, before={}, after={}, surveyId={}",
                 user.getId(), totalFee, platformFee, beforePoint, user.getPoint(), survey.getSurveyId());
@@ -377,7 +392,7 @@ public class PointService {
                 .platformFee(null)
                 .build();
 
-        pointRecordRepository.save(record);
+        saveRecord(record);
 
         log.info("관리자 포인트 조정: userId={}, amount={}, type={}, before={}, after={}",
                 user.getId(), amount, type, beforePoint, user.getPoint());
@@ -0,0 +1,32 @@
+package com.example.backend.survey.config;
+
+import com.example.backend.survey.service.RedisStatisticsBroker;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.List;
+
+// survey.statistics.broker=redis 일 때 Redis pub/sub 채널 구독
+@Configuration
+@ConditionalOnProperty(name = "survey.statistics.broker", havingValue = "redis")
+public class StatisticsBrokerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer statisticsMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            RedisStatisticsBroker redisStatisticsBroker
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisStatisticsBroker, List.of(
+                new PatternTopic(RedisStatisticsBroker.FRAME_CHANNEL_PREFIX + "*"),
+                new ChannelTopic(RedisStatisticsBroker.FLUSHED_CHANNEL)
+        ));
+        return container;
+    }
+}
@@ -1,43 +1,75 @@
 package com.example.backend.survey.config;
 
-import com.example.backend.point.service.PointService;
-import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.dto.projection.ExpiredSurvey;
 import com.example.backend.survey.enumType.SurveyState;
-import com.example.backend.survey.repository.SurveyRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.backend.survey.repository.SurveyDeadlineJdbcRepository;
+import com.example.backend.survey.service.SurveyDeadlineService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.Step;
-import org.springframework.batch.core.configuration.annotation.JobScope;
 import org.springframework.batch.core.configuration.annotation.StepScope;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.core.repository.JobRepository;
 import org.springframework.batch.core.step.builder.StepBuilder;
-import org.springframework.batch.item.ItemProcessor;
-import org.springframework.batch.item.data.RepositoryItemReader;
-import org.springframework.batch.item.data.RepositoryItemWriter;
-import org.springframework.batch.item.data.builder.RepositoryItemReaderBuilder;
-import org.springframework.batch.item.data.builder.RepositoryItemWriterBuilder;
-import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
 import java.util.Map;
 
+/*
+ * 설문 마감 배치
+ * - 마감 시각이 지난 IN_PROCESS 설문을 survey_id 범위로 grid-size 개로 나눠 (partition) 병렬 처리한다.
+ * - 파티션마다 survey_id keyset 으로 chunk-size 개씩 읽고 (JdbcPagingItemReader, 마지막 키를 저장해 재시작 가능),
+ *   writer 가 조건부 UPDATE 로 DONE 처리 후 남은 포인트를 의뢰인별로 합산해 JDBC batch 로 환불한다.
+ * - 기준 시각은 job 파라미터 executeTime 이라 재시작해도 대상이 바뀌지 않는다.
+ * - 평소 마감은 SurveyDeadlineTimer 가 마감 시각에 바로 처리하고, 이 배치는 놓친 설문을 정리하는 안전망이다.
+ */
 @Slf4j
 @Configuration
-@RequiredArgsConstructor
 public class SurveyDeadlineBatchConfig {
 
-    private static final int CHUNK_SIZE = 100;
     private final JobRepository jobRepository;
     private final PlatformTransactionManager platformTransactionManager;
-    private final SurveyRepository surveyRepository;
-    private final PointService pointService;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final SurveyDeadlineService surveyDeadlineService;
+    private final int chunkSize;
+    private final int gridSize;
+
+    public SurveyDeadlineBatchConfig(
+            JobRepository jobRepository,
+            PlatformTransactionManager platformTransactionManager,
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            SurveyDeadlineService surveyDeadlineService,
+            @Value("${survey.deadline.chunk-size:100}") int chunkSize,
+            @Value("${survey.deadline.grid-size:4}") int gridSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.platformTransactionManager = platformTransactionManager;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.surveyDeadlineService = surveyDeadlineService;
+        this.chunkSize = chunkSize;
+        this.gridSize = gridSize;
+    }
 
     // 설문 마감 처리 작업
     @Bean
@@ -48,55 +80,110 @@ public class SurveyDeadlineBatchConfig {
                 .build();
     }
 
+    // survey_id 범위별 파티션을 병렬 실행
     @Bean
-    @JobScope
     public Step surveyDeadlineStep() {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("survey-deadline-");
+        taskExecutor.setConcurrencyLimit(gridSize);
+
         return new StepBuilder("surveyDeadlineStep", jobRepository)
-                .tasklet((contribution, chunkContext) -> {
-                    surveyRepository.bulkUpdateExpiredSurveys(
-                            SurveyState.DONE,
-                            SurveyState.IN_PROCESS,
-                            LocalDateTime.now()
-                    );
-                    return RepeatStatus.FINISHED;
-                }, platformTransactionManager)
+                .partitioner("surveyDeadlineWorkerStep", expiredSurveyPartitioner(null))
+                .step(surveyDeadlineWorkerStep())
+                .gridSize(gridSize)
+                .taskExecutor(taskExecutor)
                 .build();
     }
 
-    // 마감 시간이 지난 IN_PROCESS 설문 읽기
     @Bean
-    @StepScope
-    public RepositoryItemReader<Survey> expiredSurveyReader() {
-        return new RepositoryItemReaderBuilder<Survey>()
-                .name("expiredSurveyReader")
-                .repository(surveyRepository)
-                .methodName("findByStateAndDeadlineBefore")
-                .arguments(SurveyState.IN_PROCESS, LocalDateTime.now())
-                .pageSize(CHUNK_SIZE)
-                .sorts(Map.of("surveyId", Sort.Direction.ASC))
+    public Step surveyDeadlineWorkerStep() {
+        return new StepBuilder("surveyDeadlineWorkerStep", jobRepository)
+                .<ExpiredSurvey, ExpiredSurvey>chunk(chunkSize, platformTransactionManager)
+                .reader(expiredSurveyReader(null, null, null))
+                .writer(surveyDeadlineWriter())
                 .build();
     }
 
-    // 설문의 상태를 DONE으로 변경
+    // 마감 대상 survey_id 의 최소~최대를 gridSize 개 구간으로 나눈다
     @Bean
     @StepScope
-    public ItemProcessor<Survey, Survey> surveyDeadlineProcessor() {
-        return survey -> {
-            survey.setState(SurveyState.DONE);
-            pointService.refundSPointsForSurvey(survey.getClient(), survey);
-            return survey;
+    public Partitioner expiredSurveyPartitioner(@Value("#{jobParameters['executeTime']}") Long executeTime) {
+        return size -> {
+            Map<String, Long> range = jdbcTemplate.queryForObject(
+                    "SELECT MIN(survey_id), MAX(survey_id) FROM surveys WHERE state = ? AND deadline < ?",
+                    (rs, rowNum) -> {
+                        Map<String, Long> bounds = new HashMap<>();
+                        bounds.put("min", rs.getObject(1) == null ? null : rs.getLong(1));
+                        bounds.put("max", rs.getObject(2) == null ? null : rs.getLong(2));
+                        return bounds;
+                    },
+                    SurveyState.IN_PROCESS.name(), Timestamp.valueOf(toDateTime(executeTime))
+            );
+
+            Map<String, ExecutionContext> partitions = new HashMap<>();
+            if (range == null || range.get("min") == null) {
+                partitions.put("partition0", partition(1L, 0L));
+                return partitions;
+            }
+
+            long min = range.get("min");
+            long max = range.get("max");
+            long step = Math.max((max - min) / size + 1, 1);
+            int index = 0;
+            for (long from = min; from <= max; from += step) {
+                partitions.put("partition" + index++, partition(from, Math.min(from + step - 1, max)));
+            }
+            return partitions;
         };
     }
 
-    // 변경된 설문 저장
+    // 마감 시간이 지난 IN_PROCESS 설문 + 등록 시 차감 기록 읽기 (survey_id keyset)
     @Bean
     @StepScope
-    public RepositoryItemWriter<Survey> surveyDeadlineWriter() {
-        return new RepositoryItemWriterBuilder<Survey>()
-                .repository(surveyRepository)
-                .methodName("save")
+    public JdbcPagingItemReader<ExpiredSurvey> expiredSurveyReader(
+            @Value("#{jobParameters['executeTime']}") Long executeTime,
+            @Value("#{stepExecutionContext['minId']}") Long minId,
+            @Value("#{stepExecutionContext['maxId']}") Long maxId
+    ) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", SurveyState.IN_PROCESS.name());
+        parameters.put("now", Timestamp.valueOf(toDateTime(executeTime)));
+        parameters.put("minId", minId);
+        parameters.put("maxId", maxId);
+
+        return new JdbcPagingItemReaderBuilder<ExpiredSurvey>()
+                .name("expiredSurveyReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT s.survey_id, s.client_id, s.title, s.reward, s.response_cnt, p.amount, p.platform_fee")
+                .fromClause("FROM surveys s LEFT JOIN point_record p ON p.reference_type = 'SURVEY' AND p.reference_id = s.survey_id")
+                .whereClause("WHERE s.state = :state AND s.deadline < :now AND s.survey_id BETWEEN :minId AND :maxId")
+                .sortKeys(Map.of("survey_id", Order.ASCENDING))
+                .parameterValues(parameters)
+                .pageSize(chunkSize)
+                .rowMapper(SurveyDeadlineJdbcRepository.EXPIRED_SURVEY_ROW_MAPPER)
                 .build();
     }
 
+    // 마감 처리 + 환불 (chunk 트랜잭션 안에서 실행, 커밋 후 순위/추천 캐시에 마감 전파)
+    @Bean
+    public ItemWriter<ExpiredSurvey> surveyDeadlineWriter() {
+        return chunk -> {
+            int closed = surveyDeadlineService.close(chunk.getItems());
+            log.info("Survey deadline chunk written. read={}, closed={}", chunk.size(), closed);
+        };
+    }
+
+    private static ExecutionContext partition(long minId, long maxId) {
+        ExecutionContext context = new ExecutionContext();
+        context.putLong("minId", minId);
+        context.putLong("maxId", maxId);
+        return context;
+    }
+
+    private static LocalDateTime toDateTime(Long epochMillis) {
+        return epochMillis == null
+                ? LocalDateTime.now()
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
     // TODO: 이메일 발송 STEP 추가
 }
@@ -0,0 +1,50 @@
+package com.example.backend.survey.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * 설문 검색용 FULLTEXT 인덱스 확인
+ * - 인덱스는 스키마 변경 (resources/db/survey_search_fulltext_index.sql) 으로 만들고, 애플리케이션은 있는지만 본다.
+ * - 없으면 검색은 기존 LIKE 조회로 동작하고, recheck-ms 마다 다시 확인해서 인덱스가 생기면 FULLTEXT 조회로 바뀐다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SurveySearchIndex {
+
+    public static final String INDEX_NAME = "ft_survey_title_description";
+    private static final long RECHECK_MILLIS = 300_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile boolean available;
+    private volatile long checkedAt;
+
+    // FULLTEXT 검색 가능 여부 (없다고 확인한 뒤 RECHECK_MILLIS 가 지나면 다시 확인)
+    public boolean isAvailable() {
+        if (available) return true;
+        long now = System.currentTimeMillis();
+        if (checkedAt != 0 && now - checkedAt < RECHECK_MILLIS) return false;
+
+        checkedAt = now;
+        try {
+            Integer exists = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*)
+                    FROM information_schema.statistics
+                    WHERE table_schema = DATABASE()
+                    AND table_name = 'surveys'
+                    AND index_name = ?
+                    """, Integer.class, INDEX_NAME);
+            available = exists != null && exists > 0;
+            if (!available) log.warn("Survey search index is missing, using LIKE search. index={}", INDEX_NAME);
+        } catch (Exception e) {
+            available = false;
+            log.warn("Survey search index check failed, using LIKE search. index={}", INDEX_NAME, e);
+        }
+        return available;
+    }
+
+}
@@ -0,0 +1,103 @@
+package com.example.backend.survey.config;
+
+import com.example.backend.survey.service.SurveyStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/*
+ * 설문 통계 1회성 보정 배치 (집계 행/분포 컬럼 도입 전 설문)
+ * - 조회 API 에서 하던 보정 UPDATE 를 옮겼다. 읽기 경로는 쓰기를 하지 않는다.
+ * - survey_id keyset 으로 chunk-size 개씩 읽고 설문마다 SurveyStatisticsService.migrateLegacyStatistics 를 실행한다.
+ * - chunk 트랜잭션은 READ COMMITTED 라 집계 행을 잠근 뒤 읽는 answers 가 잠금 시점까지 커밋된 참여를 모두 포함한다.
+ * - 식별 파라미터는 version 하나다. 기동 시 실행하고 (SurveyBatchScheduler), 끝난 뒤에는 JobRepository 에 완료로 남아
+ *   다른 노드나 재기동에서 다시 돌지 않는다. 실패하면 다음 기동 때 마지막으로 끝낸 chunk 다음부터 이어서 한다.
+ */
+@Slf4j
+@Configuration
+public class SurveyStatisticsMigrationBatchConfig {
+
+    public static final long VERSION = 1L;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager platformTransactionManager;
+    private final DataSource dataSource;
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final int chunkSize;
+
+    public SurveyStatisticsMigrationBatchConfig(
+            JobRepository jobRepository,
+            PlatformTransactionManager platformTransactionManager,
+            DataSource dataSource,
+            SurveyStatisticsService surveyStatisticsService,
+            @Value("${survey.statistics.migration.chunk-size:10}") int chunkSize
+    ) {
+        this.jobRepository = jobRepository;
+        this.platformTransactionManager = platformTransactionManager;
+        this.dataSource = dataSource;
+        this.surveyStatisticsService = surveyStatisticsService;
+        this.chunkSize = chunkSize;
+    }
+
+    // 설문 통계 보정 작업
+    @Bean
+    public Job surveyStatisticsMigrationJob() {
+        return new JobBuilder("surveyStatisticsMigrationJob", jobRepository)
+                .start(surveyStatisticsMigrationStep())
+                .build();
+    }
+
+    @Bean
+    public Step surveyStatisticsMigrationStep() {
+        // 설문 몇 개씩만 묶어 집계 행 잠금 시간을 짧게 둔다
+        DefaultTransactionAttribute transactionAttribute = new DefaultTransactionAttribute();
+        transactionAttribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        return new StepBuilder("surveyStatisticsMigrationStep", jobRepository)
+                .<Long, Long>chunk(chunkSize, platformTransactionManager)
+                .reader(surveyIdReader())
+                .writer(surveyStatisticsMigrationWriter())
+                .transactionAttribute(transactionAttribute)
+                .build();
+    }
+
+    // 전체 survey_id (keyset, 마지막 키를 저장해 재시작 가능)
+    @Bean
+    public JdbcPagingItemReader<Long> surveyIdReader() {
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("surveyIdReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT survey_id")
+                .fromClause("FROM surveys")
+                .sortKeys(Map.of("survey_id", Order.ASCENDING))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> rs.getLong("survey_id"))
+                .build();
+    }
+
+    @Bean
+    public ItemWriter<Long> surveyStatisticsMigrationWriter() {
+        return chunk -> {
+            for (Long surveyId : chunk.getItems()) {
+                surveyStatisticsService.migrateLegacyStatistics(surveyId);
+            }
+            log.info("Survey statistics migration chunk written. surveys={}", chunk.size());
+        };
+    }
+}
@@ -5,13 +5,23 @@ import com.example.backend.survey.dto.request.CreateSurveyReqDto;
 import com.example.backend.survey.dto.request.SubjectiveStatisticsReqDto;
 import com.example.backend.survey.dto.request.SurveyParticipateReqDto;
 import com.example.backend.survey.dto.request.SurveySearchReqDto;
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.dto.response.SurveyListResDto;
+import com.example.backend.survey.enumType.SortType;
+import com.example.backend.survey.service.ParticipationIngestService;
+import com.example.backend.survey.service.SurveyDefinitionCache;
+import com.example.backend.survey.service.SurveyLeaderboard;
 import com.example.backend.survey.service.SurveyService;
 import com.example.backend.survey.service.SurveyStatisticsService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.security.Principal;
 
@@ -24,6 +34,9 @@ public class SurveyController {
 
     private final SurveyService surveyService;
     private final SurveyStatisticsService surveyStatisticsService;
+    private final ParticipationIngestService participationIngestService;
+    private final SurveyLeaderboard surveyLeaderboard;
+    private final SurveyDefinitionCache surveyDefinitionCache;
 
     private Long userId(Principal principal) {
         return Long.parseLong(principal.getName());
@@ -74,16 +87,18 @@ public class SurveyController {
         ));
     }
 
-    // 설문 검색
+    // 설문 검색 (withParticipated 이면 로그인 사용자의 참여 여부 포함)
     @GetMapping("/surveys")
     public ResponseEntity<ApiResponse<?>> getSurveyByCondition(
+            Principal principal,
             @ModelAttribute SurveySearchReqDto condition,
-            @PageableDefault(size = 20) Pageable pageable
+            @PageableDefault(size = 20) Pageable pageable,
+            @RequestParam(defaultValue = "false") boolean withParticipated
     ) {
-        return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_SURVEY_LIST,
-                surveyService.getSurveyByCondition(condition, pageable)
-        ));
+        Page<SurveyItemResDto> surveys = surveyService.getSurveyByCondition(condition, pageable);
+        if (withParticipated && principal != null) surveys = surveyService.markParticipated(userId(principal), surveys);
+
+        return ResponseEntity.ok(ApiResponse.success(SUCCESS_GET_SURVEY_LIST, surveys));
     }
 
     // 설문 참여 여부 조회
@@ -102,18 +117,47 @@ public class SurveyController {
             @PathVariable("surveyId") Long surveyId,
             @RequestBody SurveyParticipateReqDto requestForm
     ) {
+        surveyService.validateAnswers(surveyId, requestForm);
         surveyService.participateSurvey(userId(principal), surveyId, requestForm);
         return ResponseEntity.ok(ApiResponse.success(SUCCESS_RESPOND_SURVEY));
     }
 
-    // 질문 목록 조회 (설문 참여)
-    @GetMapping("/surveys/{surveyId}/questions")
-    public ResponseEntity<ApiResponse<?>> getQuestionsBySurveyId(@PathVariable("surveyId") Long surveyId) {
+    // 설문 참여 접수 (비동기 반영)
+    @PostMapping("/surveys/participate/{surveyId}/ingest")
+    public ResponseEntity<ApiResponse<?>> enqueueSurveyResponse(
+            Principal principal,
+            @PathVariable("surveyId") Long surveyId,
+            @RequestBody SurveyParticipateReqDto requestForm
+    ) {
+        surveyService.validateAnswers(surveyId, requestForm);
+        return ResponseEntity.ok(ApiResponse.success(
+                SUCCESS_ENQUEUE_SURVEY_RESPONSE,
+                participationIngestService.enqueue(userId(principal), surveyId, requestForm)
+        ));
+    }
+
+    // 설문 참여 처리 상태 조회
+    @GetMapping("/surveys/participate/requests/{requestId}")
+    public ResponseEntity<ApiResponse<?>> getParticipationStatus(Principal principal, @PathVariable("requestId") Long requestId) {
         return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_QUESTIONS,
-                surveyService.getQuestionsBySurveyId(surveyId)
+                SUCCESS_GET_PARTICIPATION_STATUS,
+                participationIngestService.getStatus(userId(principal), requestId)
         ));
     }
+
+    // 질문 목록 조회 (설문 참여)
+    @GetMapping("/surveys/{surveyId}/questions")
+    public ResponseEntity<?> getQuestionsBySurveyId(@PathVariable("surveyId") Long surveyId, WebRequest request) {
+        // 질문 목록은 생성 후 바뀌지 않으므로 미리 직렬화된 본문을 그대로 내려준다 (If-None-Match 가 같으면 304)
+        SurveyDefinitionCache.Entry entry = surveyDefinitionCache.entry(surveyId);
+        if (request.checkNotModified(entry.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(entry.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(entry.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(entry.questionsBody());
+    }
     // 설문 환불 미리보기
     @GetMapping("/surveys/{surveyId}/refund-preview")
     public ResponseEntity<ApiResponse<?>> getSurveyRefundPreview(
@@ -135,38 +179,65 @@ public class SurveyController {
 
     // 마감 임박 설문 10개 조회
     @GetMapping("/surveys/home/deadline")
-    public ResponseEntity<ApiResponse<?>> getTop10ByDeadline() {
-        return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_SURVEY_LIST,
-                surveyService.getTop10ByDeadline()
-        ));
+    public ResponseEntity<?> getTop10ByDeadline(
+            Principal principal,
+            WebRequest request,
+            @RequestParam(defaultValue = "false") boolean withParticipated
+    ) {
+        return leaderboardResponse(SortType.DEADLINE_NEAR, request, withParticipated ? principal : null);
     }
 
     // 포인트 높은 순 설문 10개 조회
     @GetMapping("/surveys/home/point")
-    public ResponseEntity<ApiResponse<?>> getTop10ByPoint() {
-        return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_SURVEY_LIST,
-                surveyService.getTop10ByReward()
-        ));
+    public ResponseEntity<?> getTop10ByPoint(
+            Principal principal,
+            WebRequest request,
+            @RequestParam(defaultValue = "false") boolean withParticipated
+    ) {
+        return leaderboardResponse(SortType.REWARD_HIGH, request, withParticipated ? principal : null);
     }
 
-    // 포인트 높은 순 설문 10개 조회
+    // 참여자 많은 순 설문 10개 조회
     @GetMapping("/surveys/home/responseCnt")
-    public ResponseEntity<ApiResponse<?>> getTop10ByResponseCnt() {
-        return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_SURVEY_LIST,
-                surveyService.getTop10ByResponseCnt()
-        ));
+    public ResponseEntity<?> getTop10ByResponseCnt(
+            Principal principal,
+            WebRequest request,
+            @RequestParam(defaultValue = "false") boolean withParticipated
+    ) {
+        return leaderboardResponse(SortType.POPULAR, request, withParticipated ? principal : null);
+    }
+
+    /*
+     * 미리 직렬화된 순위 응답 (If-None-Match 가 같으면 304)
+     * 참여 여부를 붙이는 요청은 사용자마다 달라 공유 본문 대신 새로 만든다.
+     */
+    private ResponseEntity<?> leaderboardResponse(SortType sortType, WebRequest request, Principal principal) {
+        SurveyLeaderboard.Board board = surveyLeaderboard.get(sortType);
+        if (principal != null) {
+            return ResponseEntity.ok(ApiResponse.success(
+                    SUCCESS_GET_SURVEY_LIST,
+                    SurveyListResDto.from(surveyService.markParticipated(userId(principal), board.items()))
+            ));
+        }
+        if (request.checkNotModified(board.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(board.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(board.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(board.body());
     }
 
     // 설문 추천
     @GetMapping("/surveys/recommend")
-    public ResponseEntity<ApiResponse<?>> getSurveyByRecommend(Principal principal) {
-        return ResponseEntity.ok(ApiResponse.success(
-                SUCCESS_GET_SURVEY_RECOMMEND,
-                surveyService.getSurveyByRecommend(userId(principal))
-        ));
+    public ResponseEntity<ApiResponse<?>> getSurveyByRecommend(
+            Principal principal,
+            @RequestParam(defaultValue = "false") boolean withParticipated
+    ) {
+        SurveyListResDto surveys = surveyService.getSurveyByRecommend(userId(principal));
+        if (withParticipated) surveys = SurveyListResDto.from(surveyService.markParticipated(userId(principal), surveys.surveyItems()));
+
+        return ResponseEntity.ok(ApiResponse.success(SUCCESS_GET_SURVEY_RECOMMEND, surveys));
     }
 
     // 설문 참여자 통계 조회 (실시간)
@@ -214,4 +285,19 @@ public class SurveyController {
                 surveyStatisticsService.getAnswersByCondition(surveyId, questionNumber, condition, pageable)
         ));
     }
+
+    // 분류에 따른 응답 검색 (주관식, cursor 기반)
+    @GetMapping("/surveys/{surveyId}/questions/{questionNumber}/statistics/cursor")
+    public ResponseEntity<ApiResponse<?>> getAnswersByCursor(
+            @PathVariable("surveyId") Long surveyId,
+            @PathVariable("questionNumber") Integer questionNumber,
+            @ModelAttribute SubjectiveStatisticsReqDto condition,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(ApiResponse.success(
+                SUCCESS_GET_ANSWERS_FOR_CONDITION,
+                surveyStatisticsService.getAnswersByCursor(surveyId, questionNumber, condition, cursor, size)
+        ));
+    }
 }
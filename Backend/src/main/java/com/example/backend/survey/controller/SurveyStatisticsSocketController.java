@@ -0,0 +1,21 @@
+package com.example.backend.survey.controller;
+
+import com.example.backend.survey.dto.response.StatisticsFrameResDto;
+import com.example.backend.survey.scheduler.ParticipantStatisticBroadcaster;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@RequiredArgsConstructor
+public class SurveyStatisticsSocketController {
+
+    private final ParticipantStatisticBroadcaster participantStatisticBroadcaster;
+
+    // 실시간 참여자 통계 delta 스트림 첫 프레임 (/app/survey/{surveyId}/statistics/delta 구독 시 1번 응답)
+    @SubscribeMapping("/survey/{surveyId}/statistics/delta")
+    public StatisticsFrameResDto subscribeParticipantStatistics(@DestinationVariable Long surveyId) {
+        return participantStatisticBroadcaster.snapshotFrame(surveyId);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.backend.survey.dto.projection;
+
+/* 마감 처리 대상 설문 (설문 + 등록 시 차감 포인트 기록, 마감 배치 reader 용) */
+public record ExpiredSurvey(
+        Long surveyId,
+        Long clientId,
+        String title,
+        Long reward,
+        Integer responseCnt,
+        Long paidAmount,
+        Long platformFee
+) {
+    // 환불액 = 등록 시 차감액 - 수수료 - 참여자 보상액 (등록 기록이 없거나 0 이하면 0)
+    public long refundAmount() {
+        if (paidAmount == null) return 0L;
+        long fee = platformFee == null ? 0L : platformFee;
+        long rewardPaid = (long) (responseCnt == null ? 0 : responseCnt) * (reward == null ? 0L : reward);
+        return Math.max(paidAmount - fee - rewardPaid, 0L);
+    }
+}
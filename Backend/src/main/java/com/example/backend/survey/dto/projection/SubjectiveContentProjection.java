@@ -0,0 +1,8 @@
+package com.example.backend.survey.dto.projection;
+
+/* 주관식 응답 내용 조회용 인터페이스 */
+public interface SubjectiveContentProjection {
+    Integer getQuestionNumber();
+
+    String getContent();
+}
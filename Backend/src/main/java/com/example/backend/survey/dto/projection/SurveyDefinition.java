@@ -0,0 +1,46 @@
+package com.example.backend.survey.dto.projection;
+
+import com.example.backend.interest.dto.response.InterestResDto;
+import com.example.backend.survey.dto.response.QuestionResDto;
+import com.example.backend.survey.entity.Question;
+import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.enumType.QuestionType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/* 설문 정의 스냅샷 (생성 후 바뀌지 않는 설문 정보 + 질문/선택지, 캐시 저장용) */
+public record SurveyDefinition(
+        Long surveyId,
+        String title,
+        String description,
+        Long reward,
+        Integer maxResponse,
+        Integer questionCnt,
+        LocalDateTime deadline,
+        InterestResDto interest,
+        List<QuestionResDto> questions
+) {
+    public static SurveyDefinition of(Survey survey, List<Question> questions) {
+        return new SurveyDefinition(
+                survey.getSurveyId(),
+                survey.getTitle(),
+                survey.getDescription(),
+                survey.getReward(),
+                survey.getMaxResponse(),
+                survey.getQuestionCnt(),
+                survey.getDeadline(),
+                InterestResDto.from(survey.getInterest()),
+                questions.stream().map(QuestionResDto::from).toList()
+        );
+    }
+
+    // 질문 번호로 질문 타입 조회 (없으면 null)
+    public QuestionType questionType(Integer number) {
+        return questions.stream()
+                .filter(question -> question.number() != null && question.number().equals(number))
+                .map(QuestionResDto::type)
+                .findFirst()
+                .orElse(null);
+    }
+}
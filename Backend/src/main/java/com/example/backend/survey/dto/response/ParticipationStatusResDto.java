@@ -0,0 +1,21 @@
+package com.example.backend.survey.dto.response;
+
+import com.example.backend.survey.entity.ParticipationRequest;
+import com.example.backend.survey.enumType.ParticipationStatus;
+
+/* 비동기 설문 참여 요청 처리 상태 DTO */
+public record ParticipationStatusResDto(
+        Long requestId,
+        Long surveyId,
+        ParticipationStatus status,
+        String failureReason
+) {
+    public static ParticipationStatusResDto from(ParticipationRequest request) {
+        return new ParticipationStatusResDto(
+                request.getParticipationRequestId(),
+                request.getSurveyId(),
+                request.getStatus(),
+                request.getFailureReason()
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.backend.survey.dto.response;
+
+import com.example.backend.survey.enumType.StatisticsFrameType;
+
+/*
+ * 실시간 참여자 통계 프레임 DTO (delta 모드)
+ * - SNAPSHOT: snapshot 에 전체 통계
+ * - DELTA: 바뀐 슬롯 번호(indices)와 새 값(values)만 전송
+ *   슬롯 0 은 responseCnt, 1 부터는 gender -> age -> work 분포를 이어 붙인 순서
+ * - seq 는 설문별로 1씩 증가하며, 클라이언트는 건너뛴 번호가 있으면 스냅샷을 다시 받는다.
+ */
+public record StatisticsFrameResDto(
+        StatisticsFrameType type,
+        Long seq,
+        StatisticsParticipantResDto snapshot,
+        int[] indices,
+        long[] values
+) {
+    public static StatisticsFrameResDto snapshot(Long seq, StatisticsParticipantResDto snapshot) {
+        return new StatisticsFrameResDto(StatisticsFrameType.SNAPSHOT, seq, snapshot, null, null);
+    }
+
+    public static StatisticsFrameResDto delta(Long seq, int[] indices, long[] values) {
+        return new StatisticsFrameResDto(StatisticsFrameType.DELTA, seq, null, indices, values);
+    }
+}
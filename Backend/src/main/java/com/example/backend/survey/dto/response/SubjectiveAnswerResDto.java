@@ -1,6 +1,11 @@
 package com.example.backend.survey.dto.response;
 
+/* 주관식 응답 DTO (answerId 는 다음 페이지 cursor 로 사용) */
 public record SubjectiveAnswerResDto(
-
+        Long answerId,
+        String content
 ) {
+    public static SubjectiveAnswerResDto of(Long answerId, String content) {
+        return new SubjectiveAnswerResDto(answerId, content);
+    }
 }
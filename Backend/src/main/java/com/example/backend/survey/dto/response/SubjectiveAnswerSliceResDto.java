@@ -0,0 +1,14 @@
+package com.example.backend.survey.dto.response;
+
+import java.util.List;
+
+/* 주관식 응답 목록 DTO (keyset, nextCursor 가 null 이면 마지막 페이지) */
+public record SubjectiveAnswerSliceResDto(
+        List<SubjectiveAnswerResDto> answers,
+        Long nextCursor,
+        Boolean hasNext
+) {
+    public static SubjectiveAnswerSliceResDto of(List<SubjectiveAnswerResDto> answers, Long nextCursor, Boolean hasNext) {
+        return new SubjectiveAnswerSliceResDto(answers, nextCursor, hasNext);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.backend.survey.dto.response;
 
 import com.example.backend.interest.dto.response.InterestResDto;
+import com.example.backend.survey.dto.projection.SurveyDefinition;
 import com.example.backend.survey.entity.Survey;
 import com.example.backend.survey.enumType.SurveyState;
 
@@ -31,4 +32,19 @@ public record SurveyDetailResDto(
                 InterestResDto.from(survey.getInterest())
         );
     }
+
+    // 캐시된 설문 정의 + 현재 참여자 수/상태
+    public static SurveyDetailResDto of(SurveyDefinition definition, Integer responseCnt, SurveyState state) {
+        return new SurveyDetailResDto(
+                definition.title(),
+                definition.description(),
+                definition.reward(),
+                responseCnt,
+                definition.maxResponse(),
+                definition.questionCnt(),
+                state,
+                definition.deadline(),
+                definition.interest()
+        );
+    }
 }
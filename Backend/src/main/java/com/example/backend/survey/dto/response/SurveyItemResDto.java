@@ -2,10 +2,11 @@ package com.example.backend.survey.dto.response;
 
 import com.example.backend.survey.entity.Survey;
 import com.example.backend.survey.enumType.SurveyState;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.time.LocalDateTime;
 
-/* 설문 목록 조회 시, 목록의 아이템에 보여질 정보 */
+/* 설문 목록 조회 시, 목록의 아이템에 보여질 정보 (participated 는 요청한 경우에만 포함) */
 public record SurveyItemResDto(
         Long surveyId,
         String title,
@@ -14,8 +15,22 @@ public record SurveyItemResDto(
         Long reward,
         SurveyState state,
         LocalDateTime createdAt,
-        LocalDateTime deadline
+        LocalDateTime deadline,
+        @JsonInclude(JsonInclude.Include.NON_NULL) Boolean participated
 ) {
+    public SurveyItemResDto(
+            Long surveyId,
+            String title,
+            Integer responseCnt,
+            Integer maxResponse,
+            Long reward,
+            SurveyState state,
+            LocalDateTime createdAt,
+            LocalDateTime deadline
+    ) {
+        this(surveyId, title, responseCnt, maxResponse, reward, state, createdAt, deadline, null);
+    }
+
     public static SurveyItemResDto from(Survey survey) {
         return new SurveyItemResDto(
                 survey.getSurveyId(),
@@ -28,4 +43,8 @@ public record SurveyItemResDto(
                 survey.getDeadline()
         );
     }
+
+    public SurveyItemResDto withParticipated(boolean participated) {
+        return new SurveyItemResDto(surveyId, title, responseCnt, maxResponse, reward, state, createdAt, deadline, participated);
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.backend.survey.dto.response;
 
+import com.example.backend.survey.entity.Question;
 import com.example.backend.survey.entity.Survey;
 import com.example.backend.survey.enumType.SurveyState;
 
@@ -18,6 +19,11 @@ public record SurveyResDto(
         List<QuestionResDto> questions
 ) {
     public static SurveyResDto from(Survey survey) {
+        return of(survey, survey.getQuestions());
+    }
+
+    // 질문을 엔티티 연관관계 대신 따로 저장한 경우 (설문 생성)
+    public static SurveyResDto of(Survey survey, List<Question> questions) {
         return new SurveyResDto(
                 survey.getTitle(),
                 survey.getDescription(),
@@ -26,7 +32,7 @@ public record SurveyResDto(
                 survey.getDeadline(),
                 survey.getState(),
                 survey.getResponseCnt(),
-                survey.getQuestions().stream()
+                questions.stream()
                         .map(QuestionResDto::from)
                         .toList()
         );
@@ -1,7 +1,10 @@
 package com.example.backend.survey.entity;
 
+import com.example.backend.global.enumType.AgeGroup;
+import com.example.backend.global.enumType.WorkType;
 import com.example.backend.survey.enumType.QuestionType;
 import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.enumType.Gender;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -18,7 +21,8 @@ import java.util.List;
         name = "answers",
         indexes = {
                 @Index(name = "idx_survey", columnList = "survey_id"),
-                @Index(name = "idx_question_number", columnList = "question_number")
+                @Index(name = "idx_question_number", columnList = "question_number"),
+                @Index(name = "idx_survey_question_answer", columnList = "survey_id, question_number, answers_id")
         }
 )
 public class Answer {
@@ -45,4 +49,14 @@ public class Answer {
     private List<Integer> answerChoice = new ArrayList<>(); // 객관식 응답
 
     private String content; // 주관식 응답
+
+    // 응답 당시 참여자 정보 (조건 검색 시 users 조인 없이 필터링)
+    @Enumerated(EnumType.STRING)
+    private Gender gender;
+
+    @Enumerated(EnumType.STRING)
+    private AgeGroup ageGroup;
+
+    @Enumerated(EnumType.STRING)
+    private WorkType workType;
 }
@@ -0,0 +1,63 @@
+package com.example.backend.survey.entity;
+
+import com.example.backend.global.common.BaseTimeEntity;
+import com.example.backend.survey.enumType.ParticipationStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+/* 비동기 설문 참여 요청 (table-backed 큐) */
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+        name = "participation_requests",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_participation_request", columnNames = {"survey_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_status", columnList = "status, participation_request_id")
+        }
+)
+public class ParticipationRequest extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long participationRequestId;
+
+    @Column(name = "survey_id", nullable = false)
+    private Long surveyId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(columnDefinition = "JSON", nullable = false)
+    private String payload; // 응답 목록 (SurveyParticipateReqDto)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ParticipationStatus status;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0; // 처리 시도 횟수
+
+    @Column(length = 255)
+    private String failureReason;
+
+    public void apply() {
+        this.status = ParticipationStatus.APPLIED;
+        this.failureReason = null;
+    }
+
+    public void fail(String reason) {
+        this.status = ParticipationStatus.FAILED;
+        this.failureReason = reason;
+    }
+
+    // 일시적인 오류면 다시 대기열로
+    public void retry(String reason) {
+        this.status = ParticipationStatus.PENDING;
+        this.failureReason = reason;
+    }
+}
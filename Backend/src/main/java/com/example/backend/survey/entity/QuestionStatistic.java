@@ -3,13 +3,19 @@ package com.example.backend.survey.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+/* 선택지별 집계 (선택 횟수 + 선택한 응답자의 성별/나이대/직업 분포) */
 @Entity
 @Getter
 @Setter
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "question_statistics")
+@Table(
+        name = "question_statistics",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_question_statistic", columnNames = {"survey_id", "question_number", "choice_number"})
+        }
+)
 public class QuestionStatistic {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -23,5 +29,82 @@ public class QuestionStatistic {
 
     private Integer choiceNumber; // 선택지 번호
 
-    private Integer count; // 선택 횟수
+    @Column(nullable = false)
+    @Builder.Default
+    private Long count = 0L; // 선택 횟수
+
+    // 이 선택지를 고른 응답자의 성별 분포
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long maleCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long femaleCnt = 0L;
+
+    // 이 선택지를 고른 응답자의 나이대 분포
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long teensCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long twentiesCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long thirtiesCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long fortiesCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long fiftiesCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long sixtyPlusCnt = 0L;
+
+    // 이 선택지를 고른 응답자의 직업 분포
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long itCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long officeCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long manufacturingCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long serviceCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long educationCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long medicalCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long creativeCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long studentCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long selfEmployedCnt = 0L;
+
+    @Column(nullable = false, columnDefinition = "bigint default 0")
+    @Builder.Default
+    private Long etcCnt = 0L;
 }
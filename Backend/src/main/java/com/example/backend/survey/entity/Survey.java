@@ -52,7 +52,8 @@ public class Survey extends BaseTimeEntity {
 
     private String description; // 설문조사 상세 설명
 
-    @Column(nullable = false)
+    // 참여 시 SurveyRepository.reserveResponseSlot 으로만 증가시키므로 엔티티 저장 시에는 덮어쓰지 않는다
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer responseCnt = 0; // 현재 응답 횟수
 
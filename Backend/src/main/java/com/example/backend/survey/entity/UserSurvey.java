@@ -21,7 +21,8 @@ import lombok.*;
         indexes = {
                 @Index(name = "idx_survey", columnList = "survey_id"),
                 @Index(name = "idx_user", columnList = "user_id")
-        }
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_user_survey", columnNames = {"user_id", "survey_id"})
 )
 public class UserSurvey extends BaseTimeEntity {
     @Id
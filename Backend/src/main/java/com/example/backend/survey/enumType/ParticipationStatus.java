@@ -0,0 +1,12 @@
+package com.example.backend.survey.enumType;
+
+/*
+ * 비동기 설문 참여 요청의 처리 상태
+ * - PENDING: 접수됨, 처리 대기 중
+ * - PROCESSING: 워커가 가져가서 처리 중
+ * - APPLIED: 응답/통계/보상 반영 완료
+ * - FAILED: 반영 실패
+ */
+public enum ParticipationStatus {
+    PENDING, PROCESSING, APPLIED, FAILED
+}
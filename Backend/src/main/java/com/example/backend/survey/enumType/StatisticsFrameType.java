@@ -0,0 +1,8 @@
+package com.example.backend.survey.enumType;
+
+/*
+ * 실시간 통계 delta 스트림의 프레임 종류
+ */
+public enum StatisticsFrameType {
+    SNAPSHOT, DELTA
+}
@@ -0,0 +1,8 @@
+package com.example.backend.survey.enumType;
+
+/*
+ * 설문 목록 정보 변경 종류
+ */
+public enum SurveyChangeType {
+    CREATED, PARTICIPATED, CLOSED
+}
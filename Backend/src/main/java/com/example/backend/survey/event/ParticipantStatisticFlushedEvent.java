@@ -0,0 +1,13 @@
+package com.example.backend.survey.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collection;
+
+/* 다른 노드에서 참여자 통계가 DB 에 반영됨 (브로드캐스트 담당 노드가 다시 보내도록) */
+@Getter
+@AllArgsConstructor
+public class ParticipantStatisticFlushedEvent {
+    private final Collection<Long> surveyIds;
+}
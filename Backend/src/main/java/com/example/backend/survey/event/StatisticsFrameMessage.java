@@ -0,0 +1,17 @@
+package com.example.backend.survey.event;
+
+import com.example.backend.survey.dto.response.StatisticsFrameResDto;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/* 노드 간 전달되는 설문별 실시간 통계 메시지 (설문당 주기마다 1건) */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatisticsFrameMessage {
+    private Long surveyId;
+    private Integer maxResponse;
+    private long[] counts;              // 전체 값 (슬롯 순서), 받는 노드가 전체 통계 응답을 만들 때 사용
+    private StatisticsFrameResDto frame; // delta 스트림 프레임
+}
@@ -0,0 +1,13 @@
+package com.example.backend.survey.event;
+
+import com.example.backend.survey.enumType.SurveyChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 설문 목록에 보이는 정보 변경 (생성, 참여 수, 마감/취소) */
+@Getter
+@AllArgsConstructor
+public class SurveyChangedEvent {
+    private final Long surveyId;
+    private final SurveyChangeType type;
+}
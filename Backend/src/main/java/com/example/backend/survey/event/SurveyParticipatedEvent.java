@@ -0,0 +1,13 @@
+package com.example.backend.survey.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 사용자 설문 참여 (추천 피드 갱신용) */
+@Getter
+@AllArgsConstructor
+public class SurveyParticipatedEvent {
+    private final Long userId;
+    private final Long surveyId;
+    private final Long interestId;
+}
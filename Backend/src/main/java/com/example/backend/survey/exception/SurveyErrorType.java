@@ -19,6 +19,8 @@ public enum SurveyErrorType implements ErrorType {
     ERROR_PARTICIPATE_SURVEY_ALREADY_DONE(HttpStatus.ALREADY_REPORTED, "이미 참여한 설문"),
     ERROR_PARTICIPATE_SURVEY_CLOSED(HttpStatus.BAD_REQUEST, "종료된 설문"),
     ERROR_PARTICIPATE_SURVEY_NO_CONTENT(HttpStatus.NO_CONTENT, "참여 설문 조회 실패"),
+    ERROR_PARTICIPATE_SURVEY_INVALID_ANSWER(HttpStatus.BAD_REQUEST, "잘못된 응답"),
+    ERROR_GET_PARTICIPATION_STATUS(HttpStatus.NO_CONTENT, "참여 요청 조회 실패"),
     ERROR_GET_STATISTICS_NOT_PERMISSION(HttpStatus.FORBIDDEN, "통계 조회 권한 없음"),
     ERROR_GET_STATISTICS_NO_CONTENT(HttpStatus.NO_CONTENT, "설문 조회 실패"),
     ERROR_GET_STATISTICS_QUESTION_TYPE_MISMATCH(HttpStatus.BAD_REQUEST, "질문 타입 불일치"),
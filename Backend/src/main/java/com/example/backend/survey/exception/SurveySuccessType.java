@@ -16,6 +16,8 @@ public enum SurveySuccessType implements SuccessType {
     SUCCESS_GET_SURVEY_RECOMMEND(HttpStatus.OK, "설문 추천 받기 성공"),
     SUCCESS_CLOSE_SURVEY(HttpStatus.NO_CONTENT, "설문 내리기 성공"),
     SUCCESS_RESPOND_SURVEY(HttpStatus.CREATED, "설문 참여 성공"),
+    SUCCESS_ENQUEUE_SURVEY_RESPONSE(HttpStatus.ACCEPTED, "설문 참여 접수 성공"),
+    SUCCESS_GET_PARTICIPATION_STATUS(HttpStatus.OK, "설문 참여 처리 상태 조회 성공"),
     SUCCESS_GET_STATISTICS_PARTICIPANTS(HttpStatus.OK, "참여자 통계 조회 성공"),
     SUCCESS_GET_STATISTICS_ANSWER(HttpStatus.OK, "응답 통계 조회 성공"),
     SUCCESS_GET_STATISTICS_PARTICIPANTS_BY_QUESTION(HttpStatus.OK, "질문별 참여자 응답 통계 조회 성공"),
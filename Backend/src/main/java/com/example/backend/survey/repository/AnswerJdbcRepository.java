@@ -0,0 +1,135 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.global.enumType.AgeGroup;
+import com.example.backend.global.enumType.WorkType;
+import com.example.backend.survey.dto.response.SubjectiveAnswerResDto;
+import com.example.backend.survey.entity.Answer;
+import com.example.backend.user.enumType.Gender;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 설문 응답 일괄 저장
+ * - Answer 는 IDENTITY 전략 + @ElementCollection 이라 saveAll 시 응답/선택지마다 INSERT 가 1번씩 나간다.
+ * - JDBC batch 로 answers, answer_choices 를 각각 한 번에 보낸다.
+ *   (rewriteBatchedStatements=true 이면 드라이버가 multi-row INSERT 로 합쳐 보낸다)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerJdbcRepository {
+
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO answers (survey_id, participant_id, question_number, type, content, gender, age_group, work_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ANSWER_CHOICE_SQL =
+            "INSERT INTO answer_choices (answer_id, answer_choice) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 응답 저장 후 생성된 ID 를 각 Answer 에 채워 넣는다
+    public void saveAll(List<Answer> answers) {
+        if (answers.isEmpty()) return;
+
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_ANSWER_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Answer answer = answers.get(i);
+                        ps.setLong(1, answer.getSurvey().getSurveyId());
+                        ps.setLong(2, answer.getParticipant().getId());
+                        if (answer.getQuestionNumber() != null) ps.setInt(3, answer.getQuestionNumber());
+                        else ps.setNull(3, Types.INTEGER);
+                        ps.setString(4, answer.getType() != null ? answer.getType().name() : null);
+                        ps.setString(5, answer.getContent());
+                        ps.setString(6, answer.getGender() != null ? answer.getGender().name() : null);
+                        ps.setString(7, answer.getAgeGroup() != null ? answer.getAgeGroup().name() : null);
+                        ps.setString(8, answer.getWorkType() != null ? answer.getWorkType().name() : null);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return answers.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> answerIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        for (int i = 0; i < answers.size(); i++) {
+            answers.get(i).setAnswersId(answerIds.get(i));
+        }
+
+        saveAnswerChoices(answers);
+    }
+
+    /*
+     * 조건에 따른 주관식 응답 조회 (keyset)
+     * - 지정된 조건만 WHERE 에 넣어 (survey_id, question_number, answers_id) 인덱스를 그대로 탄다.
+     * - 다음 페이지 여부 확인용으로 size + 1 건을 읽고, count 쿼리는 실행하지 않는다.
+     */
+    public List<SubjectiveAnswerResDto> findContentsAfter(
+            Long surveyId, Integer questionNumber,
+            Gender gender, AgeGroup ageGroup, WorkType workType,
+            Long cursor, int limit
+    ) {
+        StringBuilder sql = new StringBuilder("""
+                SELECT answers_id, content
+                FROM answers
+                WHERE survey_id = ?
+                AND question_number = ?
+                """);
+        List<Object> args = new ArrayList<>(List.of(surveyId, questionNumber));
+
+        if (gender != null) {
+            sql.append("AND gender = ?\n");
+            args.add(gender.name());
+        }
+        if (ageGroup != null) {
+            sql.append("AND age_group = ?\n");
+            args.add(ageGroup.name());
+        }
+        if (workType != null) {
+            sql.append("AND work_type = ?\n");
+            args.add(workType.name());
+        }
+        if (cursor != null) {
+            sql.append("AND answers_id > ?\n");
+            args.add(cursor);
+        }
+        sql.append("ORDER BY answers_id LIMIT ?");
+        args.add(limit);
+
+        return jdbcTemplate.query(
+                sql.toString(),
+                (rs, rowNum) -> SubjectiveAnswerResDto.of(rs.getLong("answers_id"), rs.getString("content")),
+                args.toArray()
+        );
+    }
+
+    private void saveAnswerChoices(List<Answer> answers) {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Answer answer : answers) {
+            if (answer.getAnswerChoice() == null) continue;
+            for (Integer choiceNumber : answer.getAnswerChoice()) {
+                batchArgs.add(new Object[]{answer.getAnswersId(), choiceNumber});
+            }
+        }
+        if (batchArgs.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_ANSWER_CHOICE_SQL, batchArgs);
+    }
+}
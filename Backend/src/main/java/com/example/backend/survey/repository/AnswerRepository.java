@@ -1,11 +1,13 @@
 package com.example.backend.survey.repository;
 
 import com.example.backend.global.enumType.WorkType;
+import com.example.backend.survey.dto.projection.SubjectiveContentProjection;
 import com.example.backend.survey.entity.Answer;
 import com.example.backend.user.enumType.Gender;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,17 @@ import java.util.List;
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
     List<Answer> findBySurvey_SurveyId(@Param("surveyId") Long surveyId);
 
+    // 주관식 질문의 응답만 조회 (질문 번호, 내용)
+    @Query("SELECT a.questionNumber AS questionNumber, a.content AS content FROM Answer a " +
+            "WHERE a.survey.surveyId = :surveyId " +
+            "AND a.questionNumber IN :questionNumbers " +
+            "AND a.content IS NOT NULL"
+    )
+    List<SubjectiveContentProjection> findContentsBySurveyIdAndQuestionNumbers(
+            @Param("surveyId") Long surveyId,
+            @Param("questionNumbers") List<Integer> questionNumbers
+    );
+
     // 조건에 따른 주관식 응답 조회
     @Query("SELECT a FROM Answer a " +
             "JOIN FETCH a.participant p " +
@@ -35,4 +48,19 @@ public interface AnswerRepository extends JpaRepository<Answer, Long> {
             @Param("gender") Gender gender,
             Pageable pageable
     );
+
+    // 참여자 정보가 없는 기존 응답에 user_surveys 의 참여 당시 정보 채우기
+    @Modifying
+    @Query(value = """
+            UPDATE answers a
+            JOIN user_surveys us ON us.survey_id = a.survey_id AND us.user_id = a.participant_id
+            SET a.gender = us.gender,
+                a.age_group = us.age_group,
+                a.work_type = us.work_type
+            WHERE a.survey_id = :surveyId
+            AND a.gender IS NULL
+            AND a.age_group IS NULL
+            AND a.work_type IS NULL
+            """, nativeQuery = true)
+    int backfillDemographics(@Param("surveyId") Long surveyId);
 }
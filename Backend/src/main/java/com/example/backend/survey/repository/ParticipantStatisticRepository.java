@@ -2,11 +2,79 @@ package com.example.backend.survey.repository;
 
 import com.example.backend.survey.entity.ParticipantStatistic;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface ParticipantStatisticRepository extends JpaRepository<ParticipantStatistic, Long> {
     Optional<ParticipantStatistic> findBySurvey_SurveyId(Long surveyId);
+
+    /*
+     * user_surveys 기준으로 통계 재계산 (compare-and-set)
+     * - 관찰한 version (flush 마다 +1) 과 surveys.response_cnt 가 그대로일 때만 덮어쓴다.
+     *   그 사이 어느 노드든 flush 했거나 새 참여가 커밋됐으면 0 을 반환하고 건너뛴다.
+     * - 참여 기록이 없는 설문도 0 으로 맞춘다. (LEFT JOIN)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE participant_statistics ps
+            JOIN surveys s ON s.survey_id = ps.survey_id
+            LEFT JOIN (
+                SELECT survey_id,
+                       COUNT(*) AS total_cnt,
+                       SUM(gender = 'MALE') AS male_cnt,
+                       SUM(gender = 'FEMALE') AS female_cnt,
+                       SUM(age_group = 'TEEN') AS teens_cnt,
+                       SUM(age_group = 'TWENTIES') AS twenties_cnt,
+                       SUM(age_group = 'THIRTIES') AS thirties_cnt,
+                       SUM(age_group = 'FORTIES') AS forties_cnt,
+                       SUM(age_group = 'FIFTIES') AS fifties_cnt,
+                       SUM(age_group = 'SIXTY_PLUS') AS sixty_plus_cnt,
+                       SUM(work_type = 'IT') AS it_cnt,
+                       SUM(work_type = 'OFFICE') AS office_cnt,
+                       SUM(work_type = 'MANUFACTURING') AS manufacturing_cnt,
+                       SUM(work_type = 'SERVICE') AS service_cnt,
+                       SUM(work_type = 'EDUCATION') AS education_cnt,
+                       SUM(work_type = 'MEDICAL') AS medical_cnt,
+                       SUM(work_type = 'CREATIVE') AS creative_cnt,
+                       SUM(work_type = 'STUDENT') AS student_cnt,
+                       SUM(work_type = 'SELF_EMPLOYED') AS self_employed_cnt,
+                       SUM(work_type = 'ETC') AS etc_cnt
+                FROM user_surveys
+                WHERE survey_id = :surveyId
+                GROUP BY survey_id
+            ) us ON us.survey_id = ps.survey_id
+            SET ps.total_cnt = COALESCE(us.total_cnt, 0),
+                ps.male_cnt = COALESCE(us.male_cnt, 0),
+                ps.female_cnt = COALESCE(us.female_cnt, 0),
+                ps.teens_cnt = COALESCE(us.teens_cnt, 0),
+                ps.twenties_cnt = COALESCE(us.twenties_cnt, 0),
+                ps.thirties_cnt = COALESCE(us.thirties_cnt, 0),
+                ps.forties_cnt = COALESCE(us.forties_cnt, 0),
+                ps.fifties_cnt = COALESCE(us.fifties_cnt, 0),
+                ps.sixty_plus_cnt = COALESCE(us.sixty_plus_cnt, 0),
+                ps.it_cnt = COALESCE(us.it_cnt, 0),
+                ps.office_cnt = COALESCE(us.office_cnt, 0),
+                ps.manufacturing_cnt = COALESCE(us.manufacturing_cnt, 0),
+                ps.service_cnt = COALESCE(us.service_cnt, 0),
+                ps.education_cnt = COALESCE(us.education_cnt, 0),
+                ps.medical_cnt = COALESCE(us.medical_cnt, 0),
+                ps.creative_cnt = COALESCE(us.creative_cnt, 0),
+                ps.student_cnt = COALESCE(us.student_cnt, 0),
+                ps.self_employed_cnt = COALESCE(us.self_employed_cnt, 0),
+                ps.etc_cnt = COALESCE(us.etc_cnt, 0),
+                ps.version = COALESCE(ps.version, 0) + 1
+            WHERE ps.survey_id = :surveyId
+              AND COALESCE(ps.version, 0) = :version
+              AND COALESCE(s.response_cnt, 0) = :responseCnt
+            """, nativeQuery = true)
+    int rebuildFromUserSurveys(@Param("surveyId") Long surveyId,
+                               @Param("version") long version,
+                               @Param("responseCnt") long responseCnt);
 }
@@ -0,0 +1,58 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.survey.entity.ParticipationRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ParticipationRequestRepository extends JpaRepository<ParticipationRequest, Long> {
+
+    // 처리 대기 중인 요청 잠금 (다른 워커가 잡은 행은 건너뜀)
+    @Query(value = """
+            SELECT participation_request_id
+            FROM participation_requests
+            WHERE status = 'PENDING'
+            ORDER BY participation_request_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Long> lockPendingIds(@Param("limit") int limit);
+
+    // 잠근 요청을 처리 중으로 변경
+    @Modifying
+    @Query(value = """
+            UPDATE participation_requests
+            SET status = 'PROCESSING', attempts = attempts + 1, updated_at = NOW()
+            WHERE participation_request_id IN :ids
+            """, nativeQuery = true)
+    int markProcessing(@Param("ids") List<Long> ids);
+
+    // 처리 중에 워커가 죽은 요청을 다시 대기열로 (updated_at 을 DB 시계로 찍으므로 기준 시각도 DB 에서 계산)
+    @Modifying
+    @Query(value = """
+            UPDATE participation_requests
+            SET status = 'PENDING', updated_at = NOW()
+            WHERE status = 'PROCESSING'
+            AND updated_at < NOW() - INTERVAL :minutes MINUTE
+            """, nativeQuery = true)
+    int releaseStale(@Param("minutes") long minutes);
+
+    // 실패한 요청을 새 응답으로 다시 접수 (FAILED 인 행만 PENDING 으로 되돌린다)
+    @Modifying
+    @Query(value = """
+            UPDATE participation_requests
+            SET status = 'PENDING', payload = :payload, attempts = 0, failure_reason = NULL, updated_at = NOW()
+            WHERE survey_id = :surveyId
+            AND user_id = :userId
+            AND status = 'FAILED'
+            """, nativeQuery = true)
+    int resubmitFailed(@Param("surveyId") Long surveyId, @Param("userId") Long userId, @Param("payload") String payload);
+
+    Optional<ParticipationRequest> findBySurveyIdAndUserId(Long surveyId, Long userId);
+}
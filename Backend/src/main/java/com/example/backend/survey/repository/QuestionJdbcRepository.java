@@ -0,0 +1,99 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.survey.entity.Choice;
+import com.example.backend.survey.entity.Question;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.List;
+
+/*
+ * 설문 질문/선택지 일괄 저장 (설문 생성)
+ * - Question, Choice 는 IDENTITY 전략이라 cascade 저장 시 질문/선택지마다 INSERT 가 1번씩 나간다.
+ * - batch-size 개씩 나눠 JDBC batch 로 보내고 (rewriteBatchedStatements=true 면 multi-row INSERT),
+ *   질문 INSERT 로 생성된 ID 를 받아 선택지의 question_id 로 사용한다.
+ */
+@Repository
+public class QuestionJdbcRepository {
+
+    private static final String INSERT_QUESTION_SQL =
+            "INSERT INTO questions (survey_id, number, content, type) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CHOICE_SQL =
+            "INSERT INTO choices (question_id, number, content) VALUES (?, ?, ?)";
+    private static final String INSERT_QUESTION_STATISTIC_SQL =
+            "INSERT INTO question_statistics (survey_id, question_number, choice_number, count) VALUES (?, ?, ?, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public QuestionJdbcRepository(JdbcTemplate jdbcTemplate, @Value("${survey.create.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    // 질문 저장 후 생성된 ID 를 각 Question 에 채우고, 선택지를 저장한다
+    public void saveAll(Long surveyId, List<Question> questions) {
+        for (int from = 0; from < questions.size(); from += batchSize) {
+            saveQuestions(surveyId, questions.subList(from, Math.min(from + batchSize, questions.size())));
+        }
+
+        List<Choice> choices = questions.stream()
+                .filter(question -> question.getChoices() != null)
+                .flatMap(question -> question.getChoices().stream())
+                .toList();
+        jdbcTemplate.batchUpdate(INSERT_CHOICE_SQL, choices, batchSize, (ps, choice) -> {
+            ps.setLong(1, choice.getQuestion().getQuestionId());
+            if (choice.getNumber() != null) ps.setInt(2, choice.getNumber());
+            else ps.setNull(2, Types.INTEGER);
+            ps.setString(3, choice.getContent());
+        });
+    }
+
+    // 선택지별 집계 행 생성 (분포 컬럼은 DB 기본값 0)
+    public void saveStatistics(Long surveyId, List<Choice> choices) {
+        jdbcTemplate.batchUpdate(INSERT_QUESTION_STATISTIC_SQL, choices, batchSize, (ps, choice) -> {
+            ps.setLong(1, surveyId);
+            ps.setObject(2, choice.getQuestion().getNumber(), Types.INTEGER);
+            ps.setObject(3, choice.getNumber(), Types.INTEGER);
+        });
+    }
+
+    private void saveQuestions(Long surveyId, List<Question> chunk) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_QUESTION_SQL, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Question question = chunk.get(i);
+                        ps.setLong(1, surveyId);
+                        if (question.getNumber() != null) ps.setInt(2, question.getNumber());
+                        else ps.setNull(2, Types.INTEGER);
+                        ps.setString(3, question.getContent());
+                        ps.setString(4, question.getType().name());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return chunk.size();
+                    }
+                },
+                keyHolder
+        );
+
+        List<Long> questionIds = keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+        for (int i = 0; i < chunk.size(); i++) {
+            chunk.get(i).setQuestionId(questionIds.get(i));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.survey.entity.QuestionStatistic;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface QuestionStatisticRepository extends JpaRepository<QuestionStatistic, Long> {
+    List<QuestionStatistic> findBySurvey_SurveyId(Long surveyId);
+
+    Optional<QuestionStatistic> findBySurvey_SurveyIdAndQuestionNumberAndChoiceNumber(Long surveyId, Integer questionNumber, Integer choiceNumber);
+
+    // 빠진 선택지 집계 행을 0 으로 만들기 (집계 행 도입 전 설문, 이미 있는 행은 건드리지 않는다)
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO question_statistics (survey_id, question_number, choice_number, count)
+            SELECT q.survey_id, q.number, c.number, 0
+            FROM questions q
+            JOIN choices c ON c.question_id = q.question_id
+            WHERE q.survey_id = :surveyId
+            AND q.type <> 'SUBJECTIVE'
+            """, nativeQuery = true)
+    int insertMissing(@Param("surveyId") Long surveyId);
+
+    // 설문의 집계 행 잠금 (참여 upsert 와 같은 (질문 번호, 선택지 번호) 순서)
+    @Query(value = """
+            SELECT question_statistic_id
+            FROM question_statistics
+            WHERE survey_id = :surveyId
+            ORDER BY question_number, choice_number
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockBySurveyId(@Param("surveyId") Long surveyId);
+
+    /*
+     * 선택 횟수와 선택지별 응답자 분포를 answers + user_surveys 기준으로 재계산 (집계 행/분포 컬럼 도입 전 설문)
+     * - lockBySurveyId 로 행을 잠근 READ COMMITTED 트랜잭션에서 실행한다 (SurveyStatisticsService.migrateLegacyStatistics).
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE question_statistics qs
+            JOIN (
+                SELECT a.question_number,
+                       ac.answer_choice,
+                       COUNT(DISTINCT a.answers_id) AS cnt,
+                       SUM(us.gender <=> 'MALE') AS male_cnt,
+                       SUM(us.gender <=> 'FEMALE') AS female_cnt,
+                       SUM(us.age_group <=> 'TEEN') AS teens_cnt,
+                       SUM(us.age_group <=> 'TWENTIES') AS twenties_cnt,
+                       SUM(us.age_group <=> 'THIRTIES') AS thirties_cnt,
+                       SUM(us.age_group <=> 'FORTIES') AS forties_cnt,
+                       SUM(us.age_group <=> 'FIFTIES') AS fifties_cnt,
+                       SUM(us.age_group <=> 'SIXTY_PLUS') AS sixty_plus_cnt,
+                       SUM(us.work_type <=> 'IT') AS it_cnt,
+                       SUM(us.work_type <=> 'OFFICE') AS office_cnt,
+                       SUM(us.work_type <=> 'MANUFACTURING') AS manufacturing_cnt,
+                       SUM(us.work_type <=> 'SERVICE') AS service_cnt,
+                       SUM(us.work_type <=> 'EDUCATION') AS education_cnt,
+                       SUM(us.work_type <=> 'MEDICAL') AS medical_cnt,
+                       SUM(us.work_type <=> 'CREATIVE') AS creative_cnt,
+                       SUM(us.work_type <=> 'STUDENT') AS student_cnt,
+                       SUM(us.work_type <=> 'SELF_EMPLOYED') AS self_employed_cnt,
+                       SUM(us.work_type <=> 'ETC') AS etc_cnt
+                FROM answers a
+                JOIN answer_choices ac ON ac.answer_id = a.answers_id
+                LEFT JOIN user_surveys us ON us.survey_id = a.survey_id AND us.user_id = a.participant_id
+                WHERE a.survey_id = :surveyId
+                GROUP BY a.question_number, ac.answer_choice
+            ) x ON x.question_number = qs.question_number AND x.answer_choice = qs.choice_number
+            SET qs.count = x.cnt,
+                qs.male_cnt = x.male_cnt,
+                qs.female_cnt = x.female_cnt,
+                qs.teens_cnt = x.teens_cnt,
+                qs.twenties_cnt = x.twenties_cnt,
+                qs.thirties_cnt = x.thirties_cnt,
+                qs.forties_cnt = x.forties_cnt,
+                qs.fifties_cnt = x.fifties_cnt,
+                qs.sixty_plus_cnt = x.sixty_plus_cnt,
+                qs.it_cnt = x.it_cnt,
+                qs.office_cnt = x.office_cnt,
+                qs.manufacturing_cnt = x.manufacturing_cnt,
+                qs.service_cnt = x.service_cnt,
+                qs.education_cnt = x.education_cnt,
+                qs.medical_cnt = x.medical_cnt,
+                qs.creative_cnt = x.creative_cnt,
+                qs.student_cnt = x.student_cnt,
+                qs.self_employed_cnt = x.self_employed_cnt,
+                qs.etc_cnt = x.etc_cnt
+            WHERE qs.survey_id = :surveyId
+            """, nativeQuery = true)
+    int rebuildFromAnswers(@Param("surveyId") Long surveyId);
+}
@@ -0,0 +1,164 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.point.enumType.PointType;
+import com.example.backend.point.enumType.ReferenceType;
+import com.example.backend.point.service.PointService;
+import com.example.backend.survey.dto.projection.ExpiredSurvey;
+import com.example.backend.survey.enumType.SurveyState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+ * 설문 마감 + 환불 일괄 처리 (마감 배치 writer, 마감 타이머)
+ * - 상태 변경은 IN_PROCESS 일 때만 DONE 으로 바꾸는 조건부 UPDATE 라, 이미 마감/취소된 설문은 건너뛰고
+ *   재시작이나 다른 마감 경로와 겹쳐도 환불이 두 번 나가지 않는다.
+ * - 환불은 의뢰인별로 합산해 users 잔액을 한 번씩 올리고 (user_id 순으로 잠가 파티션 간 교착을 피한다),
+ *   point_record 는 JDBC batch 로 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SurveyDeadlineJdbcRepository {
+
+    private static final String CLOSE_SQL =
+            "UPDATE surveys SET state = ? WHERE survey_id = ? AND state = ?";
+    private static final String CHARGE_SQL =
+            "UPDATE users SET point = point + ? WHERE id = ?";
+    private static final String INSERT_POINT_RECORD_SQL =
+            "INSERT INTO point_record (user_id, amount, type, content, remain_point, reference_type, reference_id, platform_fee, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, NULL, ?, ?)";
+
+    private static final String SELECT_EXPIRED_SQL =
+            "SELECT s.survey_id, s.client_id, s.title, s.reward, s.response_cnt, p.amount, p.platform_fee "
+                    + "FROM surveys s LEFT JOIN point_record p ON p.reference_type = 'SURVEY' AND p.reference_id = s.survey_id ";
+
+    // 마감 대상 설문 행 (배치 reader 와 같은 컬럼)
+    public static final RowMapper<ExpiredSurvey> EXPIRED_SURVEY_ROW_MAPPER = (rs, rowNum) -> new ExpiredSurvey(
+            rs.getLong("survey_id"),
+            rs.getLong("client_id"),
+            rs.getString("title"),
+            rs.getObject("reward") == null ? null : rs.getLong("reward"),
+            rs.getObject("response_cnt") == null ? null : rs.getInt("response_cnt"),
+            rs.getObject("amount") == null ? null : rs.getLong("amount"),
+            rs.getObject("platform_fee") == null ? null : rs.getLong("platform_fee")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 지정한 설문 중 마감 시각이 된 진행 중 설문
+    public List<ExpiredSurvey> findExpired(Collection<Long> surveyIds, LocalDateTime now) {
+        if (surveyIds.isEmpty()) return List.of();
+
+        List<Object> args = new ArrayList<>(surveyIds);
+        args.add(SurveyState.IN_PROCESS.name());
+        args.add(Timestamp.valueOf(now));
+        return jdbcTemplate.query(
+                SELECT_EXPIRED_SQL + "WHERE s.survey_id IN (" + placeholders(surveyIds.size()) + ") AND s.state = ? AND s.deadline <= ?",
+                EXPIRED_SURVEY_ROW_MAPPER,
+                args.toArray()
+        );
+    }
+
+    // until 전에 마감되는 진행 중 설문의 마감 시각 (이미 지난 설문 포함)
+    public Map<Long, LocalDateTime> findDeadlinesBefore(LocalDateTime until) {
+        Map<Long, LocalDateTime> deadlines = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT survey_id, deadline FROM surveys WHERE state = ? AND deadline < ?",
+                (RowCallbackHandler) rs -> deadlines.put(rs.getLong(1), rs.getTimestamp(2).toLocalDateTime()),
+                SurveyState.IN_PROCESS.name(), Timestamp.valueOf(until)
+        );
+        return deadlines;
+    }
+
+    // 진행 중 설문 1개의 마감 시각
+    public Optional<LocalDateTime> findDeadline(Long surveyId) {
+        return jdbcTemplate.query(
+                "SELECT deadline FROM surveys WHERE survey_id = ? AND state = ? AND deadline IS NOT NULL",
+                (rs, rowNum) -> rs.getTimestamp(1).toLocalDateTime(),
+                surveyId, SurveyState.IN_PROCESS.name()
+        ).stream().findFirst();
+    }
+
+    // 진행 중인 설문만 DONE 으로 바꾸고, 실제로 바뀐 설문만 반환
+    public List<ExpiredSurvey> close(List<? extends ExpiredSurvey> surveys) {
+        if (surveys.isEmpty()) return List.of();
+
+        List<ExpiredSurvey> items = new ArrayList<>(surveys);
+        int[][] counts = jdbcTemplate.batchUpdate(CLOSE_SQL, items, items.size(), (ps, survey) -> {
+            ps.setString(1, SurveyState.DONE.name());
+            ps.setLong(2, survey.surveyId());
+            ps.setString(3, SurveyState.IN_PROCESS.name());
+        });
+
+        List<ExpiredSurvey> closed = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            // 드라이버가 건수를 모르면 (SUCCESS_NO_INFO = -2) 바뀐 것으로 본다
+            if (counts[0][i] != 0) closed.add(items.get(i));
+        }
+        return closed;
+    }
+
+    // 마감된 설문의 남은 포인트를 의뢰인에게 환불
+    public void refund(List<ExpiredSurvey> closed) {
+        List<ExpiredSurvey> refunds = closed.stream()
+                .filter(survey -> survey.refundAmount() > 0)
+                .sorted(Comparator.comparing(ExpiredSurvey::clientId).thenComparing(ExpiredSurvey::surveyId))
+                .toList();
+        if (refunds.isEmpty()) return;
+
+        Map<Long, Long> totals = new TreeMap<>();
+        for (ExpiredSurvey survey : refunds) {
+            totals.merge(survey.clientId(), survey.refundAmount(), Long::sum);
+        }
+        List<Map.Entry<Long, Long>> charges = new ArrayList<>(totals.entrySet());
+        jdbcTemplate.batchUpdate(CHARGE_SQL, charges, charges.size(), (ps, charge) -> {
+            ps.setLong(1, charge.getValue());
+            ps.setLong(2, charge.getKey());
+        });
+
+        // 환불 후 잔액에서 거꾸로 빼 가며 기록별 remain_point 계산
+        Map<Long, Long> balances = findPoints(totals.keySet());
+        Map<Long, Long> remains = new HashMap<>();
+        totals.forEach((clientId, total) -> remains.put(clientId, balances.getOrDefault(clientId, 0L) - total));
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_POINT_RECORD_SQL, refunds, refunds.size(), (ps, survey) -> {
+            long refundAmount = survey.refundAmount();
+            long remain = remains.merge(survey.clientId(), refundAmount, Long::sum);
+            ps.setLong(1, survey.clientId());
+            ps.setLong(2, refundAmount);
+            ps.setString(3, PointType.GET.name());
+            ps.setString(4, PointService.refundContent(
+                    PointService.insufficientRefundBaseContent(survey.title()),
+                    survey.platformFee() == null ? 0L : survey.platformFee(),
+                    survey.responseCnt() == null ? 0 : survey.responseCnt(),
+                    refundAmount
+            ));
+            ps.setLong(5, remain);
+            ps.setString(6, ReferenceType.REFUND.name());
+            ps.setLong(7, survey.surveyId());
+            ps.setTimestamp(8, now);
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private Map<Long, Long> findPoints(Collection<Long> userIds) {
+        Map<Long, Long> points = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, point FROM users WHERE id IN (" + placeholders(userIds.size()) + ")",
+                (RowCallbackHandler) rs -> points.put(rs.getLong(1), rs.getLong(2)),
+                userIds.toArray()
+        );
+        return points;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+}
@@ -1,6 +1,6 @@
 package com.example.backend.survey.repository;
 
-import com.example.backend.interest.entity.Interest;
+import com.example.backend.survey.dto.response.SurveyItemResDto;
 import com.example.backend.survey.entity.Survey;
 import com.example.backend.survey.enumType.SurveyState;
 import org.springframework.data.domain.Page;
@@ -12,9 +12,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface SurveyRepository extends JpaRepository<Survey, Long> {
@@ -34,6 +34,36 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
             Pageable pageable
     );
 
+    // 설문 검색 (제목/설명 FULLTEXT, 관련도 순 -> 관련도가 같으면 sortType 순)
+    @Query(value = """
+            SELECT s.*
+            FROM surveys s
+            WHERE MATCH(s.title, s.description) AGAINST (:keyword IN BOOLEAN MODE)
+            AND (:interestId IS NULL OR s.interest_id = :interestId)
+            AND s.state = :state
+            ORDER BY MATCH(s.title, s.description) AGAINST (:keyword IN BOOLEAN MODE) DESC,
+                     CASE WHEN :sortType = 'LATEST' THEN s.created_at END DESC,
+                     CASE WHEN :sortType = 'DEADLINE_NEAR' THEN s.deadline END ASC,
+                     CASE WHEN :sortType = 'POPULAR' THEN s.response_cnt END DESC,
+                     CASE WHEN :sortType = 'REWARD_HIGH' THEN s.reward END DESC,
+                     s.survey_id DESC
+            """,
+            countQuery = """
+            SELECT COUNT(*)
+            FROM surveys s
+            WHERE MATCH(s.title, s.description) AGAINST (:keyword IN BOOLEAN MODE)
+            AND (:interestId IS NULL OR s.interest_id = :interestId)
+            AND s.state = :state
+            """,
+            nativeQuery = true)
+    Page<Survey> searchByKeyword(
+            @Param("keyword") String keyword,
+            @Param("interestId") Long interestId,
+            @Param("state") String state,
+            @Param("sortType") String sortType,
+            Pageable pageable
+    );
+
     // 내가 참여한 설문 조회
     @Query("""
             SELECT s
@@ -44,55 +74,97 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
             """)
     Page<Survey> findAllByParticipantId(@Param("userId") Long userId, Pageable pageable);
 
+    // 관심사별 추천 후보 (최신순, 개수 제한)
     @Query("""
-            SELECT s
+            SELECT new com.example.backend.survey.dto.response.SurveyItemResDto(
+                s.surveyId, s.title, s.responseCnt, s.maxResponse, s.reward, s.state, s.createdAt, s.deadline)
             FROM Survey s
-            WHERE s.state = :state
-            AND s.deadline > CURRENT_TIMESTAMP
-            ORDER BY s.deadline ASC
+            WHERE s.interest.interestId = :interestId
+            AND s.state = :state
+            ORDER BY s.createdAt DESC, s.surveyId DESC
             """)
-    List<Survey> findTop10ByDeadlineImminent(@Param("state") SurveyState state, Pageable pageable);
+    List<SurveyItemResDto> findItemsByInterest(@Param("interestId") Long interestId, @Param("state") SurveyState state, Pageable pageable);
 
+    // 관심사별 추천 후보 다음 페이지 (최신순 keyset, 앞 페이지 마지막 설문보다 오래된 설문부터)
     @Query("""
-            SELECT s
+            SELECT new com.example.backend.survey.dto.response.SurveyItemResDto(
+                s.surveyId, s.title, s.responseCnt, s.maxResponse, s.reward, s.state, s.createdAt, s.deadline)
             FROM Survey s
-            WHERE s.state = :state
-            ORDER BY s.reward DESC
+            WHERE s.interest.interestId = :interestId
+            AND s.state = :state
+            AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.surveyId < :surveyId))
+            ORDER BY s.createdAt DESC, s.surveyId DESC
             """)
-    List<Survey> findTop10ByRewardImminent(@Param("state") SurveyState state, Pageable pageable);
+    List<SurveyItemResDto> findItemsByInterestAfter(@Param("interestId") Long interestId, @Param("state") SurveyState state,
+                                                    @Param("createdAt") LocalDateTime createdAt, @Param("surveyId") Long surveyId,
+                                                    Pageable pageable);
 
+    // 설문의 관심사 ID
+    @Query("SELECT s.interest.interestId FROM Survey s WHERE s.surveyId = :surveyId")
+    Optional<Long> findInterestIdBySurveyId(@Param("surveyId") Long surveyId);
+
+    // 마감할 설문 조회
     @Query("""
             SELECT s
             FROM Survey s
-            WHERE s.state = :state
-            ORDER BY s.responseCnt DESC
+            WHERE s.deadline < :now
+            AND s.state = 'IN_PROCESS'
             """)
-    List<Survey> findTop10ByResponseCntImminent(@Param("state") SurveyState state, Pageable pageable);
+    List<Survey> findExpiredSurveyByDeadline(@Param("now") LocalDateTime now);
+
+    // 진행 중인 설문만 상태 변경 (변경되면 1 반환, 이미 마감/취소된 설문은 0)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE surveys
+            SET state = :state
+            WHERE survey_id = :surveyId
+            AND state = 'IN_PROCESS'
+            """, nativeQuery = true)
+    int closeIfInProcess(@Param("surveyId") Long surveyId, @Param("state") String state);
 
-    // 추천 설문 조회
+    // 응답 자리 예약 (진행 중이고 최대 응답 수 미만일 때만 +1, 성공 시 1 반환)
+    @Modifying
+    @Query(value = """
+            UPDATE surveys
+            SET response_cnt = response_cnt + 1
+            WHERE survey_id = :surveyId
+            AND state = 'IN_PROCESS'
+            AND (deadline IS NULL OR deadline > :now)
+            AND (max_response IS NULL OR response_cnt < max_response)
+            """, nativeQuery = true)
+    int reserveResponseSlot(@Param("surveyId") Long surveyId, @Param("now") LocalDateTime now);
+
+    // 최대 응답 수에 도달한 설문 마감 (마지막 자리를 예약한 요청에서만 1 반환)
+    @Modifying
+    @Query(value = """
+            UPDATE surveys
+            SET state = 'DONE'
+            WHERE survey_id = :surveyId
+            AND state = 'IN_PROCESS'
+            AND response_cnt >= max_response
+            """, nativeQuery = true)
+    int closeIfFull(@Param("surveyId") Long surveyId);
+
+    // 설문 + 관심사 조회 (설문 정의 캐시 적재용)
+    @Query("SELECT s FROM Survey s JOIN FETCH s.interest WHERE s.surveyId = :surveyId")
+    Optional<Survey> findWithInterestBySurveyId(@Param("surveyId") Long surveyId);
+
+    // 목록 아이템 조회 (홈 화면 순위용, 엔티티 대신 필요한 컬럼만)
     @Query("""
-            SELECT DISTINCT s
+            SELECT new com.example.backend.survey.dto.response.SurveyItemResDto(
+                s.surveyId, s.title, s.responseCnt, s.maxResponse, s.reward, s.state, s.createdAt, s.deadline)
             FROM Survey s
-            WHERE s.interest IN :topInterests
-            AND s.surveyId NOT IN :participatedSurveyIds
-            AND s.state = "IN_PROCESS"
-            ORDER BY s.createdAt DESC
+            WHERE s.state = :state
             """)
-    List<Survey> findByInterestInAndNotParticipated(List<Interest> topInterests, Set<Long> participatedSurveyIds);
+    List<SurveyItemResDto> findItemsByState(@Param("state") SurveyState state);
 
-    // 마감할 설문 조회
     @Query("""
-            SELECT s
+            SELECT new com.example.backend.survey.dto.response.SurveyItemResDto(
+                s.surveyId, s.title, s.responseCnt, s.maxResponse, s.reward, s.state, s.createdAt, s.deadline)
             FROM Survey s
-            WHERE s.deadline < :now
-            AND s.state = 'IN_PROCESS'
+            WHERE s.surveyId IN :surveyIds
             """)
-    List<Survey> findExpiredSurveyByDeadline(@Param("now") LocalDateTime now);
-
-    // 설문 마감
-    @Modifying
-    @Query("UPDATE Survey s SET s.state = :doneState WHERE s.state = :inProcessState AND s.deadline < :now")
-    void bulkUpdateExpiredSurveys(SurveyState doneState, SurveyState inProcessState, LocalDateTime now);
+    List<SurveyItemResDto> findItemsByIds(@Param("surveyIds") Collection<Long> surveyIds);
 
     // 특정 상태(예: 진행중)인 설문 수 조회
     Long countByState(SurveyState state);
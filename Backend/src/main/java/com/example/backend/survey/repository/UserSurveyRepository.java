@@ -1,31 +1,19 @@
 package com.example.backend.survey.repository;
 
+import com.example.backend.survey.dto.projection.CountProjection;
 import com.example.backend.survey.entity.UserSurvey;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface UserSurveyRepository extends JpaRepository<UserSurvey, Long> {
     boolean existsByUser_IdAndSurvey_SurveyId(Long userId, Long surveySurveyId);
 
-    // 응답별 성별 분포 조회
-    @Query("""
-                SELECT us FROM UserSurvey us
-                JOIN Answer a ON a.participant = us.user AND a.survey = us.survey
-                WHERE us.survey.surveyId = :surveyId
-                AND a.questionNumber = :questionNumber
-                AND :choiceNumber MEMBER OF a.answerChoice
-            """)
-    List<UserSurvey> findByQuestionAndChoice(
-            @Param("surveyId") Long surveyId,
-            @Param("questionNumber") Integer questionNumber,
-            @Param("choiceNumber") Integer choiceNumber
-    );
-
     // 참여자 ID로 참여 목록 조회
     @Query("""
                 SELECT us
@@ -37,6 +25,19 @@ public interface UserSurveyRepository extends JpaRepository<UserSurvey, Long> {
             """)
     List<UserSurvey> findByUserIdWithInterestAndSurvey(Long userId);
 
+    // 참여자의 관심사별 참여 수 (추천 관심사 가중치)
+    @Query("""
+                SELECT us.interest.interestId AS category, COUNT(us) AS count
+                FROM UserSurvey us
+                WHERE us.user.id = :userId
+                GROUP BY us.interest.interestId
+            """)
+    List<CountProjection> countByInterest(@Param("userId") Long userId);
+
+    // 주어진 설문 중 참여한 설문 ID (참여 인덱스 준비 전 조회용)
+    @Query("SELECT us.survey.surveyId FROM UserSurvey us WHERE us.user.id = :userId AND us.survey.surveyId IN :surveyIds")
+    List<Long> findSurveyIdsByUserIdAndSurveyIdIn(@Param("userId") Long userId, @Param("surveyIds") Collection<Long> surveyIds);
+
     // 오늘 설문 응답(참여) 건수 조회
     @Query("SELECT COUNT(us) FROM UserSurvey us WHERE DATE(us.createdAt) = CURRENT_DATE")
     Long countTodaySurveyResponses();
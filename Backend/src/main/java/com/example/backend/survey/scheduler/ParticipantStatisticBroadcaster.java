@@ -0,0 +1,201 @@
+package com.example.backend.survey.scheduler;
+
+import com.example.backend.survey.dto.response.StatisticsFrameResDto;
+import com.example.backend.survey.dto.response.StatisticsParticipantResDto;
+import com.example.backend.survey.enumType.StatisticsFrameType;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.event.ParticipantStatisticFlushedEvent;
+import com.example.backend.survey.event.ParticipantStatisticUpdateEvent;
+import com.example.backend.survey.event.StatisticsFrameMessage;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.repository.ParticipantStatisticRepository;
+import com.example.backend.survey.service.ParticipantStatisticCounter;
+import com.example.backend.survey.service.StatisticsBroker;
+import com.example.backend.survey.service.SurveyStatisticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 참여자 통계 WebSocket 브로드캐스트 (coalescing)
+ * - 참여가 커밋될 때마다 보내지 않고 변경된 설문 ID 만 모아 두었다가 주기마다 설문당 1번만 보낸다.
+ * - 스냅샷은 ParticipantStatisticCounter 의 메모리 값으로 만들고, DB 는 설문별로 처음 한 번만 읽는다.
+ * - 직전에 보낸 값과 같으면 보내지 않는다.
+ * - /topic/survey/{id}/statistics 에는 전체 통계를, /topic/survey/{id}/statistics/delta 에는 바뀐 슬롯만 보낸다.
+ * - 프레임은 StatisticsBroker 를 거쳐 (redis 모드면 모든 노드로) 전달되고, 받은 노드가 자기 구독자에게 보낸다.
+ *   redis 모드에서는 lease 를 가진 노드 1대만 프레임을 만든다.
+ * - 마감된 설문은 남은 프레임을 보낸 뒤 다음 주기에 설문별 상태 (maxResponses, frames) 를 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantStatisticBroadcaster {
+
+    private final ParticipantStatisticCounter counter;
+    private final ParticipantStatisticRepository participantStatisticRepository;
+    private final SurveyStatisticsService surveyStatisticsService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final StatisticsBroker statisticsBroker;
+
+    private final Set<Long> dirtySurveyIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Integer> maxResponses = new ConcurrentHashMap<>();
+    private final Map<Long, FrameState> frames = new ConcurrentHashMap<>();
+    private final Set<Long> closedSurveyIds = ConcurrentHashMap.newKeySet();
+
+    // 참여 커밋 후 변경 표시 (카운터 증가는 같은 커밋의 afterCommit 에서 먼저 실행된다)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void markDirty(ParticipantStatisticUpdateEvent event) {
+        dirtySurveyIds.add(event.getSurveyId());
+    }
+
+    // 다른 노드의 flush 반영 알림 (redis 모드)
+    @EventListener
+    public void markDirty(ParticipantStatisticFlushedEvent event) {
+        dirtySurveyIds.addAll(event.getSurveyIds());
+    }
+
+    // 설문 마감 표시 (상태는 broadcast 에서 마지막 프레임을 보낸 뒤 지운다)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getType() == SurveyChangeType.CLOSED) closedSurveyIds.add(event.getSurveyId());
+    }
+
+    @Scheduled(fixedRateString = "${survey.statistics.broadcast-interval-ms:250}")
+    public void broadcast() {
+        pruneClosed();
+        if (dirtySurveyIds.isEmpty()) return;
+        if (!statisticsBroker.isBroadcaster()) {
+            // 담당 노드가 아니면 flush 후 알림으로 넘기고 버린다
+            dirtySurveyIds.clear();
+            return;
+        }
+
+        List<Long> surveyIds = new ArrayList<>(dirtySurveyIds);
+        dirtySurveyIds.removeAll(surveyIds);
+
+        for (Long surveyId : surveyIds) {
+            try {
+                boolean[] loaded = {false};
+                long[] counts = counter.snapshot(surveyId, () -> {
+                    loaded[0] = true;
+                    return loadBase(surveyId);
+                }, statisticsBroker.isShared());
+                if (counts == null) {
+                    // flush 중이라 기준값을 못 읽었으면 다음 주기에 다시 시도 (통계 행이 없는 설문은 버림)
+                    if (!loaded[0]) dirtySurveyIds.add(surveyId);
+                    continue;
+                }
+
+                StatisticsFrameResDto frame = nextFrame(surveyId, counts);
+                if (frame == null) continue;
+
+                statisticsBroker.publish(new StatisticsFrameMessage(surveyId, maxResponses.get(surveyId), counts, frame));
+            } catch (Exception e) {
+                log.error("Participant statistics broadcast failed. surveyId={}", surveyId, e);
+            }
+        }
+    }
+
+    // 브로커에서 받은 프레임을 이 노드의 구독자에게 전달 (다른 노드가 만든 프레임이면 상태도 맞춘다)
+    @EventListener
+    public void deliver(StatisticsFrameMessage message) {
+        Long surveyId = message.getSurveyId();
+        StatisticsFrameResDto frame = message.getFrame();
+        if (message.getMaxResponse() != null) maxResponses.put(surveyId, message.getMaxResponse());
+
+        FrameState state = frames.computeIfAbsent(surveyId, id -> new FrameState());
+        synchronized (state) {
+            if (frame.type() == StatisticsFrameType.SNAPSHOT || frame.seq() > state.seq) {
+                state.seq = frame.seq();
+                state.counts = message.getCounts();
+            }
+        }
+
+        String destination = "/topic/survey/" + surveyId + "/statistics";
+        messagingTemplate.convertAndSend(destination, toResponse(surveyId, message.getCounts()));
+        messagingTemplate.convertAndSend(destination + "/delta", frame);
+    }
+
+    // delta 스트림 구독 시 첫 프레임 (마지막으로 보낸 값과 seq 기준)
+    public StatisticsFrameResDto snapshotFrame(Long surveyId) {
+        // 구독만으로는 상태를 만들지 않는다 (마감된 설문을 구독해도 상태가 다시 쌓이지 않도록)
+        FrameState state = frames.get(surveyId);
+        if (state == null) return StatisticsFrameResDto.snapshot(0L, surveyStatisticsService.getStatisticsParticipants(surveyId));
+        synchronized (state) {
+            if (state.counts != null) {
+                return StatisticsFrameResDto.snapshot(state.seq, toResponse(surveyId, state.counts));
+            }
+            // 아직 보낸 프레임이 없으면 현재 값을 주고, 다음 브로드캐스트는 SNAPSHOT 으로 보낸다
+            return StatisticsFrameResDto.snapshot(state.seq, surveyStatisticsService.getStatisticsParticipants(surveyId));
+        }
+    }
+
+    // 직전 프레임과 비교해 다음 프레임 생성 (바뀐 게 없으면 null)
+    private StatisticsFrameResDto nextFrame(Long surveyId, long[] counts) {
+        FrameState state = frames.computeIfAbsent(surveyId, id -> new FrameState());
+        synchronized (state) {
+            long[] previous = state.counts;
+            if (Arrays.equals(counts, previous)) return null;
+
+            state.seq++;
+            state.counts = counts;
+            if (previous == null) {
+                return StatisticsFrameResDto.snapshot(state.seq, toResponse(surveyId, counts));
+            }
+
+            int changed = 0;
+            int[] indices = new int[counts.length];
+            long[] values = new long[counts.length];
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == previous[i]) continue;
+                indices[changed] = i;
+                values[changed] = counts[i];
+                changed++;
+            }
+            return StatisticsFrameResDto.delta(state.seq, Arrays.copyOf(indices, changed), Arrays.copyOf(values, changed));
+        }
+    }
+
+    // 마감된 설문 중 보낼 프레임이 남지 않은 설문의 상태 삭제
+    private void pruneClosed() {
+        if (closedSurveyIds.isEmpty()) return;
+        for (Long surveyId : List.copyOf(closedSurveyIds)) {
+            if (dirtySurveyIds.contains(surveyId)) continue;
+            frames.remove(surveyId);
+            maxResponses.remove(surveyId);
+            closedSurveyIds.remove(surveyId);
+        }
+    }
+
+    private StatisticsParticipantResDto toResponse(Long surveyId, long[] counts) {
+        return surveyStatisticsService.toStatisticsParticipants(counts, maxResponses.get(surveyId));
+    }
+
+    // 설문별 기준값 (DB 반영분) 최초 조회
+    private long[] loadBase(Long surveyId) {
+        return participantStatisticRepository.findBySurvey_SurveyId(surveyId)
+                .map(statistic -> {
+                    maxResponses.put(surveyId, statistic.getMaxResponse());
+                    return ParticipantStatisticCounter.countsOf(statistic);
+                })
+                .orElse(null);
+    }
+
+    // 설문별 마지막으로 보낸 프레임
+    private static final class FrameState {
+        private long seq;
+        private long[] counts;
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.backend.survey.scheduler;
+
+import com.example.backend.survey.repository.ParticipantStatisticRepository;
+import com.example.backend.survey.service.ParticipantStatisticCounter;
+import com.example.backend.survey.service.StatisticsBroker;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/*
+ * 참여자 통계 write-behind flush
+ * - 메모리 카운터의 증가분을 participant_statistics 에 SET x = x + ? 로 더한다.
+ * - user_surveys 와 어긋난 통계를 주기적으로 재계산한다. (flush 전 비정상 종료 대비)
+ *   flush 가 늦을 뿐인 정상 설문과 구분하려고, 한 주기 전에 본 version/response_cnt 가 그대로인 설문만
+ *   (그동안 어느 노드도 flush 하지 않았고 새 참여도 없었던 설문) compare-and-set 으로 덮어쓴다.
+ *   여러 노드가 동시에 돌지 않도록 Redis 잠금 (survey:statistics:recover:lock) 을 잡은 노드만 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParticipantStatisticFlushScheduler {
+
+    private static final String FLUSH_SQL = """
+            UPDATE participant_statistics
+            SET total_cnt = total_cnt + ?,
+                male_cnt = male_cnt + ?,
+                female_cnt = female_cnt + ?,
+                teens_cnt = teens_cnt + ?,
+                twenties_cnt = twenties_cnt + ?,
+                thirties_cnt = thirties_cnt + ?,
+                forties_cnt = forties_cnt + ?,
+                fifties_cnt = fifties_cnt + ?,
+                sixty_plus_cnt = sixty_plus_cnt + ?,
+                it_cnt = it_cnt + ?,
+                office_cnt = office_cnt + ?,
+                manufacturing_cnt = manufacturing_cnt + ?,
+                service_cnt = service_cnt + ?,
+                education_cnt = education_cnt + ?,
+                medical_cnt = medical_cnt + ?,
+                creative_cnt = creative_cnt + ?,
+                student_cnt = student_cnt + ?,
+                self_employed_cnt = self_employed_cnt + ?,
+                etc_cnt = etc_cnt + ?,
+                version = COALESCE(version, 0) + 1
+            WHERE survey_id = ?
+            """;
+
+    // 참여자 수와 통계 합계가 어긋난 설문 (flush 전 비정상 종료 등)
+    private static final String DRIFTED_SQL = """
+            SELECT ps.survey_id, COALESCE(ps.version, 0), COALESCE(s.response_cnt, 0)
+            FROM participant_statistics ps
+            JOIN surveys s ON s.survey_id = ps.survey_id
+            WHERE ps.total_cnt <> COALESCE(s.response_cnt, 0)
+            """;
+
+    private static final String RECOVER_LOCK_KEY = "survey:statistics:recover:lock";
+    private static final Duration RECOVER_LOCK_TTL = Duration.ofMinutes(1);
+
+    // 잠금을 잡은 노드만 반납
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final ParticipantStatisticCounter counter;
+    private final ParticipantStatisticRepository participantStatisticRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final StatisticsBroker statisticsBroker;
+    private final StringRedisTemplate redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Map<Long, Drift> observed = Map.of(); // 이전 주기에 본 어긋난 설문
+
+    @Scheduled(fixedDelayString = "${survey.statistics.flush-interval-ms:1000}")
+    public void flush() {
+        write(counter.drain());
+        // 반영이 끝나 증가분이 남지 않은 설문은 메모리에서 뺀다 (마감 설문, 오래 참여가 없는 설문)
+        counter.evictIdle();
+    }
+
+    private void write(Map<Long, long[]> deltas) {
+        if (deltas.isEmpty()) return;
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((surveyId, delta) -> {
+            Object[] args = new Object[ParticipantStatisticCounter.SLOT_COUNT + 1];
+            for (int i = 0; i < ParticipantStatisticCounter.SLOT_COUNT; i++) {
+                args[i] = delta[i];
+            }
+            args[ParticipantStatisticCounter.SLOT_COUNT] = surveyId;
+            batchArgs.add(args);
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            counter.commit(deltas);
+            statisticsBroker.notifyFlushed(deltas.keySet());
+        } catch (Exception e) {
+            // 롤백됐으므로 증가분을 되돌려 다음 주기에 재시도
+            counter.restore(deltas);
+            log.error("Participant statistics flush failed. surveys={}", deltas.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 어긋난 통계 재계산 (기동 후 첫 주기에는 후보만 기억하고, 다음 주기에 그대로면 재계산)
+    @Scheduled(initialDelayString = "${survey.statistics.recover-interval-ms:300000}",
+            fixedDelayString = "${survey.statistics.recover-interval-ms:300000}")
+    public void recover() {
+        Boolean locked = redisTemplate.opsForValue().setIfAbsent(RECOVER_LOCK_KEY, nodeId, RECOVER_LOCK_TTL);
+        if (!Boolean.TRUE.equals(locked)) return;
+
+        try {
+            Map<Long, Drift> current = new HashMap<>();
+            jdbcTemplate.query(DRIFTED_SQL, (RowCallbackHandler) rs -> current.put(
+                    rs.getLong(1), new Drift(rs.getLong(2), rs.getLong(3))));
+
+            List<Long> rebuilt = new ArrayList<>();
+            current.forEach((surveyId, drift) -> {
+                if (!drift.equals(observed.get(surveyId)) || counter.hasPending(surveyId)) return;
+                if (participantStatisticRepository.rebuildFromUserSurveys(surveyId, drift.version(), drift.responseCnt()) == 1) {
+                    counter.invalidateBase(surveyId);
+                    rebuilt.add(surveyId);
+                }
+            });
+            rebuilt.forEach(current::remove);
+            observed = current;
+
+            if (!rebuilt.isEmpty()) log.info("Participant statistics rebuilt from user_surveys. surveys={}", rebuilt);
+        } catch (Exception e) {
+            log.error("Participant statistics recovery failed.", e);
+        } finally {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(RECOVER_LOCK_KEY), nodeId);
+        }
+    }
+
+    // 어긋난 설문의 관찰 시점 상태
+    private record Drift(long version, long responseCnt) {
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.backend.survey.scheduler;
+
+import com.example.backend.survey.service.ParticipationIngestService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * participation_requests 큐 소비자
+ * - 워커 수만큼만 DB 커넥션을 쓰도록 고정 크기 풀에서 배치 단위로 꺼내 처리한다.
+ * - 큐가 빌 때까지 처리하고 종료하며, 다음 poll 에서 다시 시작한다.
+ */
+@Slf4j
+@Component
+public class ParticipationIngestWorker {
+
+    private final ParticipationIngestService participationIngestService;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long staleMinutes;
+
+    private final AtomicInteger running = new AtomicInteger();
+    private ExecutorService executor;
+
+    public ParticipationIngestWorker(
+            ParticipationIngestService participationIngestService,
+            @Value("${survey.participation.ingest.workers:4}") int workerCount,
+            @Value("${survey.participation.ingest.batch-size:50}") int batchSize,
+            @Value("${survey.participation.ingest.max-attempts:3}") int maxAttempts,
+            @Value("${survey.participation.ingest.stale-minutes:5}") long staleMinutes
+    ) {
+        this.participationIngestService = participationIngestService;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.staleMinutes = staleMinutes;
+    }
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(workerCount);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${survey.participation.ingest.poll-interval-ms:500}")
+    public void poll() {
+        // poll 은 스케줄러 스레드 하나에서만 호출되므로 증가는 여기서만 일어난다
+        while (running.get() < workerCount) {
+            running.incrementAndGet();
+            executor.execute(this::drain);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${survey.participation.ingest.stale-check-interval-ms:60000}")
+    public void releaseStale() {
+        int released = participationIngestService.releaseStale(staleMinutes);
+        if (released > 0) log.warn("Released stale participation requests. count={}", released);
+    }
+
+    private void drain() {
+        try {
+            List<Long> requestIds;
+            while (!(requestIds = participationIngestService.claim(batchSize)).isEmpty()) {
+                for (Long requestId : requestIds) {
+                    process(requestId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("Participation ingest worker failed", e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    private void process(Long requestId) {
+        try {
+            participationIngestService.apply(requestId);
+        } catch (Exception e) {
+            log.warn("Participation request failed. requestId={}, reason={}", requestId, e.getMessage());
+            participationIngestService.fail(requestId, e, maxAttempts);
+        }
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.backend.survey.scheduler;
 
 import com.example.backend.global.exception.CustomException;
+import com.example.backend.survey.config.SurveyStatisticsMigrationBatchConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
 import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
+import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -19,6 +25,7 @@ public class SurveyBatchScheduler {
 
     private final JobLauncher jobLauncher;
     private final Job surveyDeadlineJob;
+    private final Job surveyStatisticsMigrationJob;
 
     @Scheduled(cron = "0 30 0 * * *")
     public void runSurveyDeadlineBatch() {
@@ -32,4 +39,20 @@ public class SurveyBatchScheduler {
             throw new CustomException(ERROR_PATCH_SURVEY_TO_DONE);
         }
     }
+
+    // 설문 통계 1회성 보정 (버전마다 한 번, 끝났거나 다른 노드가 실행 중이면 건너뛴다, 기동을 막지 않게 비동기)
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void runSurveyStatisticsMigration() {
+        try {
+            JobParameters jobParameters = new JobParametersBuilder()
+                    .addLong("version", SurveyStatisticsMigrationBatchConfig.VERSION)
+                    .toJobParameters();
+            jobLauncher.run(surveyStatisticsMigrationJob, jobParameters);
+        } catch (JobInstanceAlreadyCompleteException | JobExecutionAlreadyRunningException e) {
+            log.info("Survey statistics migration skipped. reason={}", e.getMessage());
+        } catch (Exception e) {
+            log.error("Survey statistics migration failed", e);
+        }
+    }
 }
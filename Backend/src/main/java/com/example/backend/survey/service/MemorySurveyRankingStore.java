@@ -0,0 +1,105 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.enumType.SortType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/* 단일 노드용 순위 저장소 (정렬 기준별 TreeSet, 동점이면 설문 ID 순) */
+@Component
+@ConditionalOnProperty(name = "survey.leaderboard.store", havingValue = "memory", matchIfMissing = true)
+public class MemorySurveyRankingStore implements SurveyRankingStore {
+
+    private static final Map<SortType, Comparator<SurveyItemResDto>> COMPARATORS = Map.of(
+            SortType.DEADLINE_NEAR, Comparator.comparing(SurveyItemResDto::deadline, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(SurveyItemResDto::surveyId),
+            SortType.REWARD_HIGH, Comparator.comparing(SurveyItemResDto::reward, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(SurveyItemResDto::surveyId),
+            SortType.POPULAR, Comparator.comparing(SurveyItemResDto::responseCnt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(SurveyItemResDto::surveyId)
+    );
+
+    private final Map<Long, SurveyItemResDto> items = new HashMap<>();
+    private final Map<SortType, TreeSet<SurveyItemResDto>> rankings = new EnumMap<>(SortType.class);
+
+    public MemorySurveyRankingStore() {
+        SurveyLeaderboard.SORT_TYPES.forEach(sortType -> rankings.put(sortType, new TreeSet<>(COMPARATORS.get(sortType))));
+    }
+
+    @Override
+    public synchronized boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    @Override
+    public synchronized void replaceAll(Collection<SurveyItemResDto> items) {
+        this.items.clear();
+        rankings.values().forEach(TreeSet::clear);
+        items.forEach(this::put);
+    }
+
+    @Override
+    public synchronized void upsert(Collection<SurveyItemResDto> items) {
+        items.forEach(item -> {
+            remove(item.surveyId());
+            put(item);
+        });
+    }
+
+    @Override
+    public synchronized void remove(Collection<Long> surveyIds) {
+        surveyIds.forEach(this::remove);
+    }
+
+    @Override
+    public synchronized void incrementResponseCnt(Map<Long, Long> deltas) {
+        deltas.forEach((surveyId, delta) -> {
+            SurveyItemResDto item = items.get(surveyId);
+            if (item == null) return;
+
+            remove(surveyId);
+            put(new SurveyItemResDto(item.surveyId(), item.title(), (int) (item.responseCnt() + delta), item.maxResponse(),
+                    item.reward(), item.state(), item.createdAt(), item.deadline()));
+        });
+    }
+
+    // 마감 시각이 지난 설문은 마감 임박 순서의 맨 앞에 모이므로 앞에서부터 꺼낸다
+    @Override
+    public synchronized int removeExpired(LocalDateTime now) {
+        TreeSet<SurveyItemResDto> byDeadline = rankings.get(SortType.DEADLINE_NEAR);
+        int removed = 0;
+
+        while (!byDeadline.isEmpty()) {
+            SurveyItemResDto first = byDeadline.first();
+            if (first.deadline() == null || first.deadline().isAfter(now)) break;
+            remove(first.surveyId());
+            removed++;
+        }
+        return removed;
+    }
+
+    @Override
+    public synchronized Map<SortType, List<SurveyItemResDto>> top(int size) {
+        Map<SortType, List<SurveyItemResDto>> top = new EnumMap<>(SortType.class);
+        rankings.forEach((sortType, ranking) -> top.put(sortType, ranking.stream().limit(size).toList()));
+        return top;
+    }
+
+    @Override
+    public boolean claimReload() {
+        return true;
+    }
+
+    private void put(SurveyItemResDto item) {
+        items.put(item.surveyId(), item);
+        rankings.values().forEach(ranking -> ranking.add(item));
+    }
+
+    private void remove(Long surveyId) {
+        SurveyItemResDto previous = items.remove(surveyId);
+        if (previous != null) rankings.values().forEach(ranking -> ranking.remove(previous));
+    }
+}
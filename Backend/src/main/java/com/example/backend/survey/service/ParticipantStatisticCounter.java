@@ -0,0 +1,319 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.global.enumType.AgeGroup;
+import com.example.backend.global.enumType.WorkType;
+import com.example.backend.survey.entity.ParticipantStatistic;
+import com.example.backend.survey.entity.QuestionStatistic;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.user.enumType.Gender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/*
+ * 설문별 참여자 통계 카운터 (write-behind)
+ * - 참여 시 DB row 를 읽고 쓰는 대신 메모리의 LongAdder 에 누적하고,
+ *   ParticipantStatisticFlushScheduler 가 주기적으로 participant_statistics 에 더한다.
+ * - 슬롯 순서: 전체 / 성별(Gender) / 나이대(AgeGroup) / 직업(WorkType), 각 enum 의 선언 순서를 따른다.
+ * - 증가분은 pending -> inflight(flush 중) -> base(DB 반영 완료) 순으로 옮겨지며,
+ *   base 를 한 번 읽어 두면 이후 스냅샷은 DB 조회 없이 만들 수 있다.
+ * - pending/inflight 가 모두 0 인 설문은 flush 뒤 evictIdle 로 맵에서 뺀다.
+ *   마감된 설문은 한 주기 동안 증가분이 없으면, 그 밖의 설문은 idle-cycles 주기 동안 없으면 뺀다. (다음 참여/조회 때 다시 만든다)
+ *   잠금 없는 increment 와 겹치면 increment 쪽이 빠진 Slots 에 넣은 증가분을 되돌려 새 Slots 에 다시 넣는다.
+ */
+@Component
+public class ParticipantStatisticCounter {
+
+    public static final int TOTAL = 0;
+    public static final int GENDER_OFFSET = 1;
+    public static final int AGE_OFFSET = GENDER_OFFSET + Gender.values().length;
+    public static final int WORK_OFFSET = AGE_OFFSET + AgeGroup.values().length;
+    public static final int SLOT_COUNT = WORK_OFFSET + WorkType.values().length;
+
+    // 슬롯 순서의 컬럼명 (participant_statistics, question_statistics 공통, 0번은 전체)
+    public static final String[] SLOT_COLUMNS = {
+            "total_cnt",
+            "male_cnt", "female_cnt",
+            "teens_cnt", "twenties_cnt", "thirties_cnt", "forties_cnt", "fifties_cnt", "sixty_plus_cnt",
+            "it_cnt", "office_cnt", "manufacturing_cnt", "service_cnt", "education_cnt",
+            "medical_cnt", "creative_cnt", "student_cnt", "self_employed_cnt", "etc_cnt"
+    };
+
+    private final Map<Long, Slots> slotsBySurvey = new ConcurrentHashMap<>();
+    private final Set<Long> closedSurveyIds = ConcurrentHashMap.newKeySet();
+    private final int idleCycles;
+
+    public ParticipantStatisticCounter(@Value("${survey.statistics.counter-idle-cycles:600}") int idleCycles) {
+        this.idleCycles = idleCycles;
+    }
+
+    // 참여 1건 반영 (잠금 없이 LongAdder 만 증가)
+    public void increment(Long surveyId, Gender gender, AgeGroup ageGroup, WorkType workType) {
+        while (true) {
+            Slots slots = slots(surveyId);
+            add(slots.pending, 1, gender, ageGroup, workType);
+
+            long attempt = slots.retiring;
+            if (attempt == 0) return;
+            // evict 와 겹쳤으면 결과를 기다렸다가, 맵에서 빠진 Slots 였으면 되돌리고 새 Slots 에 다시 넣는다
+            synchronized (slots) {
+                if (slots.removedAttempt != attempt) return;
+                add(slots.pending, -1, gender, ageGroup, workType);
+            }
+        }
+    }
+
+    private static void add(LongAdder[] pending, int amount, Gender gender, AgeGroup ageGroup, WorkType workType) {
+        pending[TOTAL].add(amount);
+        if (gender != null) pending[GENDER_OFFSET + gender.ordinal()].add(amount);
+        if (ageGroup != null) pending[AGE_OFFSET + ageGroup.ordinal()].add(amount);
+        if (workType != null) pending[WORK_OFFSET + workType.ordinal()].add(amount);
+    }
+
+    // 아직 DB 에 반영되지 않은 증가분 조회 (flush 중인 값 포함, 조회 시 DB 값에 더해서 사용)
+    public long[] pending(Long surveyId) {
+        long[] delta = new long[SLOT_COUNT];
+        Slots slots = slotsBySurvey.get(surveyId);
+        if (slots == null) return delta;
+
+        synchronized (slots) {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                delta[i] = slots.inflight[i] + slots.pending[i].sum();
+            }
+        }
+        return delta;
+    }
+
+    /*
+     * 현재 누적값 스냅샷 (base + inflight + pending)
+     * - base 를 모르면 flush 중인 값이 없을 때만 loader 로 DB 값을 읽어 채운다.
+     *   (inflight 가 0 이면 커밋된 flush 는 모두 DB 에 들어가 있으므로 중복/누락이 없다)
+     * - refresh 이면 flush 중이 아닐 때마다 다시 읽는다. (다른 노드의 flush 반영)
+     * - 채울 수 없으면 null 을 반환한다.
+     */
+    public long[] snapshot(Long surveyId, Supplier<long[]> baseLoader, boolean refresh) {
+        Slots slots = slots(surveyId);
+
+        synchronized (slots) {
+            if (slots.base == null || refresh) {
+                boolean flushing = false;
+                for (long value : slots.inflight) {
+                    if (value != 0) {
+                        flushing = true;
+                        break;
+                    }
+                }
+                if (!flushing) {
+                    long[] base = baseLoader.get();
+                    if (base != null) slots.base = base;
+                }
+                if (slots.base == null) return null;
+            }
+
+            long[] counts = new long[SLOT_COUNT];
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                counts[i] = slots.base[i] + slots.inflight[i] + slots.pending[i].sum();
+            }
+            return counts;
+        }
+    }
+
+    /*
+     * 누적된 증가분을 꺼내 inflight 로 옮긴다.
+     * reset 대신 add(-delta) 를 사용하므로 drain 도중 들어온 증가분은 다음 주기로 넘어간다.
+     */
+    public Map<Long, long[]> drain() {
+        Map<Long, long[]> deltas = new HashMap<>();
+
+        slotsBySurvey.forEach((surveyId, slots) -> {
+            long[] delta = new long[SLOT_COUNT];
+            boolean changed = false;
+            synchronized (slots) {
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    delta[i] = slots.pending[i].sum();
+                    if (delta[i] != 0) {
+                        slots.inflight[i] += delta[i];
+                        slots.pending[i].add(-delta[i]);
+                        changed = true;
+                    }
+                }
+                slots.idle = changed ? 0 : slots.idle + 1;
+            }
+            if (changed) deltas.put(surveyId, delta);
+        });
+
+        return deltas;
+    }
+
+    // flush 커밋 후 inflight 를 base 로 옮기기
+    public void commit(Map<Long, long[]> deltas) {
+        deltas.forEach((surveyId, delta) -> {
+            Slots slots = slots(surveyId);
+            synchronized (slots) {
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    slots.inflight[i] -= delta[i];
+                    if (slots.base != null) slots.base[i] += delta[i];
+                }
+            }
+        });
+    }
+
+    // flush 실패 시 꺼냈던 증가분 되돌리기
+    public void restore(Map<Long, long[]> deltas) {
+        deltas.forEach((surveyId, delta) -> {
+            Slots slots = slots(surveyId);
+            synchronized (slots) {
+                for (int i = 0; i < SLOT_COUNT; i++) {
+                    if (delta[i] == 0) continue;
+                    slots.inflight[i] -= delta[i];
+                    slots.pending[i].add(delta[i]);
+                }
+            }
+        });
+    }
+
+    // 이 노드에 아직 DB 에 반영되지 않은 증가분이 있는지 (flush 중 포함)
+    public boolean hasPending(Long surveyId) {
+        Slots slots = slotsBySurvey.get(surveyId);
+        if (slots == null) return false;
+
+        synchronized (slots) {
+            return !slots.isEmpty();
+        }
+    }
+
+    // 마감된 설문은 다음 flush 뒤 증가분이 없으면 바로 뺀다
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getType() == SurveyChangeType.CLOSED) closedSurveyIds.add(event.getSurveyId());
+    }
+
+    /*
+     * 증가분이 남지 않은 설문 빼기 (flush 스레드에서 drain/commit 뒤 호출)
+     * - 마감된 설문은 1 주기, 그 밖의 설문은 idle-cycles 주기 동안 증가분이 없고 pending/inflight 가 0 이면 뺀다.
+     * - retiring 을 먼저 기록하고 다시 비었는지 본다. 그 사이 increment 가 들어왔으면 빼지 않고,
+     *   확인 뒤에 들어온 increment 는 retiring 을 보고 새 Slots 로 옮겨 간다.
+     */
+    public void evictIdle() {
+        slotsBySurvey.forEach((surveyId, slots) -> {
+            boolean closed = closedSurveyIds.contains(surveyId);
+            synchronized (slots) {
+                if (slots.idle < (closed ? 1 : idleCycles) || !slots.isEmpty()) return;
+
+                long attempt = ++slots.attempts;
+                slots.retiring = attempt;
+                if (!slots.isEmpty()) {
+                    slots.retiring = 0;
+                    return;
+                }
+                slots.removedAttempt = attempt;
+                slotsBySurvey.remove(surveyId, slots);
+            }
+            closedSurveyIds.remove(surveyId);
+        });
+        // 이 노드에 카운터가 없는 마감 설문은 기억할 필요가 없다
+        closedSurveyIds.removeIf(surveyId -> !slotsBySurvey.containsKey(surveyId));
+    }
+
+    // DB 값이 flush 밖에서 바뀌었을 때 (재계산) 기억해 둔 base 를 버리고 다음 스냅샷에서 다시 읽는다
+    public void invalidateBase(Long surveyId) {
+        Slots slots = slotsBySurvey.get(surveyId);
+        if (slots == null) return;
+
+        synchronized (slots) {
+            slots.base = null;
+        }
+    }
+
+    // participant_statistics 행을 슬롯 순서의 배열로 변환
+    public static long[] countsOf(ParticipantStatistic statistic) {
+        return new long[]{
+                statistic.getTotalCnt(),
+                // 성별
+                statistic.getMaleCnt(),
+                statistic.getFemaleCnt(),
+                // 나이대
+                statistic.getTeensCnt(),
+                statistic.getTwentiesCnt(),
+                statistic.getThirtiesCnt(),
+                statistic.getFortiesCnt(),
+                statistic.getFiftiesCnt(),
+                statistic.getSixtyPlusCnt(),
+                // 직업
+                statistic.getItCnt(),
+                statistic.getOfficeCnt(),
+                statistic.getManufacturingCnt(),
+                statistic.getServiceCnt(),
+                statistic.getEducationCnt(),
+                statistic.getMedicalCnt(),
+                statistic.getCreativeCnt(),
+                statistic.getStudentCnt(),
+                statistic.getSelfEmployedCnt(),
+                statistic.getEtcCnt()
+        };
+    }
+
+    // question_statistics 행을 슬롯 순서의 배열로 변환 (전체 = 선택 횟수)
+    public static long[] countsOf(QuestionStatistic statistic) {
+        return new long[]{
+                statistic.getCount(),
+                // 성별
+                statistic.getMaleCnt(),
+                statistic.getFemaleCnt(),
+                // 나이대
+                statistic.getTeensCnt(),
+                statistic.getTwentiesCnt(),
+                statistic.getThirtiesCnt(),
+                statistic.getFortiesCnt(),
+                statistic.getFiftiesCnt(),
+                statistic.getSixtyPlusCnt(),
+                // 직업
+                statistic.getItCnt(),
+                statistic.getOfficeCnt(),
+                statistic.getManufacturingCnt(),
+                statistic.getServiceCnt(),
+                statistic.getEducationCnt(),
+                statistic.getMedicalCnt(),
+                statistic.getCreativeCnt(),
+                statistic.getStudentCnt(),
+                statistic.getSelfEmployedCnt(),
+                statistic.getEtcCnt()
+        };
+    }
+
+    private Slots slots(Long surveyId) {
+        return slotsBySurvey.computeIfAbsent(surveyId, id -> new Slots());
+    }
+
+    private static final class Slots {
+        private final LongAdder[] pending = new LongAdder[SLOT_COUNT]; // 아직 flush 되지 않은 증가분
+        private final long[] inflight = new long[SLOT_COUNT];          // flush 중인 증가분
+        private long[] base;                                           // DB 에 반영된 값 (모르면 null)
+        private int idle;                                              // 증가분 없이 지난 flush 주기 수
+        private long attempts;                                         // evict 시도 번호
+        private volatile long retiring;                                // 진행 중이거나 성공한 evict 시도 (없으면 0)
+        private long removedAttempt;                                   // 맵에서 뺀 evict 시도
+
+        private Slots() {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                pending[i] = new LongAdder();
+            }
+        }
+
+        private boolean isEmpty() {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                if (inflight[i] != 0 || pending[i].sum() != 0) return false;
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.event.SurveyParticipatedEvent;
+import com.example.backend.survey.repository.UserSurveyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * 설문 참여 여부 인덱스 (사용자별 참여 설문 ID 비트맵)
+ * - 메모리: 사용자 ID -> RoaringBitmap(설문 ID). 기동 시 user_surveys 를 한 번 스트리밍해서 채운다.
+ * - Redis: survey:participation:{userId} 비트맵 (offset = 설문 ID). 다른 노드에서 생긴 참여를 확인하는 공유 사본.
+ * - 조회: 메모리에 있으면 참여, 없으면 Redis 를 한 번 확인한다. (참여는 취소되지 않으므로 참여 결과만 메모리에 더한다)
+ * - 메모리 적재 전이거나 Redis 오류면 DB 로 확인한다.
+ */
+@Slf4j
+@Component
+public class ParticipationIndex {
+
+    private static final String KEY_PREFIX = "survey:participation:";
+    private static final String SEEDED_KEY = KEY_PREFIX + "seeded";
+    private static final String SEED_LOCK_KEY = KEY_PREFIX + "seed-lock";
+
+    private final UserSurveyRepository userSurveyRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final int seedBatchSize;
+
+    private final Map<Long, RoaringBitmap> bitmaps = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public ParticipationIndex(
+            UserSurveyRepository userSurveyRepository,
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate redisTemplate,
+            @Value("${survey.participation.index.seed-batch-size:10000}") int seedBatchSize
+    ) {
+        this.userSurveyRepository = userSurveyRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.seedBatchSize = seedBatchSize;
+    }
+
+    // 참여 여부
+    public boolean contains(Long userId, Long surveyId) {
+        return !participated(userId, List.of(surveyId)).isEmpty();
+    }
+
+    // 목록 한 페이지의 참여 여부를 한 번에 확인 (참여한 설문 ID 만 반환)
+    public Set<Long> participated(Long userId, Collection<Long> surveyIds) {
+        if (userId == null || surveyIds.isEmpty()) return Set.of();
+        if (!ready) return new HashSet<>(userSurveyRepository.findSurveyIdsByUserIdAndSurveyIdIn(userId, surveyIds));
+
+        Set<Long> participated = new HashSet<>();
+        List<Long> unknown = new ArrayList<>();
+        RoaringBitmap bitmap = bitmaps.get(userId);
+        for (Long surveyId : surveyIds) {
+            if (bitmap != null && contains(bitmap, surveyId)) participated.add(surveyId);
+            else unknown.add(surveyId);
+        }
+        if (unknown.isEmpty()) return participated;
+
+        // 다른 노드에서 생긴 참여 확인 (BITFIELD GET 1번)
+        try {
+            BitFieldSubCommands commands = BitFieldSubCommands.create();
+            for (Long surveyId : unknown) {
+                commands = commands.get(BitFieldSubCommands.BitFieldType.unsigned(1)).valueAt(surveyId);
+            }
+            List<Long> bits = redisTemplate.opsForValue().bitField(KEY_PREFIX + userId, commands);
+            for (int i = 0; i < unknown.size(); i++) {
+                if (bits == null || bits.get(i) == null || bits.get(i) == 0) continue;
+                participated.add(unknown.get(i));
+                add(userId, unknown.get(i));
+            }
+        } catch (Exception e) {
+            log.warn("Participation index redis lookup failed, falling back to DB. userId={}", userId, e);
+            participated.addAll(userSurveyRepository.findSurveyIdsByUserIdAndSurveyIdIn(userId, unknown));
+        }
+        return participated;
+    }
+
+    // 참여 커밋 후 메모리/Redis 에 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipated(SurveyParticipatedEvent event) {
+        add(event.getUserId(), event.getSurveyId());
+        try {
+            redisTemplate.opsForValue().setBit(KEY_PREFIX + event.getUserId(), event.getSurveyId(), true);
+        } catch (Exception e) {
+            log.error("Participation index redis update failed. userId={}, surveyId={}", event.getUserId(), event.getSurveyId(), e);
+        }
+    }
+
+    /*
+     * 기동 시 user_surveys 전체를 읽어 메모리 비트맵을 만든다. (MySQL 스트리밍 조회)
+     * Redis 사본이 아직 없으면 lock 을 잡은 노드 1대가 같은 데이터로 채운다.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        try {
+            boolean seed = !Boolean.TRUE.equals(redisTemplate.hasKey(SEEDED_KEY))
+                    && Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(SEED_LOCK_KEY, "1", Duration.ofMinutes(10)));
+            List<long[]> pending = new ArrayList<>();
+            long[] rows = {0};
+
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "SELECT user_id, survey_id FROM user_surveys", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                return ps;
+            }, (ResultSet rs) -> {
+                long userId = rs.getLong(1);
+                long surveyId = rs.getLong(2);
+                add(userId, surveyId);
+                rows[0]++;
+                if (!seed) return;
+
+                pending.add(new long[]{userId, surveyId});
+                if (pending.size() >= seedBatchSize) {
+                    seed(pending);
+                    pending.clear();
+                }
+            });
+
+            if (seed) {
+                seed(pending);
+                redisTemplate.opsForValue().set(SEEDED_KEY, "1");
+            }
+            ready = true;
+            log.info("Participation index rebuilt. rows={}, users={}, seeded={}", rows[0], bitmaps.size(), seed);
+        } catch (Exception e) {
+            log.error("Participation index rebuild failed, using DB lookups.", e);
+        }
+    }
+
+    private void seed(List<long[]> rows) {
+        if (rows.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (long[] row : rows) {
+                    operations.opsForValue().setBit(KEY_PREFIX + row[0], row[1], true);
+                }
+                return null;
+            }
+        });
+    }
+
+    private void add(Long userId, Long surveyId) {
+        RoaringBitmap bitmap = bitmaps.computeIfAbsent(userId, id -> new RoaringBitmap());
+        synchronized (bitmap) {
+            bitmap.add(Math.toIntExact(surveyId));
+        }
+    }
+
+    private boolean contains(RoaringBitmap bitmap, Long surveyId) {
+        synchronized (bitmap) {
+            return bitmap.contains(Math.toIntExact(surveyId));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.global.exception.CustomException;
+import com.example.backend.survey.dto.request.SurveyParticipateReqDto;
+import com.example.backend.survey.dto.response.ParticipationStatusResDto;
+import com.example.backend.survey.entity.ParticipationRequest;
+import com.example.backend.survey.enumType.ParticipationStatus;
+import com.example.backend.survey.repository.ParticipationRequestRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static com.example.backend.survey.exception.SurveyErrorType.*;
+
+/*
+ * 비동기 설문 참여 (ingest 모드)
+ * - 요청 시에는 응답 형식만 확인하고 participation_requests 에 적재한다.
+ * - ParticipationIngestWorker 가 배치로 꺼내 응답/통계/보상을 한 트랜잭션으로 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ParticipationIngestService {
+
+    private final SurveyService surveyService;
+    private final ParticipationRequestRepository participationRequestRepository;
+    private final ObjectMapper objectMapper;
+
+    // 참여 요청 접수 (이전 요청이 실패했으면 그 행을 새 응답으로 다시 대기열에 넣는다)
+    @Transactional
+    public ParticipationStatusResDto enqueue(Long participantId, Long surveyId, SurveyParticipateReqDto requestForm) {
+        if (requestForm == null || requestForm.answers() == null || requestForm.answers().isEmpty())
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_INVALID_ANSWER);
+
+        String payload = writePayload(requestForm);
+        if (participationRequestRepository.resubmitFailed(surveyId, participantId, payload) == 1) {
+            return participationRequestRepository.findBySurveyIdAndUserId(surveyId, participantId)
+                    .map(ParticipationStatusResDto::from)
+                    .orElseThrow(() -> new CustomException(ERROR_GET_PARTICIPATION_STATUS));
+        }
+
+        ParticipationRequest request = ParticipationRequest.builder()
+                .surveyId(surveyId)
+                .userId(participantId)
+                .payload(payload)
+                .status(ParticipationStatus.PENDING)
+                .build();
+
+        try {
+            return ParticipationStatusResDto.from(participationRequestRepository.saveAndFlush(request));
+        } catch (DataIntegrityViolationException e) {
+            // (survey_id, user_id) 중복 접수 (대기/처리 중이거나 이미 반영된 요청)
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_ALREADY_DONE);
+        }
+    }
+
+    // 참여 요청 처리 상태 조회
+    @Transactional(readOnly = true)
+    public ParticipationStatusResDto getStatus(Long participantId, Long requestId) {
+        ParticipationRequest request = participationRequestRepository.findById(requestId)
+                .filter(found -> found.getUserId().equals(participantId))
+                .orElseThrow(() -> new CustomException(ERROR_GET_PARTICIPATION_STATUS));
+
+        return ParticipationStatusResDto.from(request);
+    }
+
+    // 처리할 요청 가져오기 (PENDING -> PROCESSING)
+    @Transactional
+    public List<Long> claim(int batchSize) {
+        List<Long> ids = participationRequestRepository.lockPendingIds(batchSize);
+        if (!ids.isEmpty()) participationRequestRepository.markProcessing(ids);
+        return ids;
+    }
+
+    // 응답/통계/보상 반영과 상태 변경을 한 트랜잭션으로 처리
+    @Transactional
+    public void apply(Long requestId) {
+        ParticipationRequest request = participationRequestRepository.findById(requestId)
+                .orElseThrow(() -> new CustomException(ERROR_GET_PARTICIPATION_STATUS));
+        if (request.getStatus() != ParticipationStatus.PROCESSING) return;
+
+        surveyService.participateSurvey(request.getUserId(), request.getSurveyId(), readPayload(request.getPayload()));
+        request.apply();
+    }
+
+    // 반영 실패 처리 (비즈니스 오류는 즉시 실패, 그 외는 maxAttempts 까지 재시도)
+    @Transactional
+    public void fail(Long requestId, Exception cause, int maxAttempts) {
+        participationRequestRepository.findById(requestId).ifPresent(request -> {
+            String reason = cause.getMessage() != null && cause.getMessage().length() > 255
+                    ? cause.getMessage().substring(0, 255)
+                    : cause.getMessage();
+            if (cause instanceof CustomException || request.getAttempts() >= maxAttempts) {
+                request.fail(reason);
+            } else {
+                request.retry(reason);
+            }
+        });
+    }
+
+    // 처리 중 멈춘 요청 회수
+    @Transactional
+    public int releaseStale(long staleMinutes) {
+        return participationRequestRepository.releaseStale(staleMinutes);
+    }
+
+    private String writePayload(SurveyParticipateReqDto requestForm) {
+        try {
+            return objectMapper.writeValueAsString(requestForm);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_INVALID_ANSWER);
+        }
+    }
+
+    private SurveyParticipateReqDto readPayload(String payload) {
+        try {
+            return objectMapper.readValue(payload, SurveyParticipateReqDto.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_INVALID_ANSWER);
+        }
+    }
+}
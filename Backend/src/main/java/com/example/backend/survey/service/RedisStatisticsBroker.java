@@ -0,0 +1,157 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.event.ParticipantStatisticFlushedEvent;
+import com.example.backend.survey.event.StatisticsFrameMessage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/*
+ * 다중 노드용 통계 브로커 (Redis pub/sub)
+ * - 브로드캐스트 담당 노드는 Redis lease 로 1대만 선출하고, 담당 노드가 설문 채널(survey:statistics:{id})로 보낸 메시지를
+ *   모든 노드가 받아 자기 STOMP 구독자에게 전달한다.
+ * - 다른 노드는 flush 후 survey:statistics-flushed 채널로 설문 ID 를 알려 담당 노드가 다시 스냅샷을 만들게 한다.
+ * - lease 연장은 전용 스케줄러 스레드에서 돈다. 공용 @Scheduled 스레드는 배치/flush 같은 긴 작업이 잡고 있을 수 있어
+ *   연장이 lease 시간을 넘겨 밀리면 담당 노드가 바뀌거나 두 노드가 동시에 보낼 수 있다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "survey.statistics.broker", havingValue = "redis")
+public class RedisStatisticsBroker implements StatisticsBroker, MessageListener {
+
+    public static final String FRAME_CHANNEL_PREFIX = "survey:statistics:";
+    public static final String FLUSHED_CHANNEL = "survey:statistics-flushed";
+    static final String LEASE_KEY = "survey:statistics:broadcaster";
+
+    // 내 lease 일 때만 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    // 내 lease 일 때만 반납
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long leaseMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile boolean broadcaster;
+    private ThreadPoolTaskScheduler leaseScheduler;
+
+    public RedisStatisticsBroker(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${survey.statistics.broker-lease-ms:3000}") long leaseMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.leaseMillis = leaseMillis;
+    }
+
+    @PostConstruct
+    public void start() {
+        leaseScheduler = new ThreadPoolTaskScheduler();
+        leaseScheduler.setPoolSize(1);
+        leaseScheduler.setThreadNamePrefix("statistics-broker-lease-");
+        leaseScheduler.setDaemon(true);
+        leaseScheduler.initialize();
+        leaseScheduler.scheduleWithFixedDelay(this::renewLease, Duration.ofMillis(Math.max(leaseMillis / 3, 1)));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (leaseScheduler != null) leaseScheduler.shutdown();
+        if (!broadcaster) return;
+        broadcaster = false;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+        } catch (Exception e) {
+            log.warn("Statistics broadcaster lease release failed. node={}", nodeId, e);
+        }
+    }
+
+    @Override
+    public boolean isBroadcaster() {
+        return broadcaster;
+    }
+
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
+    @Override
+    public void publish(StatisticsFrameMessage message) {
+        try {
+            redisTemplate.convertAndSend(FRAME_CHANNEL_PREFIX + message.getSurveyId(), objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.error("Statistics frame publish failed. surveyId={}", message.getSurveyId(), e);
+        }
+    }
+
+    @Override
+    public void notifyFlushed(Collection<Long> surveyIds) {
+        if (surveyIds.isEmpty()) return;
+        try {
+            redisTemplate.convertAndSend(FLUSHED_CHANNEL, objectMapper.writeValueAsString(surveyIds));
+        } catch (Exception e) {
+            log.error("Statistics flushed notify failed. surveys={}", surveyIds.size(), e);
+        }
+    }
+
+    // 담당 노드 lease 획득/연장 (lease 의 1/3 주기, 전용 스케줄러)
+    public void renewLease() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), nodeId, String.valueOf(leaseMillis));
+            boolean acquired = (renewed != null && renewed == 1)
+                    || Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, nodeId, Duration.ofMillis(leaseMillis)));
+
+            if (acquired != broadcaster) log.info("Statistics broadcaster lease changed. node={}, broadcaster={}", nodeId, acquired);
+            broadcaster = acquired;
+        } catch (Exception e) {
+            broadcaster = false;
+            log.error("Statistics broadcaster lease renew failed. node={}", nodeId, e);
+        }
+    }
+
+    // Redis 채널 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        try {
+            if (FLUSHED_CHANNEL.equals(channel)) {
+                Long[] surveyIds = objectMapper.readValue(message.getBody(), Long[].class);
+                eventPublisher.publishEvent(new ParticipantStatisticFlushedEvent(Arrays.asList(surveyIds)));
+            } else {
+                eventPublisher.publishEvent(objectMapper.readValue(message.getBody(), StatisticsFrameMessage.class));
+            }
+        } catch (Exception e) {
+            log.error("Statistics message handling failed. channel={}", channel, e);
+        }
+    }
+}
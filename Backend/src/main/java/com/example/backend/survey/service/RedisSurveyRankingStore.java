@@ -0,0 +1,239 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.enumType.SortType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/*
+ * 다중 노드용 순위 저장소 (Redis ZSET)
+ * - 정렬 기준별 ZSET (survey:ranking:{SortType}) 과 목록 아이템 JSON 해시 (survey:ranking:items) 로 구성된다.
+ *   점수: 마감 시각(epoch ms, 없으면 최대값) / 포인트 / 참여자 수
+ * - 참여자 수는 POPULAR ZSET 의 점수가 기준이며, 순위에 있는 설문에만 ZINCRBY 한다. (마감된 설문이 다시 생기지 않게)
+ * - 순위 조회는 스크립트 1번으로 세 순위와 아이템을 함께 읽는다.
+ * - 전체 재구성은 lock 을 잡은 노드 1대만 MULTI 로 교체한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "survey.leaderboard.store", havingValue = "redis")
+public class RedisSurveyRankingStore implements SurveyRankingStore {
+
+    private static final String KEY_PREFIX = "survey:ranking:";
+    private static final String ITEMS_KEY = KEY_PREFIX + "items";
+    private static final String RELOAD_LOCK_KEY = KEY_PREFIX + "reload-lock";
+    private static final List<String> KEYS = List.of(
+            KEY_PREFIX + SortType.DEADLINE_NEAR, KEY_PREFIX + SortType.REWARD_HIGH, KEY_PREFIX + SortType.POPULAR, ITEMS_KEY
+    );
+
+    // 순위에 있는 설문만 참여자 수 증가 (ARGV: surveyId, delta 반복)
+    private static final DefaultRedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for i = 1, #ARGV, 2 do
+                if redis.call('zscore', KEYS[1], ARGV[i]) then
+                    redis.call('zincrby', KEYS[1], ARGV[i + 1], ARGV[i])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // 마감 시각이 지난 설문을 모든 순위에서 제거
+    private static final DefaultRedisScript<Long> EXPIRE_SCRIPT = new DefaultRedisScript<>("""
+            local ids = redis.call('zrangebyscore', KEYS[1], '-inf', ARGV[1])
+            for _, id in ipairs(ids) do
+                redis.call('zrem', KEYS[1], id)
+                redis.call('zrem', KEYS[2], id)
+                redis.call('zrem', KEYS[3], id)
+                redis.call('hdel', KEYS[4], id)
+            end
+            return #ids
+            """, Long.class);
+
+    // 세 순위의 상위 ARGV[1] 개 (순위별로 개수, 이어서 아이템 JSON / 참여자 수 쌍)
+    @SuppressWarnings("rawtypes")
+    private static final DefaultRedisScript<List> TOP_SCRIPT = new DefaultRedisScript<>("""
+            local size = tonumber(ARGV[1])
+            local rankings = {
+                redis.call('zrangebyscore', KEYS[1], '(' .. ARGV[2], '+inf', 'LIMIT', 0, size),
+                redis.call('zrevrange', KEYS[2], 0, size - 1),
+                redis.call('zrevrange', KEYS[3], 0, size - 1)
+            }
+            local result = {}
+            for _, ids in ipairs(rankings) do
+                table.insert(result, tostring(#ids))
+                for _, id in ipairs(ids) do
+                    table.insert(result, redis.call('hget', KEYS[4], id) or '')
+                    table.insert(result, redis.call('zscore', KEYS[3], id) or '0')
+                end
+            end
+            return result
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final long reloadIntervalMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisSurveyRankingStore(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${survey.leaderboard.reload-interval-ms:60000}") long reloadIntervalMillis
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.reloadIntervalMillis = reloadIntervalMillis;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return !Boolean.TRUE.equals(redisTemplate.hasKey(ITEMS_KEY));
+    }
+
+    @Override
+    public void replaceAll(Collection<SurveyItemResDto> items) {
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public List<Object> execute(RedisOperations operations) throws DataAccessException {
+                operations.multi();
+                operations.delete(KEYS);
+                write((RedisOperations<String, String>) operations, items);
+                return operations.exec();
+            }
+        });
+    }
+
+    @Override
+    public void upsert(Collection<SurveyItemResDto> items) {
+        if (items.isEmpty()) return;
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                write((RedisOperations<String, String>) operations, items);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void remove(Collection<Long> surveyIds) {
+        if (surveyIds.isEmpty()) return;
+        Object[] members = surveyIds.stream().map(String::valueOf).toArray();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) throws DataAccessException {
+                for (SortType sortType : SurveyLeaderboard.SORT_TYPES) {
+                    operations.opsForZSet().remove(KEY_PREFIX + sortType, members);
+                }
+                operations.opsForHash().delete(ITEMS_KEY, members);
+                return null;
+            }
+        });
+    }
+
+    @Override
+    public void incrementResponseCnt(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        List<String> args = new ArrayList<>(deltas.size() * 2);
+        deltas.forEach((surveyId, delta) -> {
+            args.add(String.valueOf(surveyId));
+            args.add(String.valueOf(delta));
+        });
+        redisTemplate.execute(INCREMENT_SCRIPT, List.of(KEY_PREFIX + SortType.POPULAR), args.toArray());
+    }
+
+    @Override
+    public int removeExpired(LocalDateTime now) {
+        Long removed = redisTemplate.execute(EXPIRE_SCRIPT, KEYS, String.valueOf(epochMillis(now)));
+        return removed == null ? 0 : removed.intValue();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Map<SortType, List<SurveyItemResDto>> top(int size) {
+        List<String> result = redisTemplate.execute(TOP_SCRIPT, KEYS, String.valueOf(size), String.valueOf(epochMillis(LocalDateTime.now())));
+        Map<SortType, List<SurveyItemResDto>> top = new EnumMap<>(SortType.class);
+        if (result == null) return top;
+
+        int cursor = 0;
+        for (SortType sortType : SurveyLeaderboard.SORT_TYPES) {
+            int count = Integer.parseInt(result.get(cursor++));
+            List<SurveyItemResDto> items = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String json = result.get(cursor++);
+                String responseCnt = result.get(cursor++);
+                if (json.isEmpty()) continue;
+                items.add(read(json, (int) Double.parseDouble(responseCnt)));
+            }
+            top.put(sortType, items);
+        }
+        return top;
+    }
+
+    // 재구성 주기의 절반 동안 lock 유지 (다음 주기에는 다른 노드도 잡을 수 있게)
+    @Override
+    public boolean claimReload() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(RELOAD_LOCK_KEY, nodeId, Duration.ofMillis(reloadIntervalMillis / 2)));
+    }
+
+    private void write(RedisOperations<String, String> operations, Collection<SurveyItemResDto> items) {
+        if (items.isEmpty()) return;
+
+        Set<ZSetOperations.TypedTuple<String>> byDeadline = new HashSet<>();
+        Set<ZSetOperations.TypedTuple<String>> byReward = new HashSet<>();
+        Set<ZSetOperations.TypedTuple<String>> byResponseCnt = new HashSet<>();
+        Map<String, String> json = new HashMap<>();
+
+        for (SurveyItemResDto item : items) {
+            String member = String.valueOf(item.surveyId());
+            byDeadline.add(new DefaultTypedTuple<>(member, item.deadline() == null ? Double.MAX_VALUE : (double) epochMillis(item.deadline())));
+            byReward.add(new DefaultTypedTuple<>(member, item.reward() == null ? 0d : item.reward().doubleValue()));
+            byResponseCnt.add(new DefaultTypedTuple<>(member, item.responseCnt() == null ? 0d : item.responseCnt().doubleValue()));
+            json.put(member, write(item));
+        }
+
+        operations.opsForZSet().add(KEY_PREFIX + SortType.DEADLINE_NEAR, byDeadline);
+        operations.opsForZSet().add(KEY_PREFIX + SortType.REWARD_HIGH, byReward);
+        operations.opsForZSet().add(KEY_PREFIX + SortType.POPULAR, byResponseCnt);
+        operations.<String, String>opsForHash().putAll(ITEMS_KEY, json);
+    }
+
+    private String write(SurveyItemResDto item) {
+        try {
+            return objectMapper.writeValueAsString(item);
+        } catch (Exception e) {
+            throw new IllegalStateException("Survey ranking item serialize failed. surveyId=" + item.surveyId(), e);
+        }
+    }
+
+    // 참여자 수는 ZSET 점수로 덮어쓴다 (아이템 JSON 은 등록 시점 값)
+    private SurveyItemResDto read(String json, int responseCnt) {
+        try {
+            SurveyItemResDto item = objectMapper.readValue(json, SurveyItemResDto.class);
+            return new SurveyItemResDto(item.surveyId(), item.title(), responseCnt, item.maxResponse(),
+                    item.reward(), item.state(), item.createdAt(), item.deadline());
+        } catch (Exception e) {
+            throw new IllegalStateException("Survey ranking item deserialize failed.", e);
+        }
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
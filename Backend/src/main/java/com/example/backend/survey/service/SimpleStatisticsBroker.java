@@ -0,0 +1,38 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.event.StatisticsFrameMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/* 단일 노드용 통계 브로커 (같은 노드의 구독자에게만 전달) */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "survey.statistics.broker", havingValue = "simple", matchIfMissing = true)
+public class SimpleStatisticsBroker implements StatisticsBroker {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public boolean isBroadcaster() {
+        return true;
+    }
+
+    @Override
+    public boolean isShared() {
+        return false;
+    }
+
+    @Override
+    public void publish(StatisticsFrameMessage message) {
+        eventPublisher.publishEvent(message);
+    }
+
+    @Override
+    public void notifyFlushed(Collection<Long> surveyIds) {
+        // 단일 노드는 참여 시점에 이미 변경 표시됨
+    }
+}
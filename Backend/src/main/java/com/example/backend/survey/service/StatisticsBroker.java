@@ -0,0 +1,26 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.event.StatisticsFrameMessage;
+
+import java.util.Collection;
+
+/*
+ * 실시간 통계 메시지 전달 계층
+ * - simple: 단일 노드, 현재 노드의 STOMP simple broker 로만 전달 (기본값)
+ * - redis: Redis pub/sub 으로 모든 노드에 전달하고, 각 노드가 자기 STOMP 구독자에게 보낸다.
+ * 받은 메시지는 StatisticsFrameMessage 이벤트로 발행되어 ParticipantStatisticBroadcaster 가 구독자에게 보낸다.
+ */
+public interface StatisticsBroker {
+
+    // 이 노드가 스냅샷/프레임을 만드는 담당인지 (seq 를 한 곳에서만 증가시키기 위함)
+    boolean isBroadcaster();
+
+    // 다른 노드의 flush 결과가 DB 에 쌓이므로 기준값을 매번 다시 읽어야 하는지
+    boolean isShared();
+
+    // 설문 채널로 메시지 전송
+    void publish(StatisticsFrameMessage message);
+
+    // flush 완료된 설문을 담당 노드에 알림
+    void notifyFlushed(Collection<Long> surveyIds);
+}
@@ -0,0 +1,87 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.dto.projection.SurveyDefinition;
+import com.example.backend.survey.dto.request.AnswerReqDto;
+import com.example.backend.survey.dto.response.ChoiceResDto;
+import com.example.backend.survey.dto.response.QuestionResDto;
+import com.example.backend.survey.enumType.QuestionType;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/*
+ * 설문 응답 검증용으로 컴파일한 설문 정의 (SurveyDefinitionCache 항목과 함께 캐시된다)
+ * - 질문 번호 -> (질문 타입, 선택지 번호 집합) 맵으로 둔다. 번호 크기와 무관하게 질문 수만큼만 메모리를 쓴다.
+ *   (새 설문은 생성 시 1..n 연속 번호로 검증하지만, 그 전에 만들어진 설문은 번호가 띄엄띄엄일 수 있다)
+ * - 검증은 맵/집합 조회만 사용하고 DB 조회를 하지 않는다.
+ * - 모든 질문에 1번씩 답해야 하고 (프론트와 동일), 타입/선택지 번호/주관식 길이가 정의와 맞아야 한다.
+ */
+public final class SurveyAnswerSchema {
+
+    private static final int MAX_CONTENT_LENGTH = 255; // answers.content 컬럼 길이
+
+    private final Map<Integer, Rule> rules;
+
+    private SurveyAnswerSchema(Map<Integer, Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static SurveyAnswerSchema compile(SurveyDefinition definition) {
+        Map<Integer, Rule> rules = new HashMap<>();
+        for (QuestionResDto question : definition.questions()) {
+            if (question.number() == null || question.type() == null) continue;
+
+            Set<Integer> valid = new HashSet<>();
+            if (question.choices() != null) {
+                for (ChoiceResDto choice : question.choices()) {
+                    if (choice.number() != null) valid.add(choice.number());
+                }
+            }
+            rules.put(question.number(), new Rule(question.type(), Set.copyOf(valid)));
+        }
+        return new SurveyAnswerSchema(Map.copyOf(rules));
+    }
+
+    // 응답 목록이 설문 정의와 맞는지 확인
+    public boolean isValid(List<AnswerReqDto> answers) {
+        if (answers == null || answers.size() != rules.size()) return false;
+
+        Set<Integer> answered = new HashSet<>();
+        for (AnswerReqDto answer : answers) {
+            if (answer == null || answer.number() == null) return false;
+
+            Rule rule = rules.get(answer.number());
+            if (rule == null || !answered.add(answer.number())) return false;
+
+            if (answer.questionType() != rule.type()) return false;
+            if (!isValid(rule.type(), rule.choices(), answer)) return false;
+        }
+        return true;
+    }
+
+    private boolean isValid(QuestionType type, Set<Integer> valid, AnswerReqDto answer) {
+        List<Integer> selected = answer.answerChoices();
+
+        if (type == QuestionType.SUBJECTIVE) {
+            String content = answer.content();
+            return (selected == null || selected.isEmpty())
+                    && content != null && !content.isBlank() && content.length() <= MAX_CONTENT_LENGTH;
+        }
+
+        if (selected == null || selected.isEmpty()) return false;
+        if (type == QuestionType.SINGLE_CHOICE && selected.size() != 1) return false;
+
+        Set<Integer> picked = new HashSet<>();
+        for (Integer choice : selected) {
+            if (choice == null || !valid.contains(choice) || !picked.add(choice)) return false;
+        }
+        return true;
+    }
+
+    // 질문 1개의 검증 규칙
+    private record Rule(QuestionType type, Set<Integer> choices) {
+    }
+}
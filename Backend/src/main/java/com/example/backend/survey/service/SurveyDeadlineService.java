@@ -0,0 +1,49 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.point.enumType.PointType;
+import com.example.backend.point.event.PointRecordedEvent;
+import com.example.backend.survey.dto.projection.ExpiredSurvey;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.repository.SurveyDeadlineJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/*
+ * 설문 마감 (마감 타이머, 마감 배치 공용)
+ * - 진행 중인 설문만 DONE 으로 바꾸고 남은 포인트를 환불한다. (SurveyDeadlineJdbcRepository)
+ * - 마감된 설문은 커밋 후 SurveyChangedEvent(CLOSED) 로 순위/추천 캐시에 알린다.
+ * - 환불은 JDBC 로 바로 넣어 PointService 를 거치지 않으므로 PointRecordedEvent 를 여기서 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class SurveyDeadlineService {
+
+    private final SurveyDeadlineJdbcRepository surveyDeadlineJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 마감 + 환불 (호출한 쪽 트랜잭션 안에서 실행), 실제로 마감한 설문 수 반환
+    public int close(List<? extends ExpiredSurvey> surveys) {
+        List<ExpiredSurvey> closed = surveyDeadlineJdbcRepository.close(surveys);
+        surveyDeadlineJdbcRepository.refund(closed);
+        closed.forEach(survey -> {
+            eventPublisher.publishEvent(new SurveyChangedEvent(survey.surveyId(), SurveyChangeType.CLOSED));
+            if (survey.refundAmount() > 0) {
+                eventPublisher.publishEvent(new PointRecordedEvent(survey.clientId(), PointType.GET, survey.refundAmount(), null));
+            }
+        });
+        return closed.size();
+    }
+
+    // 지정한 설문 중 마감 시각이 지난 설문만 마감
+    @Transactional
+    public int closeDue(Collection<Long> surveyIds, LocalDateTime now) {
+        return close(surveyDeadlineJdbcRepository.findExpired(surveyIds, now));
+    }
+}
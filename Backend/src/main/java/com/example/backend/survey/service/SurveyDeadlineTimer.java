@@ -0,0 +1,243 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.repository.SurveyDeadlineJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 설문 마감 타이머
+ * - horizon-ms 안에 마감되는 진행 중 설문을 DelayQueue 에 넣고, 마감 시각이 되면 SurveyDeadlineService 로 바로 마감한다.
+ *   (하루 1번 배치만으로는 마감 후 최대 하루 가까이 참여/보상이 계속됐다)
+ * - 기동 시, reload-interval-ms 마다, lease 를 새로 잡았을 때 DB 에서 다시 읽는다. 다른 노드에서 만든 설문도 이때 들어온다.
+ *   이 노드에서 생성/마감된 설문은 이벤트로 바로 반영한다.
+ * - 여러 노드 중 Redis lease (survey:deadline:lease) 를 가진 노드 1대만 마감을 실행한다.
+ *   lease 가 없는 노드는 시각이 된 항목을 버리고, lease 를 넘겨받으면 다시 읽어 지난 설문부터 처리한다.
+ * - lease 연장은 전용 스케줄러 스레드에서 돈다 (공용 @Scheduled 스레드가 배치 등에 잡혀 연장이 밀리지 않도록).
+ *   마감 실행 직전에도 lease 를 한 번 더 확인/연장해서, 연장이 늦어 다른 노드로 넘어간 뒤에는 마감하지 않는다.
+ * - 실패하거나 놓친 설문은 다음 다시 읽기나 마감 배치 (SurveyDeadlineBatchConfig) 가 처리한다.
+ */
+@Slf4j
+@Component
+public class SurveyDeadlineTimer {
+
+    private static final String LEASE_KEY = "survey:deadline:lease";
+
+    // lease 를 가진 노드만 만료 시간 연장 (성공 시 1)
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('pexpire', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // lease 를 가진 노드만 반납
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('get', KEYS[1]) == ARGV[1] then
+                return redis.call('del', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final SurveyDeadlineService surveyDeadlineService;
+    private final SurveyDeadlineJdbcRepository surveyDeadlineJdbcRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final long horizonMillis;
+    private final long leaseTtlMillis;
+    private final long leaseRenewMillis;
+    private final int batchSize;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final DelayQueue<Deadline> queue = new DelayQueue<>();
+    private final Map<Long, Long> scheduled = new ConcurrentHashMap<>(); // 설문 ID -> 마감 시각 (epoch ms)
+    private volatile boolean leader;
+    private volatile boolean running;
+    private Thread worker;
+    private ThreadPoolTaskScheduler leaseScheduler;
+
+    public SurveyDeadlineTimer(
+            SurveyDeadlineService surveyDeadlineService,
+            SurveyDeadlineJdbcRepository surveyDeadlineJdbcRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${survey.deadline.timer.horizon-ms:3600000}") long horizonMillis,
+            @Value("${survey.deadline.timer.lease-ttl-ms:30000}") long leaseTtlMillis,
+            @Value("${survey.deadline.timer.lease-renew-ms:10000}") long leaseRenewMillis,
+            @Value("${survey.deadline.timer.batch-size:100}") int batchSize
+    ) {
+        this.surveyDeadlineService = surveyDeadlineService;
+        this.surveyDeadlineJdbcRepository = surveyDeadlineJdbcRepository;
+        this.redisTemplate = redisTemplate;
+        this.horizonMillis = horizonMillis;
+        this.leaseTtlMillis = leaseTtlMillis;
+        this.leaseRenewMillis = leaseRenewMillis;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        reload();
+        renewLease();
+
+        // 이후 연장은 전용 스레드에서 (lease 를 새로 잡았을 때의 다시 읽기도 이 스레드에서 한다)
+        leaseScheduler = new ThreadPoolTaskScheduler();
+        leaseScheduler.setPoolSize(1);
+        leaseScheduler.setThreadNamePrefix("survey-deadline-lease-");
+        leaseScheduler.setDaemon(true);
+        leaseScheduler.initialize();
+        leaseScheduler.scheduleWithFixedDelay(this::renewLease, Instant.now().plusMillis(leaseRenewMillis), Duration.ofMillis(leaseRenewMillis));
+
+        running = true;
+        worker = new Thread(this::run, "survey-deadline-timer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) worker.interrupt();
+        if (leaseScheduler != null) leaseScheduler.shutdown();
+        if (!leader) return;
+        leader = false;
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY), nodeId);
+        } catch (Exception e) {
+            log.warn("Survey deadline lease release failed.", e);
+        }
+    }
+
+    // lease 연장 또는 획득 (ttl 의 1/3 주기, 전용 스케줄러)
+    public void renewLease() {
+        try {
+            if (leader) {
+                extendLease();
+                return;
+            }
+
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, nodeId, Duration.ofMillis(leaseTtlMillis)))) {
+                leader = true;
+                log.info("Survey deadline lease acquired. nodeId={}", nodeId);
+                // lease 가 없는 동안 버린 항목 다시 적재
+                reload();
+            }
+        } catch (Exception e) {
+            leader = false;
+            log.warn("Survey deadline lease renew failed, leaving expiry to the batch job.", e);
+        }
+    }
+
+    // 내 lease 인지 확인하며 연장 (아니면 leader 해제)
+    private boolean extendLease() {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY), nodeId, String.valueOf(leaseTtlMillis));
+        boolean held = renewed != null && renewed == 1L;
+        if (leader && !held) log.info("Survey deadline lease lost. nodeId={}", nodeId);
+        leader = held;
+        return held;
+    }
+
+    // horizon 안에 마감되는 설문 다시 적재 (다른 노드에서 생성된 설문 포함)
+    @Scheduled(fixedDelayString = "${survey.deadline.timer.reload-interval-ms:60000}", initialDelayString = "${survey.deadline.timer.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            LocalDateTime until = LocalDateTime.now().plusNanos(horizonMillis * 1_000_000);
+            surveyDeadlineJdbcRepository.findDeadlinesBefore(until).forEach(this::schedule);
+        } catch (Exception e) {
+            log.error("Survey deadline timer reload failed.", e);
+        }
+    }
+
+    // 이 노드에서 생성/마감된 설문 반영
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        if (event.getType() == SurveyChangeType.CLOSED) {
+            scheduled.remove(event.getSurveyId());
+        } else if (event.getType() == SurveyChangeType.CREATED) {
+            surveyDeadlineJdbcRepository.findDeadline(event.getSurveyId()).ifPresent(deadline -> {
+                if (epochMillis(deadline) - System.currentTimeMillis() <= horizonMillis) schedule(event.getSurveyId(), deadline);
+            });
+        }
+    }
+
+    private void schedule(Long surveyId, LocalDateTime deadline) {
+        long at = epochMillis(deadline);
+        Long previous = scheduled.put(surveyId, at);
+        if (previous == null || previous != at) queue.add(new Deadline(surveyId, at));
+    }
+
+    private void run() {
+        List<Deadline> due = new ArrayList<>();
+        while (running) {
+            try {
+                due.add(queue.take());
+                queue.drainTo(due, batchSize - 1);
+                expire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Survey deadline timer expire failed.", e);
+            } finally {
+                due.clear();
+            }
+        }
+    }
+
+    private void expire(List<Deadline> due) {
+        // 마감됐거나 다시 적재된 항목은 건너뛴다
+        List<Long> surveyIds = due.stream()
+                .filter(deadline -> scheduled.remove(deadline.surveyId(), deadline.at()))
+                .map(Deadline::surveyId)
+                .toList();
+        if (surveyIds.isEmpty() || !leader) return;
+
+        // 마지막 연장 뒤 lease 가 다른 노드로 넘어갔을 수 있으므로 실행 직전에 다시 확인
+        try {
+            if (!extendLease()) return;
+        } catch (Exception e) {
+            leader = false;
+            log.warn("Survey deadline lease check failed, leaving expiry to the batch job.", e);
+            return;
+        }
+
+        int closed = surveyDeadlineService.closeDue(surveyIds, LocalDateTime.now());
+        log.info("Survey deadline timer expired surveys. due={}, closed={}", surveyIds.size(), closed);
+    }
+
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    // 마감 예약 (at: epoch ms)
+    private record Deadline(Long surveyId, long at) implements Delayed {
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(at - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(at, ((Deadline) other).at);
+        }
+    }
+}
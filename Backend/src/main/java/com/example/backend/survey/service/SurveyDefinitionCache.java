@@ -0,0 +1,114 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.global.common.ApiResponse;
+import com.example.backend.global.exception.CustomException;
+import com.example.backend.survey.dto.projection.SurveyDefinition;
+import com.example.backend.survey.entity.Question;
+import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.repository.QuestionRepository;
+import com.example.backend.survey.repository.SurveyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.example.backend.survey.exception.SurveyErrorType.ERROR_GET_SURVEY;
+import static com.example.backend.survey.exception.SurveySuccessType.SUCCESS_GET_QUESTIONS;
+
+/*
+ * 설문 정의 캐시 (질문/선택지와 생성 후 바뀌지 않는 설문 정보)
+ * - 설문 정의는 생성 후 바뀌지 않으므로 무효화 없이 캐시한다.
+ * - 노드 메모리 (Caffeine, 개수 제한) -> Redis (survey:definition:v{VERSION}:{id}, JSON) -> DB 순으로 찾는다.
+ *   SurveyDefinition 구조가 바뀌면 VERSION 을 올려 이전 형식의 Redis 값을 읽지 않게 한다.
+ * - 질문 목록 응답은 ApiResponse JSON 으로 미리 직렬화해 두고 ETag 를 붙인다.
+ * - 응답 검증용 SurveyAnswerSchema 도 항목마다 한 번 컴파일해 둔다.
+ */
+@Slf4j
+@Component
+public class SurveyDefinitionCache {
+
+    private static final int VERSION = 1;
+    private static final String KEY_PREFIX = "survey:definition:v" + VERSION + ":";
+
+    private final SurveyRepository surveyRepository;
+    private final QuestionRepository questionRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration redisTtl;
+    private final Cache<Long, Entry> cache;
+
+    public SurveyDefinitionCache(
+            SurveyRepository surveyRepository,
+            QuestionRepository questionRepository,
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${survey.definition.cache-size:1000}") long cacheSize,
+            @Value("${survey.definition.redis-ttl-hours:168}") long redisTtlHours
+    ) {
+        this.surveyRepository = surveyRepository;
+        this.questionRepository = questionRepository;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.redisTtl = Duration.ofHours(redisTtlHours);
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+    }
+
+    // 설문 정의 (없는 설문이면 ERROR_GET_SURVEY)
+    public SurveyDefinition get(Long surveyId) {
+        return entry(surveyId).definition();
+    }
+
+    // 미리 직렬화된 질문 목록 응답
+    public Entry entry(Long surveyId) {
+        return cache.get(surveyId, this::load);
+    }
+
+    private Entry load(Long surveyId) {
+        String key = KEY_PREFIX + surveyId;
+        SurveyDefinition definition = readRedis(key);
+
+        if (definition == null) {
+            Survey survey = surveyRepository.findWithInterestBySurveyId(surveyId)
+                    .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY));
+            List<Question> questions = questionRepository.findBySurvey_SurveyIdWithChoices(surveyId);
+            definition = SurveyDefinition.of(survey, questions);
+            writeRedis(key, definition);
+        }
+
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(SUCCESS_GET_QUESTIONS, definition.questions()));
+            return new Entry(definition, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"", SurveyAnswerSchema.compile(definition));
+        } catch (Exception e) {
+            throw new IllegalStateException("Survey definition serialize failed. surveyId=" + surveyId, e);
+        }
+    }
+
+    private SurveyDefinition readRedis(String key) {
+        try {
+            String json = redisTemplate.opsForValue().get(key);
+            return json == null ? null : objectMapper.readValue(json, SurveyDefinition.class);
+        } catch (Exception e) {
+            log.warn("Survey definition redis read failed. key={}", key, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, SurveyDefinition definition) {
+        try {
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(definition), redisTtl);
+        } catch (Exception e) {
+            log.warn("Survey definition redis write failed. key={}", key, e);
+        }
+    }
+
+    // 설문 정의와 질문 목록 응답 본문, ETag, 응답 검증 스키마
+    public record Entry(SurveyDefinition definition, byte[] questionsBody, String etag, SurveyAnswerSchema answerSchema) {
+    }
+}
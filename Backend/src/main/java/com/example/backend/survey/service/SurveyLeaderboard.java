@@ -0,0 +1,168 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.global.common.ApiResponse;
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.dto.response.SurveyListResDto;
+import com.example.backend.survey.enumType.SortType;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.enumType.SurveyState;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.repository.SurveyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static com.example.backend.survey.exception.SurveySuccessType.SUCCESS_GET_SURVEY_LIST;
+
+/*
+ * 홈 화면 설문 순위 (마감 임박 / 포인트 / 참여자 수)
+ * - 순위는 SurveyRankingStore (memory / redis) 에 두고, 변경된 설문만 주기마다 반영한다.
+ *   생성/마감은 DB 에서 다시 읽어 넣거나 빼고, 참여는 주기 동안 모은 증가분만 더한다.
+ * - 순위별 응답은 ApiResponse JSON 으로 미리 직렬화하고 ETag 를 붙여 둔다. (요청 시에는 읽기만)
+ * - 마감 시각이 지난 설문은 주기마다 저장소에서 꺼낸다.
+ * - reload 주기마다 DB 전체를 다시 읽어 어긋난 값을 바로잡는다. (redis 면 한 노드만)
+ */
+@Slf4j
+@Component
+public class SurveyLeaderboard {
+
+    public static final List<SortType> SORT_TYPES = List.of(SortType.DEADLINE_NEAR, SortType.REWARD_HIGH, SortType.POPULAR);
+
+    private final SurveyRepository surveyRepository;
+    private final SurveyRankingStore rankingStore;
+    private final ObjectMapper objectMapper;
+    private final int size;
+
+    private final Set<Long> dirtySurveyIds = ConcurrentHashMap.newKeySet();
+    private final Map<Long, LongAdder> responseDeltas = new ConcurrentHashMap<>();
+    private final Map<SortType, Board> boards = new ConcurrentHashMap<>();
+
+    public SurveyLeaderboard(
+            SurveyRepository surveyRepository,
+            SurveyRankingStore rankingStore,
+            ObjectMapper objectMapper,
+            @Value("${survey.leaderboard.size:10}") int size
+    ) {
+        this.surveyRepository = surveyRepository;
+        this.rankingStore = rankingStore;
+        this.objectMapper = objectMapper;
+        this.size = size;
+    }
+
+    // 미리 만들어 둔 순위 응답 (아직 없으면 만든다)
+    public Board get(SortType sortType) {
+        Board board = boards.get(sortType);
+        if (board != null) return board;
+
+        synchronized (this) {
+            if (!boards.containsKey(sortType)) rebuildBoards();
+            return boards.get(sortType);
+        }
+    }
+
+    // 설문 변경 표시 (커밋 후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void markDirty(SurveyChangedEvent event) {
+        if (event.getType() == SurveyChangeType.PARTICIPATED) {
+            responseDeltas.computeIfAbsent(event.getSurveyId(), id -> new LongAdder()).increment();
+        } else {
+            dirtySurveyIds.add(event.getSurveyId());
+        }
+    }
+
+    // 시작 시 저장소가 비어 있을 때만 DB 에서 채운다 (redis 는 재시작해도 유지)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        if (rankingStore.isEmpty()) reload();
+        else refresh();
+    }
+
+    @Scheduled(initialDelayString = "${survey.leaderboard.reload-interval-ms:60000}",
+            fixedDelayString = "${survey.leaderboard.reload-interval-ms:60000}")
+    public synchronized void reload() {
+        try {
+            if (!rankingStore.claimReload()) return;
+            rankingStore.replaceAll(surveyRepository.findItemsByState(SurveyState.IN_PROCESS));
+            rebuildBoards();
+        } catch (Exception e) {
+            log.error("Survey leaderboard reload failed.", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${survey.leaderboard.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        try {
+            rankingStore.removeExpired(LocalDateTime.now());
+            applyResponseDeltas();
+
+            if (!dirtySurveyIds.isEmpty()) {
+                List<Long> surveyIds = new ArrayList<>(dirtySurveyIds);
+                dirtySurveyIds.removeAll(surveyIds);
+
+                List<SurveyItemResDto> inProcess = surveyRepository.findItemsByIds(surveyIds).stream()
+                        .filter(item -> item.state() == SurveyState.IN_PROCESS)
+                        .toList();
+                Set<Long> closed = new HashSet<>(surveyIds);
+                inProcess.forEach(item -> closed.remove(item.surveyId()));
+
+                rankingStore.remove(closed);
+                rankingStore.upsert(inProcess);
+            }
+
+            // 공유 저장소는 다른 노드의 변경도 있으므로 매 주기 다시 읽는다 (내용이 같으면 ETag 유지)
+            rebuildBoards();
+        } catch (Exception e) {
+            log.error("Survey leaderboard refresh failed.", e);
+        }
+    }
+
+    // 주기 동안 모은 참여자 수 증가분 반영 (실패하면 다음 주기로)
+    private void applyResponseDeltas() {
+        Map<Long, Long> deltas = new HashMap<>();
+        responseDeltas.forEach((surveyId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) deltas.put(surveyId, delta);
+        });
+        if (deltas.isEmpty()) return;
+
+        try {
+            rankingStore.incrementResponseCnt(deltas);
+        } catch (Exception e) {
+            deltas.forEach((surveyId, delta) -> responseDeltas.computeIfAbsent(surveyId, id -> new LongAdder()).add(delta));
+            throw e;
+        }
+    }
+
+    // 순위별 상위 N개를 직렬화하고, 내용이 바뀐 순위만 교체 (ETag 유지)
+    private void rebuildBoards() {
+        Map<SortType, List<SurveyItemResDto>> top = rankingStore.top(size);
+        for (SortType sortType : SORT_TYPES) {
+            List<SurveyItemResDto> items = top.getOrDefault(sortType, List.of());
+            try {
+                byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(SUCCESS_GET_SURVEY_LIST, SurveyListResDto.from(items)));
+                Board previous = boards.get(sortType);
+                if (previous != null && Arrays.equals(previous.body(), body)) continue;
+
+                boards.put(sortType, new Board(items, body, "\"" + DigestUtils.md5DigestAsHex(body) + "\""));
+            } catch (Exception e) {
+                log.error("Survey leaderboard serialize failed. sortType={}", sortType, e);
+            }
+        }
+    }
+
+    // 순위 목록과 직렬화된 응답 본문, ETag
+    public record Board(List<SurveyItemResDto> items, byte[] body, String etag) {
+    }
+}
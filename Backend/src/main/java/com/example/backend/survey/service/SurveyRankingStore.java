@@ -0,0 +1,41 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.enumType.SortType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 홈 화면 순위 저장소 (진행 중인 설문만 보관)
+ * - memory: 노드별 TreeSet, 다른 노드의 변경은 주기적인 전체 reload 로 맞춘다. (기본값)
+ * - redis: 정렬 기준별 ZSET 을 모든 노드가 공유하고, 재시작해도 DB 에서 다시 만들지 않는다.
+ */
+public interface SurveyRankingStore {
+
+    // 저장된 순위가 없는지 (시작 시 DB 에서 채울지 판단)
+    boolean isEmpty();
+
+    // 전체 교체 (DB 기준 재구성)
+    void replaceAll(Collection<SurveyItemResDto> items);
+
+    // 설문 추가/갱신
+    void upsert(Collection<SurveyItemResDto> items);
+
+    // 설문 제거 (마감/취소)
+    void remove(Collection<Long> surveyIds);
+
+    // 참여자 수 증가 (순위에 있는 설문만)
+    void incrementResponseCnt(Map<Long, Long> deltas);
+
+    // 마감 시각이 지난 설문 제거, 제거한 수 반환
+    int removeExpired(LocalDateTime now);
+
+    // 정렬 기준별 상위 size 개
+    Map<SortType, List<SurveyItemResDto>> top(int size);
+
+    // 전체 재구성을 이 노드가 맡을지 (공유 저장소면 한 노드만)
+    boolean claimReload();
+}
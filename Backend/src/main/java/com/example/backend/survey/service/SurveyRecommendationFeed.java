@@ -0,0 +1,240 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.dto.projection.CountProjection;
+import com.example.backend.survey.dto.response.SurveyItemResDto;
+import com.example.backend.survey.enumType.SurveyChangeType;
+import com.example.backend.survey.enumType.SurveyState;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.event.SurveyParticipatedEvent;
+import com.example.backend.survey.repository.SurveyRepository;
+import com.example.backend.survey.repository.UserSurveyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 사용자별 추천 설문 피드
+ * - 사용자마다 관심사별 참여 수(affinity)를 들고, 참여할 때마다 증분 갱신한다. (처음 한 번만 집계 쿼리로 채운다)
+ * - 후보는 관심사별 진행 중 설문을 최신순 candidate-size 개씩 읽어 공유 캐시에 candidate-ttl-ms 동안 둔다.
+ *   읽은 후보가 사용자가 이미 참여한 설문뿐이라 feed-size 개를 못 채우면 다음 페이지 (keyset) 를 이어 붙인다.
+ *   이 노드에서 설문이 생성되면 그 관심사 후보만, 마감되면 그 설문만 후보에서 뺀다.
+ *   다른 노드에서 생성/마감된 설문은 ttl 이 지나 다시 읽을 때 반영된다.
+ * - 점수 = 관심사 비중 (동점이면 최신순), 참여한 설문은 ParticipationIndex 로 페이지마다 한 번에 거른다.
+ *   관심사마다 참여하지 않은 설문을 feed-size 개까지만 모으고, 점수가 더 높은 관심사로 이미 다 채웠으면 나머지는 보지 않는다.
+ * - 만든 피드는 사용자별로 캐시하고, 본인 참여나 후보 변경(설문 생성/마감, 후보 다시 읽기) 시 무효화한다.
+ * - 다른 노드의 참여는 profile-ttl-ms 가 지나면 다시 읽어 반영한다.
+ */
+@Component
+public class SurveyRecommendationFeed {
+
+    private final SurveyRepository surveyRepository;
+    private final UserSurveyRepository userSurveyRepository;
+    private final ParticipationIndex participationIndex;
+    private final int interestLimit;
+    private final int candidateSize;
+    private final int feedSize;
+    private final long profileTtlMillis;
+    private final long candidateTtlMillis;
+
+    private final Map<Long, Candidates> candidates = new ConcurrentHashMap<>();
+    private final AtomicLong candidateVersion = new AtomicLong();
+    private final Map<Long, Profile> profiles;
+
+    public SurveyRecommendationFeed(
+            SurveyRepository surveyRepository,
+            UserSurveyRepository userSurveyRepository,
+            ParticipationIndex participationIndex,
+            @Value("${survey.recommend.interest-limit:10}") int interestLimit,
+            @Value("${survey.recommend.candidate-size:50}") int candidateSize,
+            @Value("${survey.recommend.feed-size:20}") int feedSize,
+            @Value("${survey.recommend.profile-ttl-ms:600000}") long profileTtlMillis,
+            @Value("${survey.recommend.candidate-ttl-ms:60000}") long candidateTtlMillis,
+            @Value("${survey.recommend.cache-size:10000}") int cacheSize
+    ) {
+        this.surveyRepository = surveyRepository;
+        this.userSurveyRepository = userSurveyRepository;
+        this.participationIndex = participationIndex;
+        this.interestLimit = interestLimit;
+        this.candidateSize = candidateSize;
+        this.feedSize = feedSize;
+        this.profileTtlMillis = profileTtlMillis;
+        this.candidateTtlMillis = candidateTtlMillis;
+        // 접근 순서 LRU
+        this.profiles = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Profile> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // 추천 피드 조회 (참여 이력이 없으면 빈 목록)
+    public List<SurveyItemResDto> get(Long userId) {
+        Profile profile = profile(userId);
+
+        synchronized (profile) {
+            long version = candidateVersion.get();
+            if (profile.feed == null || profile.feedVersion != version) {
+                profile.feed = build(userId, profile);
+                profile.feedVersion = version;
+            }
+            return profile.feed;
+        }
+    }
+
+    // 본인 참여 반영 (캐시된 사용자만, 커밋 후)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onParticipated(SurveyParticipatedEvent event) {
+        Profile profile = profiles.get(event.getUserId());
+        if (profile == null) return;
+
+        synchronized (profile) {
+            if (event.getInterestId() != null) profile.affinity.merge(event.getInterestId(), 1L, Long::sum);
+            profile.total++;
+            profile.feed = null;
+        }
+    }
+
+    // 설문 생성/마감 시 영향받는 후보만 갱신 (참여 수 변경은 추천 순서와 무관)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSurveyChanged(SurveyChangedEvent event) {
+        Long surveyId = event.getSurveyId();
+        if (event.getType() == SurveyChangeType.CREATED) {
+            // 새 설문은 그 관심사 후보를 다음 조회 때 다시 읽는다
+            surveyRepository.findInterestIdBySurveyId(surveyId).ifPresent(candidates::remove);
+        } else if (event.getType() == SurveyChangeType.CLOSED) {
+            // 마감된 설문만 후보에서 뺀다 (빈 자리는 ttl 이 지나 다시 읽을 때 채워진다)
+            candidates.replaceAll((interestId, cached) -> cached.without(surveyId));
+        } else {
+            return;
+        }
+        candidateVersion.incrementAndGet();
+    }
+
+    private List<SurveyItemResDto> build(Long userId, Profile profile) {
+        if (profile.total == 0) return List.of();
+
+        List<Map.Entry<Long, Long>> interests = profile.affinity.entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(interestLimit)
+                .toList();
+
+        List<Scored> scored = new ArrayList<>();
+        for (Map.Entry<Long, Long> interest : interests) {
+            double score = (double) interest.getValue() / profile.total;
+            // 점수가 더 높은 관심사만으로 feed-size 개가 찼으면 낮은 관심사 설문은 피드에 들어갈 수 없다
+            if (scored.size() >= feedSize && score < scored.get(scored.size() - 1).score()) break;
+            scored.addAll(unparticipated(userId, interest.getKey(), score));
+        }
+
+        return scored.stream()
+                .sorted(Comparator.comparingDouble(Scored::score).reversed()
+                        .thenComparing(s -> s.item().createdAt(), Comparator.nullsLast(Comparator.reverseOrder())))
+                .limit(feedSize)
+                .map(Scored::item)
+                .toList();
+    }
+
+    // 관심사 1개에서 참여하지 않은 후보 (feed-size 개가 모이거나 후보가 떨어질 때까지 다음 페이지를 읽는다)
+    private List<Scored> unparticipated(Long userId, Long interestId, double score) {
+        List<Scored> result = new ArrayList<>();
+        Set<Long> checked = new HashSet<>();
+        Candidates page = candidates(interestId);
+        while (true) {
+            List<SurveyItemResDto> unchecked = page.items().stream()
+                    .filter(item -> !checked.contains(item.surveyId()))
+                    .toList();
+            Set<Long> participated = participationIndex.participated(userId, unchecked.stream().map(SurveyItemResDto::surveyId).toList());
+            for (SurveyItemResDto item : unchecked) {
+                checked.add(item.surveyId());
+                if (!participated.contains(item.surveyId())) result.add(new Scored(item, score));
+            }
+            if (result.size() >= feedSize || page.exhausted()) return result;
+            page = more(interestId, page);
+        }
+    }
+
+    // 관심사별 후보 (진행 중, 최신순 candidate-size 개, ttl 이 지나면 다시 읽는다)
+    private Candidates candidates(Long interestId) {
+        long now = System.currentTimeMillis();
+        Candidates cached = candidates.get(interestId);
+        if (cached != null && now - cached.loadedAt() < candidateTtlMillis) return cached;
+
+        List<SurveyItemResDto> items = surveyRepository.findItemsByInterest(interestId, SurveyState.IN_PROCESS, PageRequest.of(0, candidateSize));
+        Candidates loaded = new Candidates(items, items.size() < candidateSize, now);
+        candidates.put(interestId, loaded);
+        // 다시 읽은 후보로 만든 피드가 아니면 다음 조회 때 다시 만든다
+        if (cached != null) candidateVersion.incrementAndGet();
+        return loaded;
+    }
+
+    /*
+     * 후보 다음 페이지를 이어 붙인다 (마지막 후보보다 오래된 진행 중 설문)
+     * - 이어 붙인 설문은 기존 후보보다 모두 오래됐으므로 이미 만든 피드는 그대로 둔다.
+     * - 그 사이 캐시가 바뀌었으면 (생성, 마감, 다시 읽기) 이어 붙이지 않고 바뀐 후보를 돌려준다.
+     */
+    private Candidates more(Long interestId, Candidates cached) {
+        List<SurveyItemResDto> page;
+        if (cached.items().isEmpty()) {
+            // 마감으로 모두 빠졌으면 처음부터 다시 읽는다
+            page = surveyRepository.findItemsByInterest(interestId, SurveyState.IN_PROCESS, PageRequest.of(0, candidateSize));
+        } else {
+            SurveyItemResDto last = cached.items().get(cached.items().size() - 1);
+            if (last.createdAt() == null) return cached.exhaust();
+            page = surveyRepository.findItemsByInterestAfter(interestId, SurveyState.IN_PROCESS,
+                    last.createdAt(), last.surveyId(), PageRequest.of(0, candidateSize));
+        }
+
+        List<SurveyItemResDto> items = new ArrayList<>(cached.items());
+        items.addAll(page);
+        Candidates extended = new Candidates(List.copyOf(items), page.size() < candidateSize, cached.loadedAt());
+        Candidates current = candidates.computeIfPresent(interestId, (id, present) -> present == cached ? extended : present);
+        return current != null ? current : candidates(interestId);
+    }
+
+    private Profile profile(Long userId) {
+        Profile profile = profiles.get(userId);
+        if (profile != null && System.currentTimeMillis() - profile.loadedAt < profileTtlMillis) return profile;
+
+        // 처음이거나 오래됐으면 DB 에서 다시 채운다
+        profile = new Profile();
+        profile.loadedAt = System.currentTimeMillis();
+        for (CountProjection count : userSurveyRepository.countByInterest(userId)) {
+            if (count.getCategory() == null) continue;
+            profile.affinity.put(((Number) count.getCategory()).longValue(), count.getCount());
+            profile.total += count.getCount();
+        }
+        profiles.put(userId, profile);
+        return profile;
+    }
+
+    private record Scored(SurveyItemResDto item, double score) {
+    }
+
+    // 관심사 1개의 후보 목록 (exhausted: 더 읽을 후보가 없음, loadedAt: 처음 읽은 시각 epoch ms)
+    private record Candidates(List<SurveyItemResDto> items, boolean exhausted, long loadedAt) {
+        private Candidates without(Long surveyId) {
+            if (items.stream().noneMatch(item -> item.surveyId().equals(surveyId))) return this;
+            return new Candidates(items.stream().filter(item -> !item.surveyId().equals(surveyId)).toList(), exhausted, loadedAt);
+        }
+
+        private Candidates exhaust() {
+            return new Candidates(items, true, loadedAt);
+        }
+    }
+
+    // 사용자별 추천 상태
+    private static final class Profile {
+        private final Map<Long, Long> affinity = new HashMap<>(); // 관심사 ID -> 참여 수
+        private long total;
+        private long loadedAt;
+        private List<SurveyItemResDto> feed;
+        private long feedVersion;
+    }
+}
@@ -6,15 +6,22 @@ import com.example.backend.interest.entity.Interest;
 import com.example.backend.interest.service.InterestService;
 import com.example.backend.point.dto.response.SurveyRefundPreviewResponse;
 import com.example.backend.point.service.PointService;
+import com.example.backend.survey.config.SurveySearchIndex;
+import com.example.backend.survey.dto.projection.SurveyDefinition;
+import com.example.backend.survey.dto.request.ChoiceReqDto;
 import com.example.backend.survey.dto.request.CreateSurveyReqDto;
+import com.example.backend.survey.dto.request.QuestionReqDto;
 import com.example.backend.survey.dto.request.SurveyParticipateReqDto;
 import com.example.backend.survey.dto.request.SurveySearchReqDto;
 import com.example.backend.survey.dto.response.*;
 import com.example.backend.survey.entity.*;
 import com.example.backend.survey.enumType.SortType;
+import com.example.backend.survey.enumType.SurveyChangeType;
 import com.example.backend.survey.enumType.SurveyState;
-import com.example.backend.survey.repository.AnswerRepository;
-import com.example.backend.survey.repository.QuestionRepository;
+import com.example.backend.survey.event.SurveyChangedEvent;
+import com.example.backend.survey.event.SurveyParticipatedEvent;
+import com.example.backend.survey.repository.AnswerJdbcRepository;
+import com.example.backend.survey.repository.QuestionJdbcRepository;
 import com.example.backend.survey.repository.SurveyRepository;
 import com.example.backend.survey.repository.UserSurveyRepository;
 import com.example.backend.user.entity.UserEntity;
@@ -23,17 +30,20 @@ import com.example.backend.user.service.UserService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.example.backend.survey.exception.SurveyErrorType.*;
@@ -50,32 +60,64 @@ public class SurveyService {
     private final UserRepository userRepository;
     private final SurveyRepository surveyRepository;
     private final UserSurveyRepository userSurveyRepository;
-    private final QuestionRepository questionRepository;
-    private final AnswerRepository answerRepository;
-
-    // 설문 생성
-    @Transactional
+    private final AnswerJdbcRepository answerJdbcRepository;
+    private final QuestionJdbcRepository questionJdbcRepository;
+    private final SurveyLeaderboard surveyLeaderboard;
+    private final SurveyRecommendationFeed surveyRecommendationFeed;
+    private final ParticipationIndex participationIndex;
+    private final SurveyDefinitionCache surveyDefinitionCache;
+    private final SurveySearchIndex surveySearchIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    /*
+     * 설문 생성
+     * - 질문/선택지/선택지별 집계 행은 cascade 대신 QuestionJdbcRepository 로 chunk 단위 batch INSERT 한다.
+     *   (IDENTITY 전략이라 cascade 저장은 행마다 INSERT 1번 -> 질문 150 x 선택지 10 이면 3천 번 이상)
+     * - 번호 검증, 관심사 조회, 질문/선택지 구성은 트랜잭션 밖에서 끝낸다.
+     *   트랜잭션에는 의뢰인 조회 + 포인트 차감 + 설문/질문/선택지/집계 행 INSERT 만 넣어 커넥션과 의뢰인 행 잠금을 짧게 잡는다.
+     *   (차감과 INSERT 는 함께 커밋/롤백돼야 결제 없는 설문이나 설문 없는 결제가 남지 않는다)
+     */
     public SurveyResDto createSurvey(Long clientId, CreateSurveyReqDto requestForm) {
-        UserEntity client = userRepository.findById(clientId)
-                .orElseThrow(() -> new CustomException(ERROR_CREATE_SURVEY));
+        validateNumbering(requestForm.questions());
         Interest interest = interestService.getInterest(requestForm.interestId());
+        List<Question> questions = toQuestions(requestForm.questions());
+
+        return transactionTemplate.execute(status -> {
+            UserEntity client = userRepository.findById(clientId)
+                    .orElseThrow(() -> new CustomException(ERROR_CREATE_SURVEY));
+
+            Survey survey = Survey.builder()
+                    .client(client)
+                    .title(requestForm.title())
+                    .description(requestForm.description())
+                    .maxResponse(requestForm.maxResponse())
+                    .reward(requestForm.reward())
+                    .deadline(requestForm.deadline())
+                    .interest(interest)
+                    .state(SurveyState.IN_PROCESS)
+                    .responseCnt(0)
+                    .build();
+            survey.setQuestionCnt(questions.size());
+
+            Survey savedSurvey = surveyRepository.save(survey);
+            questions.forEach(question -> question.setSurvey(savedSurvey));
+            // 포인트 결제
+            pointService.usePointsForSurvey(client, savedSurvey);
+            questionJdbcRepository.saveAll(savedSurvey.getSurveyId(), questions);
+            surveyStatisticsService.createParticipantStatistics(savedSurvey);
+            surveyStatisticsService.createQuestionStatistics(savedSurvey, questions);
+            eventPublisher.publishEvent(new SurveyChangedEvent(savedSurvey.getSurveyId(), SurveyChangeType.CREATED));
+
+            return SurveyResDto.of(savedSurvey, questions);
+        });
+    }
 
-        Survey survey = Survey.builder()
-                .client(client)
-                .title(requestForm.title())
-                .description(requestForm.description())
-                .maxResponse(requestForm.maxResponse())
-                .reward(requestForm.reward())
-                .deadline(requestForm.deadline())
-                .interest(interest)
-                .state(SurveyState.IN_PROCESS)
-                .responseCnt(0)
-                .build();
-
-        List<Question> questions = requestForm.questions().stream()
+    // 요청 질문/선택지 -> 엔티티 (설문은 저장 후 연결한다)
+    private List<Question> toQuestions(List<QuestionReqDto> questionReqDtos) {
+        return questionReqDtos.stream()
                 .map(questionReqDto -> {
                     Question question = new Question();
-                    question.setSurvey(survey);
                     question.setNumber(questionReqDto.number());
                     question.setContent(questionReqDto.content());
                     question.setType(questionReqDto.type());
@@ -93,17 +135,25 @@ public class SurveyService {
                     return question;
                 })
                 .collect(Collectors.toList());
+    }
 
-        survey.setQuestions(questions);
-        survey.setQuestionCnt(questions.size());
-
+    // 질문 번호는 1..질문 수, 선택지 번호는 질문마다 1..선택지 수 로 빠짐/중복 없이 매겨져야 한다 (프론트와 동일)
+    private void validateNumbering(List<QuestionReqDto> questions) {
+        if (questions == null || questions.isEmpty()) throw new CustomException(ERROR_CREATE_SURVEY);
 
-        Survey savedSurvey = surveyRepository.save(survey);
-        // 포인트 결제
-        pointService.usePointsForSurvey(client, survey);
-        surveyStatisticsService.createParticipantStatistics(survey);
+        if (!isDense(questions.stream().map(QuestionReqDto::number).toList())) throw new CustomException(ERROR_CREATE_SURVEY);
+        for (QuestionReqDto question : questions) {
+            if (question.choices() == null) throw new CustomException(ERROR_CREATE_SURVEY);
+            if (!isDense(question.choices().stream().map(ChoiceReqDto::number).toList())) throw new CustomException(ERROR_CREATE_SURVEY);
+        }
+    }
 
-        return SurveyResDto.from(savedSurvey);
+    private boolean isDense(List<Integer> numbers) {
+        Set<Integer> seen = new HashSet<>();
+        for (Integer number : numbers) {
+            if (number == null || number < 1 || number > numbers.size() || !seen.add(number)) return false;
+        }
+        return true;
     }
 
     // 설문 전체 조회
@@ -122,8 +172,12 @@ public class SurveyService {
     // 단일 설문 조회 (참여)
     @Transactional
     public SurveyDetailResDto getSurveyBySurveyId(Long surveyId) {
-        return SurveyDetailResDto.from(surveyRepository.findById(surveyId)
-                .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY)));
+        SurveyDefinition definition = surveyDefinitionCache.get(surveyId);
+        // 바뀌는 값(참여자 수, 상태)만 DB 에서 읽는다
+        SurveyItemResDto live = surveyRepository.findItemsByIds(List.of(surveyId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY));
+        return SurveyDetailResDto.of(definition, live.responseCnt(), live.state());
     }
 
     // 내가 의뢰한 설문 목록 조회
@@ -147,11 +201,29 @@ public class SurveyService {
     public Page<SurveyItemResDto> getSurveyByCondition(SurveySearchReqDto condition, Pageable pageable) {
         Pageable sortedPageable = createSortedPageable(condition.sortType(), pageable);
 
+        // 검색어가 있으면 FULLTEXT 인덱스로 관련도 순 조회 (관련도가 같으면 정렬 기준 순)
+        // ngram 크기보다 짧은 검색어이거나 인덱스가 아직 없으면 기존 LIKE 검색
+        String keyword = toFullTextKeyword(condition.title());
+        if (keyword != null && surveySearchIndex.isAvailable()) {
+            SortType sortType = condition.sortType() == null ? SortType.LATEST : condition.sortType();
+            Pageable unsortedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+            return surveyRepository.searchByKeyword(keyword, condition.interestId(), SurveyState.IN_PROCESS.name(), sortType.name(), unsortedPageable)
+                    .map(SurveyItemResDto::from);
+        }
+
         Page<Survey> surveys = surveyRepository.findAllByCondition(condition.title(), condition.interestId(), SurveyState.IN_PROCESS, sortedPageable);
 
         return surveys.map(SurveyItemResDto::from);
     }
 
+    // BOOLEAN MODE 연산자를 지우고 구문 검색어로 변환 (ngram 토큰 크기 2 미만이면 null)
+    private String toFullTextKeyword(String title) {
+        if (title == null) return null;
+        String keyword = title.replaceAll("[+\\-<>()~*\"@]", " ").trim().replaceAll("\\s+", " ");
+        if (keyword.replace(" ", "").length() < 2) return null;
+        return "\"" + keyword + "\"";
+    }
+
     // 정렬 기준에 따른 Pageable 반환
     private Pageable createSortedPageable(SortType sortType, Pageable pageable) {
         if (sortType == null) sortType = SortType.LATEST; // 기본 정렬 기준 최신순
@@ -167,32 +239,22 @@ public class SurveyService {
         return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
     }
 
-    // 설문 추천
-    @Transactional
-    public SurveyListResDto getSurveyByRecommend(Long userId) {
-        List<UserSurvey> userSurveys = userSurveyRepository.findByUserIdWithInterestAndSurvey(userId);
-        if (userSurveys.isEmpty()) return getTop10ByReward();
-
-        List<Interest> topInterests = userSurveys.stream()
-                .map(UserSurvey::getInterest)
-                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
-                .entrySet().stream()
-                .sorted(Map.Entry.<Interest, Long>comparingByValue().reversed())
-                .limit(10)
-                .map(Map.Entry::getKey)
+    // 목록 아이템에 참여 여부 표시 (목록 전체를 참여 인덱스 1번 조회로)
+    public List<SurveyItemResDto> markParticipated(Long userId, List<SurveyItemResDto> items) {
+        Set<Long> participated = participationIndex.participated(userId, items.stream().map(SurveyItemResDto::surveyId).toList());
+        return items.stream()
+                .map(item -> item.withParticipated(participated.contains(item.surveyId())))
                 .toList();
+    }
 
-        Set<Long> participatedSurveyIds = userSurveys.stream()
-                .map(us -> us.getSurvey().getSurveyId())
-                .collect(Collectors.toSet());
-
-        List<Survey> recommendedSurveys = surveyRepository.findByInterestInAndNotParticipated(topInterests, participatedSurveyIds);
-        if (recommendedSurveys.isEmpty()) return getTop10ByReward();
+    public Page<SurveyItemResDto> markParticipated(Long userId, Page<SurveyItemResDto> page) {
+        return new PageImpl<>(markParticipated(userId, page.getContent()), page.getPageable(), page.getTotalElements());
+    }
 
-        List<SurveyItemResDto> recommendedSurveyItems = new ArrayList<>();
-        for (Survey survey : recommendedSurveys) {
-            recommendedSurveyItems.add(SurveyItemResDto.from(survey));
-        }
+    // 설문 추천 (참여 이력이 없거나 후보가 없으면 포인트 높은 순)
+    public SurveyListResDto getSurveyByRecommend(Long userId) {
+        List<SurveyItemResDto> recommendedSurveyItems = surveyRecommendationFeed.get(userId);
+        if (recommendedSurveyItems.isEmpty()) return getTop10ByReward();
 
         return SurveyListResDto.from(recommendedSurveyItems);
     }
@@ -212,7 +274,7 @@ public class SurveyService {
         UserEntity participant = userRepository.findById(participantId)
                 .orElseThrow(() -> new CustomException(ERROR_PARTICIPATE_SURVEY_USER_NOT_FOUND));
 
-        if (userSurveyRepository.existsByUser_IdAndSurvey_SurveyId(participantId, surveyId))
+        if (participationIndex.contains(participantId, surveyId))
             throw new CustomException(ERROR_PARTICIPATE_SURVEY_ALREADY_DONE);
 
         Survey survey = surveyRepository.findById(surveyId)
@@ -221,6 +283,7 @@ public class SurveyService {
         if (survey.getState() != SurveyState.IN_PROCESS)
             throw new CustomException(ERROR_PARTICIPATE_SURVEY_CLOSED);
 
+        AgeGroup ageGroup = AgeGroup.fromAge(participant.getAge());
         List<Answer> answers = requestForm.answers().stream()
                 .map(answerDto -> Answer.builder()
                         .survey(survey)
@@ -229,42 +292,70 @@ public class SurveyService {
                         .type(answerDto.questionType())
                         .answerChoice(answerDto.answerChoices())
                         .content(answerDto.content())
+                        .gender(participant.getGender())
+                        .ageGroup(ageGroup)
+                        .workType(participant.getWorkType())
                         .build()
                 ).toList();
-        answerRepository.saveAll(answers);
+        answerJdbcRepository.saveAll(answers);
 
         UserSurvey userSurvey = UserSurvey.builder()
                 .user(participant)
                 .survey(survey)
                 .age(participant.getAge())
-                .ageGroup(AgeGroup.fromAge(participant.getAge()))
+                .ageGroup(ageGroup)
                 .gender(participant.getGender())
                 .workType(participant.getWorkType())
                 .interest(survey.getInterest())
                 .build();
-        userSurveyRepository.save(userSurvey);
-
-        // 설문 참여자 수 + 1
-        survey.setResponseCnt(survey.getResponseCnt() + 1);
-        if (survey.getResponseCnt().equals(survey.getMaxResponse())) survey.setState(SurveyState.DONE);
+        try {
+            userSurveyRepository.saveAndFlush(userSurvey);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 들어온 중복 참여 (uk_user_survey)
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_ALREADY_DONE);
+        }
+        surveyStatisticsService.updateQuestionStatistics(surveyId, answers, userSurvey);
+
+        /*
+         * 설문 참여자 수 + 1
+         * - 읽어 둔 엔티티 값에 +1 하면 동시 참여 시 갱신이 유실되고 maxResponse 를 넘겨 보상이 지급된다.
+         * - 조건부 UPDATE 로 자리를 예약하고, 실패하면 (마감/정원 초과) 트랜잭션 전체를 롤백한다.
+         * - 응답 저장 뒤에 예약해서 surveys 행 잠금을 잡고 있는 시간을 줄인다.
+         */
+        if (surveyRepository.reserveResponseSlot(surveyId, LocalDateTime.now()) == 0)
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_CLOSED);
+        if (surveyRepository.closeIfFull(surveyId) == 1) {
+            log.info("Survey reached max response. surveyId={}", surveyId);
+            eventPublisher.publishEvent(new SurveyChangedEvent(surveyId, SurveyChangeType.CLOSED));
+        }
 
         surveyStatisticsService.updateParticipantStatistics(survey, userSurvey);
+        eventPublisher.publishEvent(new SurveyChangedEvent(surveyId, SurveyChangeType.PARTICIPATED));
+        eventPublisher.publishEvent(new SurveyParticipatedEvent(participantId, surveyId,
+                survey.getInterest() == null ? null : survey.getInterest().getInterestId()));
 
         pointService.chargePointsForSurvey(participant, survey);
     }
 
-    // 질문 목록 조회 (설문 참여)
-    public List<QuestionResDto> getQuestionsBySurveyId(Long surveyId) {
-        Survey survey = surveyRepository.findById(surveyId)
-                .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY));
-
-        List<Question> questions = questionRepository.findBySurvey_SurveyIdWithChoices(surveyId);
-        List<QuestionResDto> questionResDtos = new ArrayList<>();
-        for (Question question : questions) {
-            questionResDtos.add(QuestionResDto.from(question));
+    /*
+     * 설문 참여 응답 검증 (트랜잭션 밖에서 호출)
+     * - 캐시된 SurveyAnswerSchema 로만 확인해서, 잘못된 요청은 DB 커넥션을 잡기 전에 거절한다.
+     */
+    public void validateAnswers(Long surveyId, SurveyParticipateReqDto requestForm) {
+        SurveyAnswerSchema schema;
+        try {
+            schema = surveyDefinitionCache.entry(surveyId).answerSchema();
+        } catch (CustomException e) {
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_NO_CONTENT);
         }
 
-        return questionResDtos;
+        if (requestForm == null || !schema.isValid(requestForm.answers()))
+            throw new CustomException(ERROR_PARTICIPATE_SURVEY_INVALID_ANSWER);
+    }
+
+    // 질문 목록 조회 (설문 참여)
+    public List<QuestionResDto> getQuestionsBySurveyId(Long surveyId) {
+        return surveyDefinitionCache.get(surveyId).questions();
     }
 
     // 설문 환불 미리보기
@@ -287,57 +378,28 @@ public class SurveyService {
     public void closeSurveyBySurveyId(Long clientId, Long surveyId) {
         Survey target = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY));
-        UserEntity targetClient = target.getClient();
-
-        if (!clientId.equals(targetClient.getId())) throw new CustomException(ERROR_CLOSE_SURVEY_NOT_PERMISSION);
+        if (!clientId.equals(target.getClient().getId())) throw new CustomException(ERROR_CLOSE_SURVEY_NOT_PERMISSION);
         if (target.getState() != SurveyState.IN_PROCESS) throw new CustomException(ERROR_CLOSE_SURVEY_ALREADY_DONE);
-        target.setState(SurveyState.CANCELED);
-        pointService.refundSPointsForSurvey(targetClient, target);
-    }
-
 
-    // 마감 임박 설문 10개 조회
-    @Transactional
-    public SurveyListResDto getTop10ByDeadline() {
-        Pageable topTen = PageRequest.of(0, 10);
-        List<Survey> surveys = surveyRepository.findTop10ByDeadlineImminent(SurveyState.IN_PROCESS, topTen);
-
-        List<SurveyItemResDto> surveyItems = surveys.stream()
-                .map(SurveyItemResDto::from)
-                .toList();
+        // 마감 타이머/배치, 다른 취소 요청과 겹쳐도 상태를 바꾼 한 곳만 환불한다
+        if (surveyRepository.closeIfInProcess(surveyId, SurveyState.CANCELED.name()) != 1)
+            throw new CustomException(ERROR_CLOSE_SURVEY_ALREADY_DONE);
 
-        return SurveyListResDto.from(surveyItems);
+        // 변경 후 다시 읽어 최종 응답 수 기준으로 환불 (행 잠금 이후 응답 자리 예약은 더 늘지 않는다)
+        Survey closed = surveyRepository.findById(surveyId)
+                .orElseThrow(() -> new CustomException(ERROR_GET_SURVEY));
+        pointService.refundSPointsForSurvey(closed.getClient(), closed);
+        eventPublisher.publishEvent(new SurveyChangedEvent(surveyId, SurveyChangeType.CLOSED));
     }
 
-    // 포인트 높은 설문 10개 조회
-    @Transactional
+    // 포인트 높은 설문 10개 조회 (홈 화면 순위 재사용)
     public SurveyListResDto getTop10ByReward() {
-        Pageable topTen = PageRequest.of(0, 10);
-        List<Survey> surveys = surveyRepository.findTop10ByRewardImminent(SurveyState.IN_PROCESS, topTen);
-
-        List<SurveyItemResDto> surveyItems = surveys.stream()
-                .map(SurveyItemResDto::from)
-                .toList();
-
-        return SurveyListResDto.from(surveyItems);
-    }
-
-    // 참여자 높은 설문 10개 조회
-    @Transactional
-    public SurveyListResDto getTop10ByResponseCnt() {
-        Pageable topTen = PageRequest.of(0, 10);
-        List<Survey> surveys = surveyRepository.findTop10ByResponseCntImminent(SurveyState.IN_PROCESS, topTen);
-
-        List<SurveyItemResDto> surveyItems = surveys.stream()
-                .map(SurveyItemResDto::from)
-                .toList();
-
-        return SurveyListResDto.from(surveyItems);
+        return SurveyListResDto.from(surveyLeaderboard.get(SortType.REWARD_HIGH).items());
     }
 
     // 설문 참여 여부 조회
     @Transactional
     public boolean getParticipatedSurvey(Long userId, Long surveyId) {
-        return userSurveyRepository.existsByUser_IdAndSurvey_SurveyId(userId, surveyId);
+        return participationIndex.contains(userId, surveyId);
     }
 }
@@ -1,30 +1,39 @@
 package com.example.backend.survey.service;
 
+import com.example.backend.global.enumType.AgeGroup;
+import com.example.backend.global.enumType.WorkType;
 import com.example.backend.global.exception.CustomException;
 import com.example.backend.survey.dto.projection.DistributionDto;
+import com.example.backend.survey.dto.projection.SubjectiveContentProjection;
 import com.example.backend.survey.dto.request.SubjectiveStatisticsReqDto;
 import com.example.backend.survey.dto.response.ChoiceStatisticsResDto;
 import com.example.backend.survey.dto.response.QuestionStatisticsResDto;
 import com.example.backend.survey.dto.response.StatisticsAnswersResDto;
 import com.example.backend.survey.dto.response.StatisticsParticipantResDto;
+import com.example.backend.survey.dto.response.SubjectiveAnswerResDto;
+import com.example.backend.survey.dto.response.SubjectiveAnswerSliceResDto;
 import com.example.backend.survey.entity.*;
 import com.example.backend.survey.enumType.QuestionType;
 import com.example.backend.survey.event.ParticipantStatisticUpdateEvent;
 import com.example.backend.survey.repository.*;
 import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.enumType.Gender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import static com.example.backend.survey.exception.SurveyErrorType.*;
@@ -37,9 +46,13 @@ public class SurveyStatisticsService {
     private final SurveyRepository surveyRepository;
     private final QuestionRepository questionRepository;
     private final AnswerRepository answerRepository;
-    private final UserSurveyRepository userSurveyRepository;
     private final ParticipantStatisticRepository participantStatisticRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final QuestionStatisticRepository questionStatisticRepository;
+    private final ParticipantStatisticCounter participantStatisticCounter;
+    private final SurveyDefinitionCache surveyDefinitionCache;
+    private final AnswerJdbcRepository answerJdbcRepository;
+    private final QuestionJdbcRepository questionJdbcRepository;
+    private final JdbcTemplate jdbcTemplate;
     private final ApplicationEventPublisher eventPublisher;
 
     // 설문 통계 저장
@@ -52,76 +65,131 @@ public class SurveyStatisticsService {
         participantStatisticRepository.save(participantStatistic);
     }
 
-    // 실시간 통계 업데이트(설문 참여)
+    // 선택지별 집계 행 생성 (객관식 질문의 선택지마다 0으로 시작, JDBC batch)
     @Transactional
-    public void updateParticipantStatistics(Survey survey, UserSurvey userSurvey) {
-        ParticipantStatistic statistic = participantStatisticRepository.findBySurvey_SurveyId(survey.getSurveyId())
-                .orElseThrow(() -> new CustomException(ERROR_GET_STATISTICS_NO_CONTENT));
+    public void createQuestionStatistics(Survey survey, List<Question> questions) {
+        List<Choice> choices = questions.stream()
+                .filter(question -> question.getType() != QuestionType.SUBJECTIVE && question.getChoices() != null)
+                .flatMap(question -> question.getChoices().stream())
+                .toList();
 
-        statistic.setTotalCnt(statistic.getTotalCnt() + 1);
+        questionJdbcRepository.saveStatistics(survey.getSurveyId(), choices);
+    }
 
-        if (userSurvey.getGender() != null) {
-            switch (userSurvey.getGender()) {
-                case MALE -> statistic.setMaleCnt(statistic.getMaleCnt() + 1);
-                case FEMALE -> statistic.setFemaleCnt(statistic.getFemaleCnt() + 1);
-            }
+    // 선택지별 집계 반영 (설문 참여) - 선택 횟수와 함께 응답자의 성별/나이대/직업 칸을 +1
+    @Transactional
+    public void updateQuestionStatistics(Long surveyId, List<Answer> answers, UserSurvey userSurvey) {
+        List<Object[]> batchArgs = answers.stream()
+                .filter(answer -> answer.getQuestionNumber() != null && answer.getAnswerChoice() != null)
+                .flatMap(answer -> answer.getAnswerChoice().stream()
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .map(choiceNumber -> new Object[]{surveyId, answer.getQuestionNumber(), choiceNumber}))
+                // 행 잠금 순서를 고정해서 동시 참여 간 데드락 방지
+                .sorted(Comparator.<Object[]>comparingInt(args -> (Integer) args[1])
+                        .thenComparingInt(args -> (Integer) args[2]))
+                .toList();
+        if (batchArgs.isEmpty()) return;
+
+        // 이 응답자의 분포 칸 (컬럼명은 enum 에서 정해지므로 SQL 에 직접 넣는다, 참여 1건의 batch 는 모두 같은 SQL)
+        List<String> columns = new ArrayList<>(3);
+        if (userSurvey.getGender() != null)
+            columns.add(ParticipantStatisticCounter.SLOT_COLUMNS[ParticipantStatisticCounter.GENDER_OFFSET + userSurvey.getGender().ordinal()]);
+        if (userSurvey.getAgeGroup() != null)
+            columns.add(ParticipantStatisticCounter.SLOT_COLUMNS[ParticipantStatisticCounter.AGE_OFFSET + userSurvey.getAgeGroup().ordinal()]);
+        if (userSurvey.getWorkType() != null)
+            columns.add(ParticipantStatisticCounter.SLOT_COLUMNS[ParticipantStatisticCounter.WORK_OFFSET + userSurvey.getWorkType().ordinal()]);
+        String increments = columns.stream()
+                .map(column -> ", " + column + " = " + column + " + 1")
+                .collect(Collectors.joining());
+
+        // 집계 행은 설문 생성 시 만들어 두므로 보통 UPDATE 만 실행된다 (선택지 수만큼, answers 는 읽지 않는다)
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE question_statistics SET count = count + 1" + increments
+                        + " WHERE survey_id = ? AND question_number = ? AND choice_number = ?",
+                batchArgs);
+
+        // 행이 없을 때만 이 응답자 분포를 넣어 만든다 (동시에 만들어지면 +1, 이전 응답은 surveyStatisticsMigrationJob 이 맞춘다)
+        List<Object[]> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) missing.add(batchArgs.get(i));
         }
+        if (missing.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO question_statistics (survey_id, question_number, choice_number, count"
+                        + columns.stream().map(column -> ", " + column).collect(Collectors.joining())
+                        + ") VALUES (?, ?, ?, 1" + ", 1".repeat(columns.size()) + ")"
+                        + " ON DUPLICATE KEY UPDATE count = count + 1" + increments,
+                missing);
+    }
 
-        if (userSurvey.getAgeGroup() != null) {
-            switch (userSurvey.getAgeGroup()) {
-                case TEEN -> statistic.setTeensCnt(statistic.getTeensCnt() + 1);
-                case TWENTIES -> statistic.setTwentiesCnt(statistic.getTwentiesCnt() + 1);
-                case THIRTIES -> statistic.setThirtiesCnt(statistic.getThirtiesCnt() + 1);
-                case FORTIES -> statistic.setFortiesCnt(statistic.getFortiesCnt() + 1);
-                case FIFTIES -> statistic.setFiftiesCnt(statistic.getFiftiesCnt() + 1);
-                case SIXTY_PLUS -> statistic.setSixtyPlusCnt(statistic.getSixtyPlusCnt() + 1);
-            }
-        }
+    /*
+     * 집계 행 도입 전 설문의 집계 맞추기 (surveyStatisticsMigrationJob, READ COMMITTED chunk 트랜잭션에서 설문마다 실행)
+     * - 참여자 정보 컬럼 추가 전 응답에 user_surveys 의 참여 당시 정보를 채운다. (주관식 조건 검색용)
+     * - 빠진 선택지 행을 0 으로 만든 뒤 설문의 집계 행을 잠그고 선택 횟수와 응답자 분포를 answers 기준 값으로 덮어쓴다.
+     * - 잠금 전에 커밋된 참여는 answers 에 보이고, 잠금 뒤 참여는 잠금이 풀린 뒤 +1 하므로 증가분이 사라지지 않는다.
+     */
+    @Transactional
+    public void migrateLegacyStatistics(Long surveyId) {
+        answerRepository.backfillDemographics(surveyId);
+        questionStatisticRepository.insertMissing(surveyId);
+        questionStatisticRepository.lockBySurveyId(surveyId);
+        questionStatisticRepository.rebuildFromAnswers(surveyId);
+    }
 
-        if (userSurvey.getWorkType() != null) {
-            switch (userSurvey.getWorkType()) {
-                case IT -> statistic.setItCnt(statistic.getItCnt() + 1);
-                case OFFICE -> statistic.setOfficeCnt(statistic.getOfficeCnt() + 1);
-                case MANUFACTURING -> statistic.setManufacturingCnt(statistic.getManufacturingCnt() + 1);
-                case SERVICE -> statistic.setServiceCnt(statistic.getServiceCnt() + 1);
-                case EDUCATION -> statistic.setEducationCnt(statistic.getEducationCnt() + 1);
-                case MEDICAL -> statistic.setMedicalCnt(statistic.getMedicalCnt() + 1);
-                case CREATIVE -> statistic.setCreativeCnt(statistic.getCreativeCnt() + 1);
-                case STUDENT -> statistic.setStudentCnt(statistic.getStudentCnt() + 1);
-                case SELF_EMPLOYED -> statistic.setSelfEmployedCnt(statistic.getSelfEmployedCnt() + 1);
-                case ETC -> statistic.setEtcCnt(statistic.getEtcCnt() + 1);
-            }
-        }
+    // 실시간 통계 업데이트(설문 참여) - 커밋 후 메모리 카운터에 반영, DB 는 ParticipantStatisticFlushScheduler 가 주기적으로 반영
+    public void updateParticipantStatistics(Survey survey, UserSurvey userSurvey) {
+        Long surveyId = survey.getSurveyId();
+        Runnable increment = () -> participantStatisticCounter.increment(
+                surveyId,
+                userSurvey.getGender(),
+                userSurvey.getAgeGroup(),
+                userSurvey.getWorkType()
+        );
 
-        eventPublisher.publishEvent(new ParticipantStatisticUpdateEvent(survey.getSurveyId()));
-    }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increment.run();
+                }
+            });
+        } else {
+            increment.run();
+        }
 
-    // WebSocket 브로드캐스트
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void broadcastParticipantStatistics(ParticipantStatisticUpdateEvent event) {
-        StatisticsParticipantResDto response = getStatisticsParticipants(event.getSurveyId());
-        messagingTemplate.convertAndSend("/topic/survey/" + event.getSurveyId() + "/statistics", response);
+        eventPublisher.publishEvent(new ParticipantStatisticUpdateEvent(surveyId));
     }
 
-    // 실시간 참여자 통계 조회
-    @Transactional
+    // 실시간 참여자 통계 조회 (DB 값 + 아직 flush 되지 않은 증가분)
+    @Transactional(readOnly = true)
     public StatisticsParticipantResDto getStatisticsParticipants(Long surveyId) {
         ParticipantStatistic statistic = participantStatisticRepository.findBySurvey_SurveyId(surveyId)
                 .orElseThrow(() -> new CustomException(ERROR_GET_STATISTICS_NO_CONTENT));
 
-        Integer total = statistic.getTotalCnt();
+        long[] counts = ParticipantStatisticCounter.countsOf(statistic);
+        long[] pending = participantStatisticCounter.pending(surveyId);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += pending[i];
+        }
 
+        return toStatisticsParticipants(counts, statistic.getMaxResponse());
+    }
+
+    // 슬롯 배열 -> 참여자 통계 응답 (실시간 브로드캐스트에서도 사용)
+    public StatisticsParticipantResDto toStatisticsParticipants(long[] counts, Integer maxResponse) {
         return StatisticsParticipantResDto.builder()
-                .responseCnt(total)
-                .maxResponse(statistic.getMaxResponse())
-                .genderDistribution(buildGenderDistribution(statistic))
-                .ageDistribution(buildAgeDistribution(statistic))
-                .workDistribution(buildWorkDistribution(statistic))
+                .responseCnt((int) counts[ParticipantStatisticCounter.TOTAL])
+                .maxResponse(maxResponse)
+                .genderDistribution(buildDistribution(counts, ParticipantStatisticCounter.GENDER_OFFSET, Gender.values()))
+                .ageDistribution(buildDistribution(counts, ParticipantStatisticCounter.AGE_OFFSET, AgeGroup.values()))
+                .workDistribution(buildDistribution(counts, ParticipantStatisticCounter.WORK_OFFSET, WorkType.values()))
                 .build();
     }
 
-    // 질문별 응답 통계 조회
-    @Transactional
+    // 질문별 응답 통계 조회 (객관식은 question_statistics 의 집계값 사용)
+    @Transactional(readOnly = true)
     public StatisticsAnswersResDto getStatisticsAnswer(Long clientId, Long surveyId) {
         Survey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new CustomException(ERROR_GET_STATISTICS_NO_CONTENT));
@@ -131,27 +199,60 @@ public class SurveyStatisticsService {
 
         List<Question> questions = questionRepository.findBySurvey_SurveyIdWithChoices(surveyId);
 
-        List<Answer> answers = answerRepository.findBySurvey_SurveyId(surveyId);
+        // 질문 번호 -> (선택지 번호 -> 선택 횟수)
+        Map<Integer, Map<Integer, Long>> choiceCounts = getChoiceCounts(surveyId, questions);
+
+        // 질문 번호 -> 주관식 응답 목록
+        Map<Integer, List<String>> subjectiveContents = getSubjectiveContents(surveyId, questions);
 
         List<QuestionStatisticsResDto> questionStatistics = questions.stream()
-                .map(question -> createQuestionStatistics(question, answers))
+                .map(question -> createQuestionStatistics(question, choiceCounts, subjectiveContents))
                 .toList();
 
         return StatisticsAnswersResDto.from(questionStatistics);
     }
 
-    // 질문별 통계 생성
-    private QuestionStatisticsResDto createQuestionStatistics(Question question, List<Answer> answers) {
-        // 질문에 대한 답변 필터링
-        List<Answer> questionAnswers = answers.stream()
-                .filter(answer -> answer.getQuestionNumber().equals(question.getNumber()))
+    // 선택지별 집계 조회 (행이 없는 선택지는 0, 집계 행 도입 전 설문은 surveyStatisticsMigrationJob 이 채운다)
+    private Map<Integer, Map<Integer, Long>> getChoiceCounts(Long surveyId, List<Question> questions) {
+        boolean hasSelective = questions.stream().anyMatch(question -> question.getType() != QuestionType.SUBJECTIVE);
+        if (!hasSelective) return Map.of();
+
+        return questionStatisticRepository.findBySurvey_SurveyId(surveyId).stream()
+                .collect(Collectors.groupingBy(
+                        QuestionStatistic::getQuestionNumber,
+                        Collectors.toMap(QuestionStatistic::getChoiceNumber, QuestionStatistic::getCount)
+                ));
+    }
+
+    // 주관식 질문의 응답만 조회
+    private Map<Integer, List<String>> getSubjectiveContents(Long surveyId, List<Question> questions) {
+        List<Integer> subjectiveNumbers = questions.stream()
+                .filter(question -> question.getType() == QuestionType.SUBJECTIVE)
+                .map(Question::getNumber)
                 .toList();
+        if (subjectiveNumbers.isEmpty()) return Map.of();
+
+        return answerRepository.findContentsBySurveyIdAndQuestionNumbers(surveyId, subjectiveNumbers).stream()
+                .filter(answer -> !answer.getContent().isBlank())
+                .collect(Collectors.groupingBy(
+                        SubjectiveContentProjection::getQuestionNumber,
+                        Collectors.mapping(SubjectiveContentProjection::getContent, Collectors.toList())
+                ));
+    }
 
+    // 질문별 통계 생성
+    private QuestionStatisticsResDto createQuestionStatistics(Question question,
+                                                              Map<Integer, Map<Integer, Long>> choiceCounts,
+                                                              Map<Integer, List<String>> subjectiveContents) {
         if (question.getType() == QuestionType.SINGLE_CHOICE || question.getType() == QuestionType.MULTIPLE_CHOICE) {
-            List<ChoiceStatisticsResDto> choiceStatistics = createChoiceStatistics(
-                    question.getChoices(),
-                    questionAnswers
-            );
+            Map<Integer, Long> counts = choiceCounts.getOrDefault(question.getNumber(), Map.of());
+            List<ChoiceStatisticsResDto> choiceStatistics = question.getChoices().stream()
+                    .map(choice -> ChoiceStatisticsResDto.of(
+                            choice.getNumber(),
+                            choice.getContent(),
+                            counts.getOrDefault(choice.getNumber(), 0L)
+                    ))
+                    .toList();
 
             return QuestionStatisticsResDto.ofSelective(
                     question.getNumber(),
@@ -159,194 +260,63 @@ public class SurveyStatisticsService {
                     choiceStatistics
             );
         } else {
-            List<String> subjectiveAnswers = questionAnswers.stream()
-                    .map(Answer::getContent)
-                    .filter(content -> content != null && !content.isBlank())
-                    .toList();
             return QuestionStatisticsResDto.ofSubjective(
                     question.getNumber(),
                     question.getContent(),
-                    subjectiveAnswers
+                    subjectiveContents.getOrDefault(question.getNumber(), List.of())
             );
         }
     }
 
-    // 객관식 선택지 통계 생성
-    private List<ChoiceStatisticsResDto> createChoiceStatistics(List<Choice> choices, List<Answer> answers) {
-        Map<Integer, Long> choiceCountMap = answers.stream()
-                .flatMap(answer -> answer.getAnswerChoice().stream())
-                .collect(Collectors.groupingBy(
-                        number -> number,
-                        Collectors.counting()
-                ));
-        return choices.stream()
-                .map(choice -> {
-                    Integer number = choice.getNumber();
-                    Long count = choiceCountMap.getOrDefault(number, 0L);
-
-                    return ChoiceStatisticsResDto.of(number, choice.getContent(), count);
-                })
-                .toList();
-    }
-
-    // 성별별 분포 빌드
-    private List<DistributionDto> buildGenderDistribution(ParticipantStatistic statistic) {
-        return List.of(
-                DistributionDto.builder()
-                        .label("MALE")
-                        .count(statistic.getMaleCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("FEMALE")
-                        .count(statistic.getFemaleCnt())
-                        .build()
-        );
-    }
-
-    // 나이대별 분포 빌드
-    private List<DistributionDto> buildAgeDistribution(ParticipantStatistic statistic) {
-        return List.of(
-                DistributionDto.builder()
-                        .label("TEEN")
-                        .count(statistic.getTeensCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("TWENTIES")
-                        .count(statistic.getTwentiesCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("THIRTIES")
-                        .count(statistic.getThirtiesCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("FORTIES")
-                        .count(statistic.getFortiesCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("FIFTIES")
-                        .count(statistic.getFiftiesCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("SIXTY_PLUS")
-                        .count(statistic.getSixtyPlusCnt())
-                        .build()
-        );
-    }
-
-    // 직업별 분포 빌드
-    private List<DistributionDto> buildWorkDistribution(ParticipantStatistic statistic) {
-        return List.of(
-                DistributionDto.builder()
-                        .label("IT")
-                        .count(statistic.getItCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("OFFICE")
-                        .count(statistic.getOfficeCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("MANUFACTURING")
-                        .count(statistic.getManufacturingCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("SERVICE")
-                        .count(statistic.getServiceCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("EDUCATION")
-                        .count(statistic.getEducationCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("MEDICAL")
-                        .count(statistic.getMedicalCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("CREATIVE")
-                        .count(statistic.getCreativeCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("STUDENT")
-                        .count(statistic.getStudentCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("SELF_EMPLOYED")
-                        .count(statistic.getSelfEmployedCnt())
-                        .build(),
-                DistributionDto.builder()
-                        .label("ETC")
-                        .count(statistic.getEtcCnt())
-                        .build()
-        );
+    // 분포 빌드 (라벨은 enum 이름)
+    private List<DistributionDto> buildDistribution(long[] counts, int offset, Enum<?>[] buckets) {
+        List<DistributionDto> distribution = new ArrayList<>(buckets.length);
+        for (Enum<?> bucket : buckets) {
+            distribution.add(DistributionDto.builder()
+                    .label(bucket.name())
+                    .count((int) counts[offset + bucket.ordinal()])
+                    .build());
+        }
+        return distribution;
     }
 
-    // 질문별 응답자 분포 조회
-    @Transactional
+    // 질문별 응답자 분포 조회 (question_statistics 의 선택지별 분포 사용)
+    @Transactional(readOnly = true)
     public StatisticsParticipantResDto getStatisticsParticipantsByQuestion(Long clientId, Long surveyId, Integer questionNumber, Integer choiceNumber) {
         Survey survey = surveyRepository.findById(surveyId)
                 .orElseThrow(() -> new CustomException(ERROR_GET_STATISTICS_NO_CONTENT));
 
-        Question question = questionRepository.findBySurvey_SurveyIdAndNumber(surveyId, questionNumber);
-        if (question.getType() == QuestionType.SUBJECTIVE)
+        if (questionType(surveyId, questionNumber) == QuestionType.SUBJECTIVE)
             throw new CustomException(ERROR_GET_STATISTICS_QUESTION_TYPE_MISMATCH);
 
         UserEntity client = survey.getClient();
         if (!clientId.equals(client.getId())) throw new CustomException(ERROR_GET_STATISTICS_NOT_PERMISSION);
 
-        List<UserSurvey> userSurveys = userSurveyRepository.findByQuestionAndChoice(surveyId, questionNumber, choiceNumber);
-        Integer responseCnt = survey.getResponseCnt();
-
-        // 성별별 응답자 분포
-        List<DistributionDto> genderDistribution = userSurveys.stream()
-                .collect(Collectors.groupingBy(
-                        UserSurvey::getGender,
-                        Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> DistributionDto.builder()
-                        .label(entry.getKey().name())
-                        .count(entry.getValue().intValue())
-                        .build())
-                .toList();
+        long[] counts = getChoiceDemographics(surveyId, questionNumber, choiceNumber);
+        // 응답 수는 선택 횟수가 아니라 설문 전체 응답 수
+        counts[ParticipantStatisticCounter.TOTAL] = survey.getResponseCnt();
 
-        // 나이대별 응답자 분포
-        List<DistributionDto> ageGroupDistribution = userSurveys.stream()
-                .collect(Collectors.groupingBy(
-                        UserSurvey::getAgeGroup,
-                        Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> DistributionDto.builder()
-                        .label(entry.getKey().name())
-                        .count(entry.getValue().intValue())
-                        .build())
-                .toList();
+        return toStatisticsParticipants(counts, null);
+    }
 
-        // 직업군별 응답자 분포
-        List<DistributionDto> workTypeDistribution = userSurveys.stream()
-                .collect(Collectors.groupingBy(
-                        UserSurvey::getWorkType,
-                        Collectors.counting()
-                ))
-                .entrySet().stream()
-                .map(entry -> DistributionDto.builder()
-                        .label(entry.getKey().name())
-                        .count(entry.getValue().intValue())
-                        .build())
-                .toList();
+    // 질문 타입 조회 (캐시된 설문 정의 사용, 없는 질문이면 타입 불일치)
+    private QuestionType questionType(Long surveyId, Integer questionNumber) {
+        QuestionType type = surveyDefinitionCache.get(surveyId).questionType(questionNumber);
+        if (type == null) throw new CustomException(ERROR_GET_STATISTICS_QUESTION_TYPE_MISMATCH);
+        return type;
+    }
 
-        return StatisticsParticipantResDto.of(
-                responseCnt,
-                null,
-                genderDistribution,
-                ageGroupDistribution,
-                workTypeDistribution
-        );
+    // 선택지 1개의 응답자 분포 (행이 없으면 0, 분포 컬럼 도입 전 설문은 surveyStatisticsMigrationJob 이 채운다)
+    private long[] getChoiceDemographics(Long surveyId, Integer questionNumber, Integer choiceNumber) {
+        return questionStatisticRepository
+                .findBySurvey_SurveyIdAndQuestionNumberAndChoiceNumber(surveyId, questionNumber, choiceNumber)
+                .map(ParticipantStatisticCounter::countsOf)
+                .orElseGet(() -> new long[ParticipantStatisticCounter.SLOT_COUNT]);
     }
 
     // 유형별 응답 검색
     public Page<String> getAnswersByCondition(Long surveyId, Integer questionNumber, SubjectiveStatisticsReqDto condition, Pageable pageable) {
-        Question question = questionRepository.findBySurvey_SurveyIdAndNumber(surveyId, questionNumber);
-        if (question.getType() != QuestionType.SUBJECTIVE)
+        if (questionType(surveyId, questionNumber) != QuestionType.SUBJECTIVE)
             throw new CustomException(ERROR_GET_STATISTICS_QUESTION_TYPE_MISMATCH);
 
         Integer minAge = condition.ageGroup() != null ? condition.ageGroup().getMinAge() : null;
@@ -356,4 +326,25 @@ public class SurveyStatisticsService {
 
         return answers.map(Answer::getContent);
     }
+
+    // 조건에 따른 주관식 응답 조회 (keyset, cursor 는 직전 페이지의 마지막 answerId)
+    @Transactional(readOnly = true)
+    public SubjectiveAnswerSliceResDto getAnswersByCursor(Long surveyId, Integer questionNumber, SubjectiveStatisticsReqDto condition, Long cursor, int size) {
+        if (questionType(surveyId, questionNumber) != QuestionType.SUBJECTIVE)
+            throw new CustomException(ERROR_GET_STATISTICS_QUESTION_TYPE_MISMATCH);
+
+        size = Math.max(1, Math.min(size, 100));
+
+        List<SubjectiveAnswerResDto> answers = answerJdbcRepository.findContentsAfter(
+                surveyId, questionNumber,
+                condition.gender(), condition.ageGroup(), condition.workType(),
+                cursor, size + 1
+        );
+
+        boolean hasNext = answers.size() > size;
+        if (hasNext) answers = answers.subList(0, size);
+        Long nextCursor = hasNext ? answers.get(answers.size() - 1).answerId() : null;
+
+        return SubjectiveAnswerSliceResDto.of(answers, nextCursor, hasNext);
+    }
 }
@@ -12,7 +12,12 @@ import lombok.*;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                @Index(name = "idx_is_deleted_updated_at", columnList = "is_deleted, updated_at") // 일별 통계 탈퇴 수 범위 조회
+        }
+)
 public class UserEntity extends BaseTimeEntity {
 
     @Id
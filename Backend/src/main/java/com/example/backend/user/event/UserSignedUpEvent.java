@@ -0,0 +1,11 @@
+package com.example.backend.user.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/* 회원 가입 (관리자 실시간 통계용) */
+@Getter
+@AllArgsConstructor
+public class UserSignedUpEvent {
+    private final Long userId;
+}
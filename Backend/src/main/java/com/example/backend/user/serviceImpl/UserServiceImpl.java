@@ -8,6 +8,7 @@ import com.example.backend.global.security.TokenService;
 import com.example.backend.user.dto.request.*;
 import com.example.backend.user.dto.response.*;
 import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.event.UserSignedUpEvent;
 import com.example.backend.user.repository.UserRepository;
 import com.example.backend.user.service.EmailService;
 import com.example.backend.user.service.UserService;
@@ -16,6 +17,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -32,6 +34,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder encoder;
     private final TokenService tokenService;
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -47,6 +50,7 @@ public class UserServiceImpl implements UserService {
         UserEntity entity = userRepository.save(
                 UserEntity.create(request.getUsername(), request.getEmail(), encoder.encode(request.getPassword()), request.getAge(), request.getGender(), request.getWorkType())
         );
+        eventPublisher.publishEvent(new UserSignedUpEvent(entity.getId()));
         return UserCreateResponse.from(entity);
     }
 
@@ -0,0 +1,7 @@
+-- 설문 검색용 FULLTEXT 인덱스 (SurveyRepository.searchByKeyword)
+-- JPA @Index 로는 FULLTEXT / ngram parser 를 지정할 수 없어 스키마 변경으로 따로 적용한다.
+-- ngram parser (기본 token 크기 2) 로 띄어쓰기 없는 한글 제목도 부분 검색된다.
+-- 인덱스가 없으면 애플리케이션은 기존 LIKE 검색으로 동작하므로, 배포 전후 어느 때나 한 번 적용하면 된다.
+-- 큰 테이블에서는 인덱스를 만드는 동안 surveys 쓰기가 막히므로 사용량이 적은 시간에 적용한다.
+ALTER TABLE surveys
+    ADD FULLTEXT INDEX ft_survey_title_description (title, description) WITH PARSER ngram;
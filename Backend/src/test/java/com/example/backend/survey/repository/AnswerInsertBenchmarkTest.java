@@ -0,0 +1,132 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.global.enumType.AgeGroup;
+import com.example.backend.global.enumType.WorkType;
+import com.example.backend.survey.entity.Answer;
+import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.enumType.QuestionType;
+import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.enumType.Gender;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 설문 참여 응답 저장 비교 (질문 10, 60, 150개)
+ * - 응답/선택지마다 INSERT 1번 (IDENTITY + @ElementCollection 으로 saveAll 할 때와 같은 모양) vs AnswerJdbcRepository.saveAll
+ * - 실행 조건, 스키마, 측정 방법은 @MySqlBenchmark / BenchmarkRunner 를 따른다. 지연 시간은 참여 1건 트랜잭션 기준이다.
+ */
+@Slf4j
+@MySqlBenchmark
+class AnswerInsertBenchmarkTest {
+
+    private static final int[] QUESTION_COUNTS = {10, 60, 150};
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+
+    private static final String INSERT_ANSWER_SQL =
+            "INSERT INTO answers (survey_id, participant_id, question_number, type, content, gender, age_group, work_type) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ANSWER_CHOICE_SQL =
+            "INSERT INTO answer_choices (answer_id, answer_choice) VALUES (?, ?)";
+
+    @Autowired
+    private BenchmarkRunner benchmark;
+
+    private final Random random = new Random(42);
+
+    @Test
+    void compareRowByRowAndBatchedAnswerInsert() {
+        AnswerJdbcRepository answerJdbcRepository = new AnswerJdbcRepository(benchmark.jdbcTemplate());
+        UserEntity participant = benchmark.user();
+
+        for (int questionCount : QUESTION_COUNTS) {
+            Long surveyId = benchmark.survey(participant);
+            List<Answer> sample = answers(surveyId, participant, questionCount);
+            int rows = rowCount(sample);
+
+            long rowTrips = benchmark.roundTrips(() -> insertRowByRow(sample));
+            long batchTrips = benchmark.roundTrips(() -> answerJdbcRepository.saveAll(sample));
+
+            double rowMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS,
+                    () -> participate(answers(surveyId, participant, questionCount), this::insertRowByRow));
+            double batchMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS,
+                    () -> participate(answers(surveyId, participant, questionCount), answerJdbcRepository::saveAll));
+
+            log.info("[answer insert] questions={}, rows={}, rowTrips={}, rowP50Ms={}, batchTrips={}, batchP50Ms={}",
+                    questionCount, rows, rowTrips, String.format("%.1f", rowMillis), batchTrips, String.format("%.1f", batchMillis));
+
+            assertThat(rowTrips).isEqualTo(rows);
+            assertThat(batchTrips).isLessThan(rowTrips);
+        }
+    }
+
+    // 참여 1건 (트랜잭션 커밋까지)
+    private void participate(List<Answer> answers, Consumer<List<Answer>> insert) {
+        benchmark.inTransaction(() -> insert.accept(answers));
+    }
+
+    // IDENTITY + @ElementCollection saveAll 과 같은 모양 (응답마다 INSERT 후 ID 를 받아 선택지마다 INSERT)
+    private void insertRowByRow(List<Answer> answers) {
+        for (Answer answer : answers) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            benchmark.jdbcTemplate().update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_ANSWER_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, answer.getSurvey().getSurveyId());
+                ps.setLong(2, answer.getParticipant().getId());
+                ps.setInt(3, answer.getQuestionNumber());
+                ps.setString(4, answer.getType().name());
+                ps.setString(5, answer.getContent());
+                ps.setString(6, answer.getGender().name());
+                ps.setString(7, answer.getAgeGroup().name());
+                ps.setString(8, answer.getWorkType().name());
+                return ps;
+            }, keyHolder);
+            Long answerId = keyHolder.getKey().longValue();
+            for (Integer choice : answer.getAnswerChoice()) {
+                benchmark.jdbcTemplate().update(INSERT_ANSWER_CHOICE_SQL, answerId, choice);
+            }
+        }
+    }
+
+    // 객관식 단일 40%, 복수 (3개) 40%, 주관식 20%
+    private List<Answer> answers(Long surveyId, UserEntity participant, int questionCount) {
+        Survey survey = Survey.builder().surveyId(surveyId).build();
+        List<Answer> answers = new ArrayList<>(questionCount);
+        for (int number = 1; number <= questionCount; number++) {
+            int kind = random.nextInt(10);
+            QuestionType type = kind < 4 ? QuestionType.SINGLE_CHOICE : kind < 8 ? QuestionType.MULTIPLE_CHOICE : QuestionType.SUBJECTIVE;
+            List<Integer> choices = switch (type) {
+                case SINGLE_CHOICE -> new ArrayList<>(List.of(1 + random.nextInt(5)));
+                case MULTIPLE_CHOICE -> new ArrayList<>(List.of(1, 3, 5));
+                case SUBJECTIVE -> new ArrayList<>();
+            };
+            answers.add(Answer.builder()
+                    .survey(survey)
+                    .participant(participant)
+                    .questionNumber(number)
+                    .type(type)
+                    .answerChoice(choices)
+                    .content(type == QuestionType.SUBJECTIVE ? "주관식 응답 " + number : null)
+                    .gender(Gender.FEMALE)
+                    .ageGroup(AgeGroup.values()[random.nextInt(AgeGroup.values().length)])
+                    .workType(WorkType.IT)
+                    .build());
+        }
+        return answers;
+    }
+
+    private static int rowCount(List<Answer> answers) {
+        return answers.size() + answers.stream().mapToInt(answer -> answer.getAnswerChoice().size()).sum();
+    }
+}
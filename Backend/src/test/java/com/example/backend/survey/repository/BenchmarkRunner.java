@@ -0,0 +1,105 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.global.enumType.WorkType;
+import com.example.backend.interest.entity.Interest;
+import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.enumType.SurveyState;
+import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.enumType.Gender;
+import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.UUID;
+
+/*
+ * MySQL 벤치마크 측정/fixture (@MySqlBenchmark 가 등록한다)
+ * - 왕복 수: 트랜잭션 안에서 SHOW SESSION STATUS 'Questions' 증가분 (트랜잭션은 한 커넥션을 쓰고, 측정분은 롤백한다)
+ * - 지연 시간: warm-up 뒤 반복한 트랜잭션 1건 (커밋 포함) 의 중앙값 (medianMillis)
+ * - 저장 대상 행이 FK 를 만족하도록 의뢰인/관심사/설문 행을 JPA 로 만든다.
+ */
+class BenchmarkRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    BenchmarkRunner(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+    }
+
+    JdbcTemplate jdbcTemplate() {
+        return jdbcTemplate;
+    }
+
+    // 트랜잭션 1건 (커밋까지)
+    void inTransaction(Runnable work) {
+        transactionTemplate.executeWithoutResult(status -> work.run());
+    }
+
+    // 트랜잭션 안에서 work 가 보낸 문장 수 (롤백해 남기지 않는다)
+    long roundTrips(Runnable work) {
+        Long trips = transactionTemplate.execute(status -> {
+            long before = statements();
+            work.run();
+            long after = statements();
+            status.setRollbackOnly();
+            return after - before - 1; // after 를 읽은 SHOW 자신
+        });
+        return trips == null ? 0 : trips;
+    }
+
+    // warm-up 뒤 iterations 번 실행한 work 의 중앙값 (ms, 스키마와 무관해 다른 벤치마크도 쓴다)
+    static double medianMillis(int warmup, int iterations, Runnable work) {
+        for (int i = 0; i < warmup; i++) work.run();
+        long[] elapsed = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            work.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[iterations / 2] / 1_000_000.0;
+    }
+
+    UserEntity user() {
+        return transactionTemplate.execute(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            UserEntity user = UserEntity.create("bench-" + suffix, suffix + "@bench.com", "password", 30L, Gender.FEMALE, WorkType.IT);
+            entityManager.persist(user);
+            return user;
+        });
+    }
+
+    // 진행 중 설문 1건 (질문/선택지/집계 행은 벤치마크가 직접 저장한다)
+    Long survey(UserEntity client) {
+        return transactionTemplate.execute(status -> {
+            Interest interest = new Interest();
+            interest.setContent("bench-" + UUID.randomUUID().toString().substring(0, 8));
+            entityManager.persist(interest);
+
+            Survey survey = Survey.builder()
+                    .client(entityManager.getReference(UserEntity.class, client.getId()))
+                    .interest(interest)
+                    .title("벤치마크 설문")
+                    .description("저장 왕복 수/지연 시간 측정")
+                    .maxResponse(1_000_000)
+                    .questionCnt(0)
+                    .reward(0L)
+                    .state(SurveyState.IN_PROCESS)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .build();
+            entityManager.persist(survey);
+            return survey.getSurveyId();
+        });
+    }
+
+    private long statements() {
+        return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Questions'", (rs, rowNum) -> rs.getLong(2));
+    }
+}
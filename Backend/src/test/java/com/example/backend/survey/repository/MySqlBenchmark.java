@@ -0,0 +1,44 @@
+package com.example.backend.survey.repository;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/*
+ * MySQL 저장 벤치마크 공통 설정 (AnswerInsertBenchmarkTest, SurveyCreateBenchmarkTest)
+ * - BENCHMARK_MYSQL_URL (rewriteBatchedStatements=true, 빈 스키마), BENCHMARK_MYSQL_USER, BENCHMARK_MYSQL_PASSWORD 가
+ *   있을 때만 실행된다. (benchmark 태그)
+ * - 테이블은 손으로 쓴 DDL 대신 엔티티에서 만들고 (ddl-auto create-drop) 끝나면 지운다. 인덱스/제약/집계 컬럼이 운영 스키마와 같다.
+ * - 참여/생성마다 트랜잭션을 커밋해 측정하므로 테스트 트랜잭션은 끈다.
+ * - 측정과 fixture 는 BenchmarkRunner 를 주입받아 쓴다.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=${BENCHMARK_MYSQL_URL}",
+        "spring.datasource.username=${BENCHMARK_MYSQL_USER:}",
+        "spring.datasource.password=${BENCHMARK_MYSQL_PASSWORD:}",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(BenchmarkRunner.class)
+@interface MySqlBenchmark {
+}
@@ -0,0 +1,132 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.survey.entity.Choice;
+import com.example.backend.survey.entity.Question;
+import com.example.backend.survey.enumType.QuestionType;
+import com.example.backend.user.entity.UserEntity;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 설문 생성 질문/선택지/선택지 집계 저장 비교 (질문 150개 x 선택지 10개)
+ * - 행마다 INSERT 1번 (IDENTITY cascade 저장 + 집계 행 saveAll 과 같은 모양) vs QuestionJdbcRepository.saveAll + saveStatistics
+ * - 실행 조건, 스키마, 측정 방법은 @MySqlBenchmark / BenchmarkRunner 를 따른다. 지연 시간은 설문 1건 트랜잭션 기준이다.
+ * - 집계 행 유니크 키 때문에 측정마다 새 설문 행을 쓴다. (설문 행은 측정 밖에서 미리 만든다)
+ */
+@Slf4j
+@MySqlBenchmark
+class SurveyCreateBenchmarkTest {
+
+    private static final int QUESTIONS = 150;
+    private static final int CHOICES = 10;
+    private static final int BATCH_SIZE = 500; // survey.create.batch-size 기본값
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 15;
+
+    private static final String INSERT_QUESTION_SQL =
+            "INSERT INTO questions (survey_id, number, content, type) VALUES (?, ?, ?, ?)";
+    private static final String INSERT_CHOICE_SQL =
+            "INSERT INTO choices (question_id, number, content) VALUES (?, ?, ?)";
+    private static final String INSERT_QUESTION_STATISTIC_SQL =
+            "INSERT INTO question_statistics (survey_id, question_number, choice_number, count) VALUES (?, ?, ?, 0)";
+
+    @Autowired
+    private BenchmarkRunner benchmark;
+
+    private QuestionJdbcRepository questionJdbcRepository;
+
+    @Test
+    void compareRowByRowAndBatchedSurveyCreation() {
+        questionJdbcRepository = new QuestionJdbcRepository(benchmark.jdbcTemplate(), BATCH_SIZE);
+        int rows = QUESTIONS + QUESTIONS * CHOICES * 2; // 질문 + 선택지 + 선택지 집계
+
+        UserEntity client = benchmark.user();
+        Long sampleSurveyId = benchmark.survey(client); // 왕복 수 측정은 롤백하므로 한 설문을 같이 쓴다
+        long rowTrips = benchmark.roundTrips(() -> insertRowByRow(sampleSurveyId, questions()));
+        long batchTrips = benchmark.roundTrips(() -> insertBatched(sampleSurveyId, questions()));
+
+        Deque<Long> surveyIds = new ArrayDeque<>();
+        for (int i = 0; i < (WARMUP + ITERATIONS) * 2; i++) surveyIds.add(benchmark.survey(client));
+        double rowMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS, () -> create(surveyIds.poll(), this::insertRowByRow));
+        double batchMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS, () -> create(surveyIds.poll(), this::insertBatched));
+
+        log.info("[survey create] questions={}, choices={}, rows={}, rowTrips={}, rowP50Ms={}, batchTrips={}, batchP50Ms={}",
+                QUESTIONS, CHOICES, rows, rowTrips, String.format("%.1f", rowMillis), batchTrips, String.format("%.1f", batchMillis));
+
+        assertThat(rowTrips).isEqualTo(rows);
+        assertThat(batchTrips).isLessThan(rowTrips);
+    }
+
+    // 설문 1건 (트랜잭션 커밋까지)
+    private void create(Long surveyId, BiConsumer<Long, List<Question>> insert) {
+        List<Question> questions = questions();
+        benchmark.inTransaction(() -> insert.accept(surveyId, questions));
+    }
+
+    // SurveyService.createSurvey 와 같은 순서
+    private void insertBatched(Long surveyId, List<Question> questions) {
+        questionJdbcRepository.saveAll(surveyId, questions);
+        questionJdbcRepository.saveStatistics(surveyId, choicesOf(questions));
+    }
+
+    // IDENTITY cascade 저장과 같은 모양 (질문마다 INSERT 후 ID 를 받아 선택지마다 INSERT, 집계 행도 1건씩)
+    private void insertRowByRow(Long surveyId, List<Question> questions) {
+        for (Question question : questions) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            benchmark.jdbcTemplate().update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(INSERT_QUESTION_SQL, Statement.RETURN_GENERATED_KEYS);
+                ps.setLong(1, surveyId);
+                ps.setInt(2, question.getNumber());
+                ps.setString(3, question.getContent());
+                ps.setString(4, question.getType().name());
+                return ps;
+            }, keyHolder);
+            question.setQuestionId(keyHolder.getKey().longValue());
+            for (Choice choice : question.getChoices()) {
+                benchmark.jdbcTemplate().update(INSERT_CHOICE_SQL, question.getQuestionId(), choice.getNumber(), choice.getContent());
+            }
+        }
+        for (Choice choice : choicesOf(questions)) {
+            benchmark.jdbcTemplate().update(INSERT_QUESTION_STATISTIC_SQL, surveyId, choice.getQuestion().getNumber(), choice.getNumber());
+        }
+    }
+
+    private static List<Question> questions() {
+        List<Question> questions = new ArrayList<>(QUESTIONS);
+        for (int number = 1; number <= QUESTIONS; number++) {
+            Question question = new Question();
+            question.setNumber(number);
+            question.setContent("질문 " + number);
+            question.setType(number % 2 == 0 ? QuestionType.MULTIPLE_CHOICE : QuestionType.SINGLE_CHOICE);
+
+            List<Choice> choices = new ArrayList<>(CHOICES);
+            for (int choiceNumber = 1; choiceNumber <= CHOICES; choiceNumber++) {
+                Choice choice = new Choice();
+                choice.setQuestion(question);
+                choice.setNumber(choiceNumber);
+                choice.setContent("선택지 " + choiceNumber);
+                choices.add(choice);
+            }
+            question.setChoices(choices);
+            questions.add(question);
+        }
+        return questions;
+    }
+
+    private static List<Choice> choicesOf(List<Question> questions) {
+        return questions.stream().flatMap(question -> question.getChoices().stream()).toList();
+    }
+}
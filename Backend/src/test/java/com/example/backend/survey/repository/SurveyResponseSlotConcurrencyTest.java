@@ -0,0 +1,167 @@
+package com.example.backend.survey.repository;
+
+import com.example.backend.global.enumType.WorkType;
+import com.example.backend.interest.entity.Interest;
+import com.example.backend.survey.entity.Survey;
+import com.example.backend.survey.enumType.SurveyState;
+import com.example.backend.user.entity.UserEntity;
+import com.example.backend.user.enumType.Gender;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 응답 자리 예약 동시성 확인 (SurveyRepository.reserveResponseSlot, closeIfFull)
+ * - 가상 스레드 수백 개가 한 설문에 동시에 참여 트랜잭션 (예약 -> 정원 마감) 을 실행한다.
+ * - 커밋된 예약 수가 maxResponse 를 넘지 않고, DONE 전환은 한 번만 커밋되는지 본다.
+ * - test 프로필의 H2 (MODE=MySQL) 를 그대로 쓰고, 스레드마다 트랜잭션을 따로 커밋하도록 테스트 트랜잭션은 끈다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SurveyResponseSlotConcurrencyTest {
+
+    private static final int PARTICIPANTS = 500;
+    private static final int MAX_RESPONSE = 100;
+
+    @Autowired
+    private SurveyRepository surveyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentParticipantsNeverExceedMaxResponse() throws Exception {
+        Long surveyId = createSurvey(MAX_RESPONSE);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        runConcurrently(PARTICIPANTS, index -> participate(surveyId, false, reserved, rejected, closed));
+
+        assertThat(reserved.get()).isEqualTo(MAX_RESPONSE);
+        assertThat(rejected.get()).isEqualTo(PARTICIPANTS - MAX_RESPONSE);
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(responseCnt(surveyId)).isEqualTo(MAX_RESPONSE);
+        assertThat(state(surveyId)).isEqualTo(SurveyState.DONE.name());
+    }
+
+    @Test
+    void rolledBackParticipationReturnsTheSlot() throws Exception {
+        Long surveyId = createSurvey(MAX_RESPONSE);
+        AtomicInteger reserved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger closed = new AtomicInteger();
+
+        // 5명 중 1명은 예약 뒤 실패해 롤백된다 (보상 지급 실패 등)
+        runConcurrently(PARTICIPANTS, index -> participate(surveyId, index % 5 == 0, reserved, rejected, closed));
+
+        assertThat(reserved.get()).isEqualTo(MAX_RESPONSE);
+        assertThat(closed.get()).isEqualTo(1);
+        assertThat(responseCnt(surveyId)).isEqualTo(MAX_RESPONSE);
+        assertThat(state(surveyId)).isEqualTo(SurveyState.DONE.name());
+    }
+
+    // SurveyService.participateSurvey 의 예약 구간과 같은 순서 (커밋된 결과만 센다)
+    private void participate(Long surveyId, boolean failAfterReserve,
+                             AtomicInteger reserved, AtomicInteger rejected, AtomicInteger closed) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        try {
+            Boolean closedHere = transaction.execute(status -> {
+                if (surveyRepository.reserveResponseSlot(surveyId, LocalDateTime.now()) == 0) return null;
+                boolean full = surveyRepository.closeIfFull(surveyId) == 1;
+                if (failAfterReserve) throw new IllegalStateException("participation failed after reservation");
+                return full;
+            });
+            if (closedHere == null) {
+                rejected.incrementAndGet();
+                return;
+            }
+            reserved.incrementAndGet();
+            if (closedHere) closed.incrementAndGet();
+        } catch (IllegalStateException e) {
+            // 롤백된 참여는 예약도 마감도 남기지 않는다
+        }
+    }
+
+    private static void runConcurrently(int threads, IndexedTask task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>(threads);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run(index);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get();
+        }
+    }
+
+    private Long createSurvey(int maxResponse) {
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            UserEntity client = UserEntity.create("client-" + suffix, suffix + "@test.com", "password", 30L, Gender.FEMALE, WorkType.IT);
+            entityManager.persist(client);
+            Interest interest = new Interest();
+            interest.setContent("stress-" + suffix);
+            entityManager.persist(interest);
+
+            Survey survey = Survey.builder()
+                    .client(client)
+                    .interest(interest)
+                    .title("동시 참여 설문")
+                    .description("응답 자리 예약 동시성 확인")
+                    .maxResponse(maxResponse)
+                    .questionCnt(1)
+                    .reward(100L)
+                    .state(SurveyState.IN_PROCESS)
+                    .deadline(LocalDateTime.now().plusDays(1))
+                    .build();
+            return surveyRepository.save(survey).getSurveyId();
+        });
+    }
+
+    private int responseCnt(Long surveyId) {
+        return jdbcTemplate.queryForObject("SELECT response_cnt FROM surveys WHERE survey_id = ?", Integer.class, surveyId);
+    }
+
+    private String state(Long surveyId) {
+        return jdbcTemplate.queryForObject("SELECT state FROM surveys WHERE survey_id = ?", String.class, surveyId);
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.backend.survey.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 설문 검색 LIKE vs FULLTEXT(ngram) 비교 (100k, 1M 행)
+ * - H2 에는 FULLTEXT ngram 이 없어 MySQL 8 이 필요하다. BENCHMARK_MYSQL_URL (rewriteBatchedStatements=true 권장),
+ *   BENCHMARK_MYSQL_USER, BENCHMARK_MYSQL_PASSWORD 가 있을 때만 실행된다.
+ * - 실제 surveys 대신 같은 검색 컬럼을 가진 survey_search_benchmark 테이블을 만들고 끝나면 지운다.
+ * - 검색어마다 SurveyRepository 의 두 조회와 같은 모양 (목록 20건 + 전체 개수) 을 warm-up 뒤 반복해 중앙값을 로그로 남긴다.
+ */
+@Slf4j
+@Tag("benchmark")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_MYSQL_URL", matches = ".+")
+class SurveySearchBenchmarkTest {
+
+    private static final int[] SIZES = {100_000, 1_000_000};
+    private static final int BATCH_SIZE = 5_000;
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 15;
+    private static final String[] KEYWORDS = {"만족도", "카페", "대학생 소비", "운동 습관"};
+    private static final String[] WORDS = {
+            "만족도", "조사", "카페", "이용", "대학생", "소비", "패턴", "운동", "습관", "직장인", "출퇴근", "시간",
+            "온라인", "쇼핑", "배달", "음식", "여행", "계획", "반려동물", "건강", "수면", "독서", "게임", "음악",
+            "영화", "취미", "재테크", "주거", "환경", "설문", "서비스", "개선", "의견", "경험", "선호", "브랜드"
+    };
+
+    private static final String LIKE_LIST_SQL = """
+            SELECT id FROM survey_search_benchmark
+            WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) AND state = 'IN_PROCESS'
+            ORDER BY created_at DESC LIMIT 20
+            """;
+    private static final String LIKE_COUNT_SQL = """
+            SELECT COUNT(*) FROM survey_search_benchmark
+            WHERE LOWER(title) LIKE LOWER(CONCAT('%', ?, '%')) AND state = 'IN_PROCESS'
+            """;
+    private static final String FULLTEXT_LIST_SQL = """
+            SELECT id FROM survey_search_benchmark
+            WHERE MATCH(title, description) AGAINST (? IN BOOLEAN MODE) AND state = 'IN_PROCESS'
+            ORDER BY MATCH(title, description) AGAINST (? IN BOOLEAN MODE) DESC, created_at DESC, id DESC
+            LIMIT 20
+            """;
+    private static final String FULLTEXT_COUNT_SQL = """
+            SELECT COUNT(*) FROM survey_search_benchmark
+            WHERE MATCH(title, description) AGAINST (? IN BOOLEAN MODE) AND state = 'IN_PROCESS'
+            """;
+
+    private JdbcTemplate jdbcTemplate;
+    private final Random random = new Random(42);
+
+    @BeforeAll
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                System.getenv("BENCHMARK_MYSQL_URL"),
+                System.getenv("BENCHMARK_MYSQL_USER"),
+                System.getenv("BENCHMARK_MYSQL_PASSWORD")
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS survey_search_benchmark");
+        jdbcTemplate.execute("""
+                CREATE TABLE survey_search_benchmark (
+                    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                    title VARCHAR(255) NOT NULL,
+                    description TEXT,
+                    state VARCHAR(20) NOT NULL,
+                    created_at DATETIME(6) NOT NULL
+                )
+                """);
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (jdbcTemplate != null) jdbcTemplate.execute("DROP TABLE IF EXISTS survey_search_benchmark");
+    }
+
+    @Test
+    void compareLikeAndFullTextSearch() {
+        int loaded = 0;
+        for (int size : SIZES) {
+            // 인덱스 없이 적재한 뒤 한 번에 만든다 (행마다 ngram 인덱스를 갱신하면 적재가 매우 느리다)
+            dropIndexIfExists();
+            insertRows(size - loaded);
+            loaded = size;
+            long indexStart = System.nanoTime();
+            jdbcTemplate.execute("ALTER TABLE survey_search_benchmark ADD FULLTEXT INDEX ft_bench (title, description) WITH PARSER ngram");
+            long indexMillis = (System.nanoTime() - indexStart) / 1_000_000;
+
+            log.info("[survey search] rows={}, fulltextIndexBuildMs={}", size, indexMillis);
+            for (String keyword : KEYWORDS) {
+                String fullTextKeyword = "\"" + keyword + "\"";
+                double likeMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS, () -> {
+                    jdbcTemplate.queryForList(LIKE_LIST_SQL, Long.class, keyword);
+                    jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, keyword);
+                });
+                double fullTextMillis = BenchmarkRunner.medianMillis(WARMUP, ITERATIONS, () -> {
+                    jdbcTemplate.queryForList(FULLTEXT_LIST_SQL, Long.class, fullTextKeyword, fullTextKeyword);
+                    jdbcTemplate.queryForObject(FULLTEXT_COUNT_SQL, Long.class, fullTextKeyword);
+                });
+                Long likeHits = jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, keyword);
+                Long fullTextHits = jdbcTemplate.queryForObject(FULLTEXT_COUNT_SQL, Long.class, fullTextKeyword);
+                log.info("[survey search] rows={}, keyword={}, likeP50Ms={}, fullTextP50Ms={}, likeHits={}, fullTextHits={}",
+                        size, keyword, String.format("%.1f", likeMillis), String.format("%.1f", fullTextMillis), likeHits, fullTextHits);
+
+                assertThat(fullTextHits).isPositive();
+            }
+        }
+    }
+
+    private void insertRows(int count) {
+        LocalDateTime base = LocalDateTime.now();
+        for (int offset = 0; offset < count; offset += BATCH_SIZE) {
+            int batch = Math.min(BATCH_SIZE, count - offset);
+            List<Object[]> args = new ArrayList<>(batch);
+            for (int i = 0; i < batch; i++) {
+                args.add(new Object[]{
+                        sentence(3 + random.nextInt(4)),
+                        sentence(10 + random.nextInt(20)),
+                        random.nextInt(10) < 8 ? "IN_PROCESS" : "DONE",
+                        Timestamp.valueOf(base.minusMinutes(random.nextInt(525_600)))
+                });
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO survey_search_benchmark (title, description, state, created_at) VALUES (?, ?, ?, ?)", args);
+        }
+    }
+
+    private String sentence(int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sentence.append(' ');
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private void dropIndexIfExists() {
+        Integer exists = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = 'survey_search_benchmark' AND index_name = 'ft_bench'
+                """, Integer.class);
+        if (exists != null && exists > 0) jdbcTemplate.execute("ALTER TABLE survey_search_benchmark DROP INDEX ft_bench");
+    }
+}
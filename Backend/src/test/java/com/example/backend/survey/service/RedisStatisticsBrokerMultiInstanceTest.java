@@ -0,0 +1,228 @@
+package com.example.backend.survey.service;
+
+import com.example.backend.survey.config.StatisticsBrokerConfig;
+import com.example.backend.survey.dto.response.StatisticsFrameResDto;
+import com.example.backend.survey.dto.response.StatisticsParticipantResDto;
+import com.example.backend.survey.event.ParticipantStatisticFlushedEvent;
+import com.example.backend.survey.event.StatisticsFrameMessage;
+import com.example.backend.survey.repository.ParticipantStatisticRepository;
+import com.example.backend.survey.scheduler.ParticipantStatisticBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * 여러 노드가 같은 Redis 를 쓸 때 RedisStatisticsBroker 동작 확인
+ * - 노드마다 브로커 인스턴스를 따로 만들어 lease 선출/인계, flushed 채널 전달, 프레임의 노드 간 STOMP 전달을 본다.
+ * - 노드의 구독은 운영과 같은 StatisticsBrokerConfig 컨테이너로 붙인다.
+ * - Redis 는 Testcontainers 로 띄운다. (Docker 필요)
+ */
+@Testcontainers
+@ActiveProfiles("test")
+@SpringJUnitConfig(classes = RedisAutoConfiguration.class, initializers = ConfigDataApplicationContextInitializer.class)
+class RedisStatisticsBrokerMultiInstanceTest {
+
+    private static final long LEASE_MILLIS = 600;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7.4-alpine")).withExposedPorts(6379);
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", () -> REDIS.getMappedPort(6379));
+    }
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<RedisMessageListenerContainer> containers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.delete(RedisStatisticsBroker.LEASE_KEY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        containers.forEach(RedisMessageListenerContainer::stop);
+        redisTemplate.delete(RedisStatisticsBroker.LEASE_KEY);
+    }
+
+    @Test
+    void onlyOneNodeHoldsTheBroadcasterLease() {
+        List<RedisStatisticsBroker> nodes = List.of(node(event -> {}), node(event -> {}), node(event -> {}));
+
+        nodes.forEach(RedisStatisticsBroker::renewLease);
+        nodes.forEach(RedisStatisticsBroker::renewLease);
+
+        assertThat(nodes).filteredOn(RedisStatisticsBroker::isBroadcaster).hasSize(1);
+    }
+
+    @Test
+    void leaseMovesToAnotherNodeWhenTheBroadcasterStopsRenewing() {
+        RedisStatisticsBroker first = node(event -> {});
+        RedisStatisticsBroker second = node(event -> {});
+
+        first.renewLease();
+        second.renewLease();
+        assertThat(first.isBroadcaster()).isTrue();
+        assertThat(second.isBroadcaster()).isFalse();
+
+        // first 가 멈춰 연장하지 못하면 lease 가 끝난 뒤 second 가 넘겨받는다
+        assertThat(eventually(LEASE_MILLIS * 5, () -> {
+            second.renewLease();
+            return second.isBroadcaster();
+        })).isTrue();
+
+        // first 가 돌아와도 second 의 lease 를 빼앗지 않는다
+        first.renewLease();
+        assertThat(first.isBroadcaster()).isFalse();
+    }
+
+    @Test
+    void stoppedBroadcasterReleasesTheLeaseImmediately() {
+        RedisStatisticsBroker first = node(event -> {});
+        RedisStatisticsBroker second = node(event -> {});
+        first.renewLease();
+        assertThat(first.isBroadcaster()).isTrue();
+
+        first.stop();
+        second.renewLease();
+
+        assertThat(second.isBroadcaster()).isTrue();
+    }
+
+    @Test
+    void flushedNotificationReachesEveryNode() {
+        List<Object> firstReceived = new CopyOnWriteArrayList<>();
+        List<Object> secondReceived = new CopyOnWriteArrayList<>();
+        RedisStatisticsBroker sender = node(event -> {});
+        listen(node(firstReceived::add));
+        listen(node(secondReceived::add));
+
+        // 구독이 붙을 때까지 다시 보낸다
+        assertThat(eventually(5000, () -> {
+            sender.notifyFlushed(List.of(1L, 2L));
+            return !firstReceived.isEmpty() && !secondReceived.isEmpty();
+        })).isTrue();
+
+        assertThat(firstReceived.get(0)).isInstanceOfSatisfying(ParticipantStatisticFlushedEvent.class,
+                flushed -> assertThat(flushed.getSurveyIds()).containsExactly(1L, 2L));
+        assertThat(secondReceived.get(0)).isInstanceOfSatisfying(ParticipantStatisticFlushedEvent.class,
+                flushed -> assertThat(flushed.getSurveyIds()).containsExactly(1L, 2L));
+    }
+
+    @Test
+    void frameFromTheBroadcasterReachesStompSubscribersOnEveryNode() {
+        SimpMessagingTemplate broadcasterSubscribers = mock(SimpMessagingTemplate.class);
+        SimpMessagingTemplate otherSubscribers = mock(SimpMessagingTemplate.class);
+        RedisStatisticsBroker broadcaster = stompNode(broadcasterSubscribers);
+        RedisStatisticsBroker other = stompNode(otherSubscribers);
+        broadcaster.renewLease();
+        other.renewLease();
+        assertThat(broadcaster.isBroadcaster()).isTrue();
+        assertThat(other.isBroadcaster()).isFalse();
+
+        long[] counts = new long[ParticipantStatisticCounter.SLOT_COUNT];
+        counts[ParticipantStatisticCounter.TOTAL] = 3;
+        StatisticsFrameResDto frame = StatisticsFrameResDto.delta(7L, new int[]{ParticipantStatisticCounter.TOTAL}, new long[]{3});
+
+        // 구독이 붙을 때까지 다시 보낸다 (담당 노드만 프레임을 만든다)
+        assertThat(eventually(5000, () -> {
+            broadcaster.publish(new StatisticsFrameMessage(1L, 100, counts, frame));
+            return delivered(otherSubscribers) && delivered(broadcasterSubscribers);
+        })).isTrue();
+
+        for (SimpMessagingTemplate subscribers : List.of(otherSubscribers, broadcasterSubscribers)) {
+            verify(subscribers, atLeastOnce()).convertAndSend(eq("/topic/survey/1/statistics"),
+                    eq(StatisticsParticipantResDto.of(3, 100, List.of(), List.of(), List.of())));
+            verify(subscribers, atLeastOnce()).convertAndSend(eq("/topic/survey/1/statistics/delta"),
+                    (Object) any(StatisticsFrameResDto.class));
+        }
+    }
+
+    // 노드 1대 (lease 스케줄러는 띄우지 않고 테스트에서 직접 연장한다)
+    private RedisStatisticsBroker node(ApplicationEventPublisher eventPublisher) {
+        return new RedisStatisticsBroker(redisTemplate, objectMapper, eventPublisher, LEASE_MILLIS);
+    }
+
+    // 받은 프레임을 ParticipantStatisticBroadcaster.deliver 로 자기 STOMP 구독자 (messagingTemplate) 에게 보내는 노드
+    private RedisStatisticsBroker stompNode(SimpMessagingTemplate messagingTemplate) {
+        SurveyStatisticsService surveyStatisticsService = mock(SurveyStatisticsService.class);
+        when(surveyStatisticsService.toStatisticsParticipants(any(), any())).thenAnswer(invocation -> {
+            long[] counts = invocation.getArgument(0);
+            return StatisticsParticipantResDto.of((int) counts[ParticipantStatisticCounter.TOTAL], invocation.getArgument(1),
+                    List.of(), List.of(), List.of());
+        });
+
+        ParticipantStatisticBroadcaster[] delivery = new ParticipantStatisticBroadcaster[1];
+        RedisStatisticsBroker broker = node(event -> {
+            if (event instanceof StatisticsFrameMessage message) delivery[0].deliver(message);
+        });
+        delivery[0] = new ParticipantStatisticBroadcaster(new ParticipantStatisticCounter(600),
+                mock(ParticipantStatisticRepository.class), surveyStatisticsService, messagingTemplate, broker);
+        listen(broker);
+        return broker;
+    }
+
+    private static boolean delivered(SimpMessagingTemplate messagingTemplate) {
+        return mockingDetails(messagingTemplate).getInvocations().stream()
+                .anyMatch(invocation -> "/topic/survey/1/statistics/delta".equals(invocation.getArgument(0)));
+    }
+
+    private static boolean eventually(long timeoutMillis, BooleanSupplier condition) {
+        long until = System.currentTimeMillis() + timeoutMillis;
+        while (System.currentTimeMillis() < until) {
+            if (condition.getAsBoolean()) return true;
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        return condition.getAsBoolean();
+    }
+
+    // 운영과 같은 구독 (프레임 채널 패턴 + flushed 채널)
+    private void listen(RedisStatisticsBroker broker) {
+        RedisMessageListenerContainer container = new StatisticsBrokerConfig().statisticsMessageListenerContainer(connectionFactory, broker);
+        container.afterPropertiesSet();
+        container.start();
+        containers.add(container);
+    }
+}
@@ -18,9 +18,12 @@ import type {
 import jwtAxios from "../utils/JwtUtil";
 
 // 추천 설문 조회 (로그인했을 때만)
-export const getSurveyByRecommend = async (): Promise<ApiResponse<SurveyHomeResponseDto>> => {
+export const getSurveyByRecommend = async (
+    withParticipated = false
+): Promise<ApiResponse<SurveyHomeResponseDto>> => {
   const res = await jwtAxios.get<ApiResponse<SurveyHomeResponseDto>>(
-      `/surveys/recommend`
+      `/surveys/recommend`,
+      { params: { withParticipated } }
   );
   return res.data;
 };
@@ -29,31 +32,40 @@ export const getSurveyByRecommend = async (): Promise<ApiResponse<SurveyHomeResp
 
 
 // 마감 임박 설문 10개 조회
-export const surveyTop10Deadline = async (): Promise<
+export const surveyTop10Deadline = async (
+    withParticipated = false
+): Promise<
     ApiResponse<SurveyHomeResponseDto>
 > => {
   const res = await jwtAxios.get<ApiResponse<SurveyHomeResponseDto>>(
-      `/surveys/home/deadline`
+      `/surveys/home/deadline`,
+      { params: { withParticipated } }
   );
   return res.data;
 };
 
 // 포인트 높은 순 설문 10개 조회
-export const surveyTop10Point = async (): Promise<
+export const surveyTop10Point = async (
+    withParticipated = false
+): Promise<
     ApiResponse<SurveyHomeResponseDto>
 > => {
   const res = await jwtAxios.get<ApiResponse<SurveyHomeResponseDto>>(
-      `/surveys/home/point`
+      `/surveys/home/point`,
+      { params: { withParticipated } }
   );
   return res.data;
 };
 
 // 참여자 많은 순 설문 10개 조회
-export const surveyTop10ResponseCnt = async (): Promise<
+export const surveyTop10ResponseCnt = async (
+    withParticipated = false
+): Promise<
     ApiResponse<SurveyHomeResponseDto>
 > => {
   const res = await jwtAxios.get<ApiResponse<SurveyHomeResponseDto>>(
-      `/surveys/home/responseCnt`
+      `/surveys/home/responseCnt`,
+      { params: { withParticipated } }
   );
   return res.data;
 };
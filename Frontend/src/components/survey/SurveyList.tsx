@@ -2,7 +2,6 @@
 import { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import type { SurveyItemResDto } from "../../types/SurveyData";
-import { checkParticipation } from "../../api/SurveyApi";
 import {
     FaRegUser,
     FaRegMoneyBillAlt,
@@ -33,35 +32,15 @@ function SurveyList({
         }
     }, [participatedMapFromParent]);
 
-    // 부모에서 안 내려준 경우에만 자체적으로 참여 여부 조회
+    // 부모에서 안 내려준 경우 목록 아이템의 participated 사용 (withParticipated 로 조회한 목록)
     useEffect(() => {
         if (participatedMapFromParent) return;
 
-        const token =
-            sessionStorage.getItem("accessToken") ||
-            localStorage.getItem("authToken");
-        if (!token || surveys.length === 0) return;
-
-        const fetchAll = async () => {
-            try {
-                const results = await Promise.all(
-                    surveys.map((s) =>
-                        checkParticipation(s.surveyId)
-                            .then((res) => ({ id: s.surveyId, value: res.data as boolean }))
-                            .catch(() => ({ id: s.surveyId, value: false }))
-                    )
-                );
-                const map: Record<number, boolean> = {};
-                results.forEach(({ id, value }) => {
-                    map[id] = value;
-                });
-                setParticipatedMap(map);
-            } catch (e) {
-                console.error("목록 참여 여부 조회 실패:", e);
-            }
-        };
-
-        fetchAll();
+        const map: Record<number, boolean> = {};
+        surveys.forEach((s) => {
+            if (s.participated !== undefined) map[s.surveyId] = s.participated;
+        });
+        setParticipatedMap(map);
     }, [surveys, participatedMapFromParent]);
 
     const formatDate = (dateString: string) => dateString.split("T")[0];
@@ -2,9 +2,27 @@
 import { useEffect, useState } from 'react';
 import SockJS from 'sockjs-client';
 import { Client } from '@stomp/stompjs';
-import type {ParticipantStatistics} from '../types/Statistics';
+import type { StompSubscription } from '@stomp/stompjs';
+import type {ParticipantStatistics, StatisticsFrame} from '../types/Statistics';
 import { getParticipantStatistics } from '../api/SurveyStatisticsApi';  // ← 이거 추가!
 
+// delta 프레임 적용 (슬롯 0 = responseCnt, 1 부터 gender -> age -> work 분포 순서)
+const applyDelta = (current: ParticipantStatistics, indices: number[], values: number[]): ParticipantStatistics => {
+    const next: ParticipantStatistics = {
+        ...current,
+        genderDistribution: current.genderDistribution.map((item) => ({ ...item })),
+        ageDistribution: current.ageDistribution.map((item) => ({ ...item })),
+        workDistribution: current.workDistribution.map((item) => ({ ...item })),
+    };
+    const buckets = [...next.genderDistribution, ...next.ageDistribution, ...next.workDistribution];
+
+    indices.forEach((index, i) => {
+        if (index === 0) next.responseCnt = values[i];
+        else if (buckets[index - 1]) buckets[index - 1].count = values[i];
+    });
+    return next;
+};
+
 export const useRealtimeStatistics = (surveyId: number) => {
     const [data, setData] = useState<ParticipantStatistics | null>(null);
     const [connected, setConnected] = useState(false);
@@ -13,13 +31,17 @@ export const useRealtimeStatistics = (surveyId: number) => {
     const API_BASE_URL = import.meta.env.VITE_API_BASE_URL;
 
     useEffect(() => {
+        let seq = -1; // 마지막으로 적용한 프레임 번호 (-1 이면 스냅샷 대기 중)
+        let snapshotSubscription: StompSubscription | null = null;
+
         // 먼저 REST API로 초기 데이터 가져오기
         const fetchInitialData = async () => {
             try {
                 console.log('초기 데이터 요청:', surveyId);
                 const initialData = await getParticipantStatistics(surveyId);
                 console.log('초기 데이터 수신:', initialData);
-                setData(initialData);
+                // 이미 WebSocket 스냅샷을 받았다면 덮어쓰지 않음
+                setData((prev) => prev ?? initialData);
             } catch (err) {
                 console.error('초기 데이터 로드 실패:', err);
             } finally {
@@ -41,15 +63,39 @@ export const useRealtimeStatistics = (surveyId: number) => {
                 console.log('WebSocket 연결 성공');
                 setConnected(true);
 
-                stompClient.subscribe(
-                    `/topic/survey/${surveyId}/statistics`,
-                    (message) => {
-                        const newData = JSON.parse(message.body);
-                        console.log('실시간 통계 수신:', newData);
-                        setData(newData);
+                const applyFrame = (frame: StatisticsFrame) => {
+                    // 스냅샷은 항상 적용 (브로드캐스트 담당 노드가 바뀌면 seq 가 다시 시작될 수 있음)
+                    if (frame.type === 'SNAPSHOT' && frame.snapshot) {
+                        seq = frame.seq;
+                        setData(frame.snapshot);
+                        return;
                     }
-                );
+                    if (seq < 0 || frame.seq <= seq) return;
+                    if (frame.seq !== seq + 1) {
+                        // 프레임 유실 -> 스냅샷 다시 받기
+                        console.warn('실시간 통계 프레임 누락, 재동기화:', seq, frame.seq);
+                        requestSnapshot();
+                        return;
+                    }
+                    seq = frame.seq;
+                    setData((prev) => (prev ? applyDelta(prev, frame.indices ?? [], frame.values ?? []) : prev));
+                };
+
+                // 구독 시 서버가 현재 스냅샷을 1번 보내준다
+                const requestSnapshot = () => {
+                    seq = -1;
+                    snapshotSubscription?.unsubscribe();
+                    snapshotSubscription = stompClient.subscribe(
+                        `/app/survey/${surveyId}/statistics/delta`,
+                        (message) => applyFrame(JSON.parse(message.body))
+                    );
+                };
 
+                stompClient.subscribe(
+                    `/topic/survey/${surveyId}/statistics/delta`,
+                    (message) => applyFrame(JSON.parse(message.body))
+                );
+                requestSnapshot();
             },
         });
 
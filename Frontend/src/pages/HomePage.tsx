@@ -6,7 +6,6 @@ import {
   surveyTop10Point,
   surveyTop10ResponseCnt,
   getSurveyByRecommend,
-  checkParticipation,
 } from "../api/SurveyApi";
 import BannerSection from "../components/hompage/BannerSection";
 import SurveySection from "../components/hompage/SurveySection";
@@ -17,6 +16,10 @@ interface UserInfo {
   username?: string;
 }
 
+// 로그인 토큰 여부 (목록 조회 시 참여 여부를 함께 받을지)
+const hasToken = () =>
+    !!(sessionStorage.getItem("accessToken") || localStorage.getItem("authToken"));
+
 function HomePage() {
   const [deadlineSurveys, setDeadlineSurveys] = useState<SurveyItemResDto[]>([]);
   const [pointSurveys, setPointSurveys] = useState<SurveyItemResDto[]>([]);
@@ -49,7 +52,7 @@ function HomePage() {
   useEffect(() => {
     const fetchDeadline = async () => {
       try {
-        const data = await surveyTop10Deadline();
+        const data = await surveyTop10Deadline(hasToken());
         setDeadlineSurveys(data?.data?.surveyItems ?? []);
       } catch (e) {
         console.error("마감 임박 설문 조회 실패:", e);
@@ -64,7 +67,7 @@ function HomePage() {
   useEffect(() => {
     const fetchPoint = async () => {
       try {
-        const data = await surveyTop10Point();
+        const data = await surveyTop10Point(hasToken());
         setPointSurveys(data?.data?.surveyItems ?? []);
       } catch (e) {
         console.error("포인트 높은 설문 조회 실패:", e);
@@ -77,7 +80,7 @@ function HomePage() {
   useEffect(() => {
     const fetchResponseCnt = async () => {
       try {
-        const data = await surveyTop10ResponseCnt();
+        const data = await surveyTop10ResponseCnt(hasToken());
         setResponseCntSurveys(data?.data?.surveyItems ?? []);
       } catch (e) {
         console.error("참여자 많은 설문 조회 실패:", e);
@@ -92,7 +95,7 @@ function HomePage() {
 
     const fetchRecommend = async () => {
       try {
-        const data = await getSurveyByRecommend();
+        const data = await getSurveyByRecommend(true);
         setRecommendSurveys(data?.data?.surveyItems ?? []);
       } catch (e) {
         console.error("추천 설문 조회 실패:", e);
@@ -101,39 +104,15 @@ function HomePage() {
     fetchRecommend();
   }, [userInfo.isLoggedIn]);
 
-  // 참여 여부 일괄 조회
+  // 참여 여부 (목록 응답에 함께 내려온 participated 로 구성)
   useEffect(() => {
     if (!userInfo.isLoggedIn) return;
 
-    const all: SurveyItemResDto[] = [
-      ...deadlineSurveys,
-      ...pointSurveys,
-      ...responseCntSurveys,
-      ...recommendSurveys,
-    ];
-    const uniqueIds = Array.from(new Set(all.map((s) => s.surveyId)));
-    if (uniqueIds.length === 0) return;
-
-    const fetchParticipationAll = async () => {
-      try {
-        const results = await Promise.all(
-            uniqueIds.map((id) =>
-                checkParticipation(id)
-                    .then((res) => ({ id, value: res.data as boolean }))
-                    .catch(() => ({ id, value: false }))
-            )
-        );
-        const map: Record<number, boolean> = {};
-        results.forEach(({ id, value }) => {
-          map[id] = value;
-        });
-        setParticipatedMap(map);
-      } catch (e) {
-        console.error("참여 여부 일괄 조회 실패:", e);
-      }
-    };
-
-    fetchParticipationAll();
+    const map: Record<number, boolean> = {};
+    [...deadlineSurveys, ...pointSurveys, ...responseCntSurveys, ...recommendSurveys].forEach((s) => {
+      if (s.participated !== undefined) map[s.surveyId] = s.participated;
+    });
+    setParticipatedMap(map);
   }, [
     userInfo.isLoggedIn,
     deadlineSurveys,
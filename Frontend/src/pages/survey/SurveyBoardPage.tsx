@@ -5,7 +5,7 @@ import type {
   SurveyItemResDto,
   SortType,
 } from "../../types/SurveyData";
-import { searchSurveys, checkParticipation } from "../../api/SurveyApi";
+import { searchSurveys } from "../../api/SurveyApi";
 import SurveyList from "../../components/survey/SurveyList";
 import SurveyPagination from "../../components/survey/SurveyPagination";
 import SurveySort from "../../components/survey/SurveySort";
@@ -42,10 +42,14 @@ function SurveyBoardPage() {
   const fetchSurveys = async () => {
     setIsLoading(true);
     try {
+      const token =
+          sessionStorage.getItem("accessToken") ||
+          localStorage.getItem("authToken");
       const response = await searchSurveys({
         sortType: getSortType(selectedSort),
         page: currentPage - 1,
         size: itemsPerPage,
+        withParticipated: !!token,
       });
 
       if (response.data && response.data.content) {
@@ -73,36 +77,13 @@ function SurveyBoardPage() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [selectedSort, currentPage]);
 
-  // 이 페이지에서 보이는 설문들에 대한 참여 여부 조회
+  // 이 페이지에서 보이는 설문들의 참여 여부 (검색 응답에 함께 내려온 participated 사용)
   useEffect(() => {
-    const token =
-        sessionStorage.getItem("accessToken") ||
-        localStorage.getItem("authToken");
-    if (!token || surveys.length === 0) {
-      setParticipatedMap({});
-      return;
-    }
-
-    const fetchParticipation = async () => {
-      try {
-        const results = await Promise.all(
-            surveys.map((s) =>
-                checkParticipation(s.surveyId)
-                    .then((res) => ({ id: s.surveyId, value: res.data as boolean }))
-                    .catch(() => ({ id: s.surveyId, value: false }))
-            )
-        );
-        const map: Record<number, boolean> = {};
-        results.forEach(({ id, value }) => {
-          map[id] = value;
-        });
-        setParticipatedMap(map);
-      } catch (e) {
-        console.error("게시판 참여 여부 조회 실패:", e);
-      }
-    };
-
-    fetchParticipation();
+    const map: Record<number, boolean> = {};
+    surveys.forEach((s) => {
+      if (s.participated !== undefined) map[s.surveyId] = s.participated;
+    });
+    setParticipatedMap(map);
   }, [surveys]);
 
   const handleSortChange = (option: SortOption) => {
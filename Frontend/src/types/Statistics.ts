@@ -18,6 +18,15 @@ export interface ParticipantStatistics {
     workDistribution: DistributionItem[];
 }
 
+// 실시간 통계 delta 스트림 프레임 (/topic/survey/{id}/statistics/delta)
+export interface StatisticsFrame {
+    type: 'SNAPSHOT' | 'DELTA';
+    seq: number;
+    snapshot: ParticipantStatistics | null;
+    indices: number[] | null;  // 슬롯 0 = responseCnt, 1 부터 gender -> age -> work 분포 순서
+    values: number[] | null;
+}
+
 export interface AnswerStatistics {
     questionStatistics: QuestionStatistic[];
 }
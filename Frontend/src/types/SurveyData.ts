@@ -21,6 +21,7 @@ export interface SurveyItemResDto {
   createdAt: string;
   deadline: string;
   state: SurveyState;
+  participated?: boolean; // withParticipated 로 요청한 경우에만 포함
 }
 
 export interface SurveyHomeResponseDto {
@@ -177,6 +178,7 @@ export interface SurveySearchRequest {
   sortType?: SortType;
   page?: number;
   size?: number;
+  withParticipated?: boolean;
 }
 
 export interface SurveyPointProps {